@@ -0,0 +1,69 @@
+package org.example.capstone.recipe.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조리법 재료명 교체 비교 (레시피 하나 = 조리 단계 10개)
+ * - legacyRegex: 기존 정규식 방식 (단계마다 정규식 컴파일 + 여러 번 훑음)
+ * - rewriterPerRecipe: 레시피마다 오토마톤 생성 후 한 번씩 훑음 (현재 대체 재료 흐름)
+ * - rewriterPrebuilt: 오토마톤 재사용 (교체 목록이 고정된 경우)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IngredientRewriterBenchmark {
+
+    private static final String ORIGINAL = "버터";
+    private static final String SUBSTITUTE = "마가린";
+
+    private List<String> instructions;
+    private IngredientRewriter prebuilt;
+
+    @Setup
+    public void setUp() {
+        instructions = List.of(
+                "팬을 중불로 달군 뒤 버터를 한 숟가락 넣고 녹인다.",
+                "양파와 마늘을 잘게 다져 버터에 2분간 볶는다.",
+                "감자는 껍질을 벗기고 한입 크기로 썬다.",
+                "무염버터 10g을 추가하고 감자를 넣어 노릇해질 때까지 볶는다.",
+                "우유 200ml와 생크림을 붓고 약불로 줄인다.",
+                "소금과 후추로 간을 하고 5분간 뭉근히 끓인다.",
+                "버터밀크가 없으면 우유에 레몬즙을 섞어 사용한다.",
+                "불을 끄고 남은 버터를 올려 풍미를 더한다.",
+                "접시에 담고 파슬리 가루를 뿌린다.",
+                "따뜻할 때 빵과 함께 낸다."
+        );
+        prebuilt = IngredientRewriter.of(ORIGINAL, SUBSTITUTE);
+    }
+
+    @Benchmark
+    public List<String> legacyRegex() {
+        List<String> rewritten = new ArrayList<>(instructions.size());
+        for (String instruction : instructions) {
+            rewritten.add(LegacyRegexIngredientReplacer.replace(instruction, ORIGINAL, SUBSTITUTE));
+        }
+        return rewritten;
+    }
+
+    @Benchmark
+    public List<String> rewriterPerRecipe() {
+        return IngredientRewriter.of(ORIGINAL, SUBSTITUTE).rewriteAll(instructions);
+    }
+
+    @Benchmark
+    public List<String> rewriterPrebuilt() {
+        return prebuilt.rewriteAll(instructions);
+    }
+}
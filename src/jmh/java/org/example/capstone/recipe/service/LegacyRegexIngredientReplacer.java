@@ -0,0 +1,71 @@
+package org.example.capstone.recipe.service;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비교용 - IngredientRewriter 도입 전 조리법 텍스트 재료명 교체 로직 (정규식 기반)
+ * 조리 단계마다 정규식을 새로 컴파일하고 텍스트를 여러 번 훑음
+ */
+final class LegacyRegexIngredientReplacer {
+
+    private LegacyRegexIngredientReplacer() {
+    }
+
+    static String replace(String instructionText, String originalIngredient, String substituteIngredient) {
+        if (instructionText == null || instructionText.trim().isEmpty() ||
+                originalIngredient == null || substituteIngredient == null) {
+            return instructionText;
+        }
+
+        String updatedText = instructionText;
+
+        // 1. 정확히 일치하는 경우 (단어 경계 사용)
+        String exactPattern = "(?i)\\b" + Pattern.quote(originalIngredient) + "\\b";
+        updatedText = updatedText.replaceAll(exactPattern, substituteIngredient);
+
+        if (!originalIngredient.equals(substituteIngredient)) {
+            // 2. 부분 일치
+            String partialPattern = "(?i)" + Pattern.quote(originalIngredient);
+            if (updatedText.toLowerCase().contains(originalIngredient.toLowerCase()) &&
+                    !updatedText.toLowerCase().contains(substituteIngredient.toLowerCase())) {
+                updatedText = Pattern.compile(partialPattern, Pattern.CASE_INSENSITIVE)
+                        .matcher(updatedText)
+                        .replaceAll(substituteIngredient);
+            }
+
+            // 공백, 하이픈, 언더스코어가 제거된 변형
+            String[] originalVariants = {
+                    originalIngredient.replace(" ", ""),
+                    originalIngredient.replace("-", ""),
+                    originalIngredient.replace("_", "")
+            };
+            for (String variant : originalVariants) {
+                if (!variant.equals(originalIngredient) &&
+                        updatedText.toLowerCase().contains(variant.toLowerCase())) {
+                    String variantPattern = "(?i)\\b" + Pattern.quote(variant) + "\\b";
+                    updatedText = updatedText.replaceAll(variantPattern, substituteIngredient);
+                }
+            }
+
+            // 3. 복합어 처리
+            if (originalIngredient.length() >= 2) {
+                String compoundPattern = "(?i)([가-힣a-z]+)?" + Pattern.quote(originalIngredient) + "([가-힣a-z]+)?";
+                Matcher matcher = Pattern.compile(compoundPattern, Pattern.CASE_INSENSITIVE).matcher(updatedText);
+                StringBuffer sb = new StringBuffer();
+                while (matcher.find()) {
+                    String prefix = matcher.group(1) != null ? matcher.group(1) : "";
+                    String suffix = matcher.group(2) != null ? matcher.group(2) : "";
+                    if (!prefix.isEmpty() || !suffix.isEmpty()) {
+                        matcher.appendReplacement(sb, prefix + substituteIngredient + suffix);
+                    } else {
+                        matcher.appendReplacement(sb, matcher.group(0));
+                    }
+                }
+                matcher.appendTail(sb);
+                updatedText = sb.toString();
+            }
+        }
+        return updatedText;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.capstone.chat.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ChatAsyncConfig {
+
+    @Value("${chat.dispatch.pool-size:16}")
+    private int dispatchPoolSize;
+
+    @Value("${chat.dispatch.queue-capacity:200}")
+    private int dispatchQueueCapacity;
+
+    /**
+     * 채팅 요청 처리(Flask 호출) 전용 스레드 풀
+     * - STOMP inbound 채널 스레드가 LLM 응답을 기다리며 막히지 않도록 분리
+     * - 작업 하나 = 세션 하나의 대기 메시지 처리 (세션 안에서는 순서대로, 세션끼리는 병렬)
+     * - 큐가 가득 차면 TaskRejectedException 발생 → 사용자에게 혼잡 안내
+     */
+    @Bean
+    public ThreadPoolTaskExecutor chatDispatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dispatchPoolSize);
+        executor.setMaxPoolSize(dispatchPoolSize);
+        executor.setQueueCapacity(dispatchQueueCapacity);
+        executor.setThreadNamePrefix("chat-dispatch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.capstone.chat.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.messaging.tcp.TcpOperations;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * STOMP 메시지 브로커 설정 (chat.broker.mode)
+ * - simple: JVM 내장 브로커 (단일 서버용, 기본값)
+ * - relay: 외부 STOMP 브로커(RabbitMQ 등)로 중계하여 여러 서버가 구독/전송을 공유
+ *   사용자 목적지(/user/...)는 서버 간 사용자 목록 공유와 미해결 메시지 재전송으로 다른 서버의 세션까지 전달
+ * - TcpOperations 빈이 있으면 브로커 연결에 사용 (테스트용 JVM 내 브로커 연결)
+ * - relay 모드에서도 로드 밸런서의 사용자 고정 라우팅(sticky session)이 필요함
+ *   브로커가 공유하는 것은 메시지 전달뿐이고, 다음 상태는 서버별 메모리에 있음
+ *   - 비동기 레시피 생성 작업 (RecipeGenerationJobService) - 다른 서버로 간 상태 조회는 404
+ *   - 채팅 세션 버퍼와 순번 (ChatHistoryService) - 같은 세션을 두 서버가 쓰면 순번이 겹쳐 뒤에 저장된 대화가 버려짐
+ *   - 서버마다 다른 capstone.id.node-id 설정 필수 (TimeOrderedIdNodeCheck)
+ */
+@Configuration
+@Slf4j
+public class ChatBrokerConfig implements WebSocketMessageBrokerConfigurer {
+
+    public static final String MODE_SIMPLE = "simple";
+    public static final String MODE_RELAY = "relay";
+
+    // 다른 서버로 보낼 미해결 사용자 메시지 / 서버별 사용자 목록을 공유하는 브로커 목적지
+    public static final String USER_DESTINATION_BROADCAST = "/topic/unresolved-user-destination";
+    public static final String USER_REGISTRY_BROADCAST = "/topic/simp-user-registry";
+
+    @Value("${chat.broker.mode:simple}")
+    private String mode;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.virtual-host:}")
+    private String virtualHost;
+
+    @Value("${chat.broker.relay.client-login:guest}")
+    private String clientLogin;
+
+    @Value("${chat.broker.relay.client-passcode:guest}")
+    private String clientPasscode;
+
+    @Value("${chat.broker.relay.system-login:guest}")
+    private String systemLogin;
+
+    @Value("${chat.broker.relay.system-passcode:guest}")
+    private String systemPasscode;
+
+    private final ObjectProvider<TcpOperations<byte[]>> brokerTcpClient;
+
+    public ChatBrokerConfig(ObjectProvider<TcpOperations<byte[]>> brokerTcpClient) {
+        this.brokerTcpClient = brokerTcpClient;
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        if (MODE_RELAY.equalsIgnoreCase(mode)) {
+            StompBrokerRelayRegistration relay = registry.enableStompBrokerRelay("/queue", "/topic")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(clientLogin)
+                    .setClientPasscode(clientPasscode)
+                    .setSystemLogin(systemLogin)
+                    .setSystemPasscode(systemPasscode)
+                    .setUserDestinationBroadcast(USER_DESTINATION_BROADCAST)
+                    .setUserRegistryBroadcast(USER_REGISTRY_BROADCAST);
+            if (!virtualHost.isEmpty()) {
+                relay.setVirtualHost(virtualHost);
+            }
+            TcpOperations<byte[]> tcpClient = brokerTcpClient.getIfAvailable();
+            if (tcpClient != null) {
+                relay.setTcpClient(tcpClient);
+            }
+            log.info("STOMP 외부 브로커 중계 사용 - {}:{} (레시피 작업/채팅 세션은 서버별 상태이므로 사용자 고정 라우팅 필요)",
+                    relayHost, relayPort);
+        } else {
+            if (!MODE_SIMPLE.equalsIgnoreCase(mode)) {
+                log.warn("알 수 없는 chat.broker.mode: {} - 내장 브로커 사용", mode);
+            }
+            registry.enableSimpleBroker("/queue", "/topic");
+        }
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.setUserDestinationPrefix("/user");
+    }
+}
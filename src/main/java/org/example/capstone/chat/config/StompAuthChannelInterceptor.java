@@ -0,0 +1,187 @@
+package org.example.capstone.chat.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.example.capstone.global.util.JwtUtil;
+import org.example.capstone.user.domain.User;
+import org.example.capstone.user.login.dto.CustomUserDetails;
+import org.example.capstone.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * STOMP 인증 인터셉터 - 세션별 인증 정보 캐시
+ * - CONNECT: JWT를 한 번만 파싱/검증하고 DB의 사용자(ID 포함)로 인증 객체를 만들어 토큰 만료 시각과 함께 저장
+ * - SEND: 저장된 만료 시각만 비교 (토큰 재검증 없음), 만료되면 ERROR 프레임으로 거부
+ *   다른 토큰이 Authorization 헤더로 오면 (토큰 갱신) 그 토큰으로 다시 인증, 실패하면 세션을 지우고 거부
+ * - DISCONNECT: 캐시에서 제거 (연결이 끊긴 경우에도 DISCONNECT가 전달됨)
+ */
+@Component
+@Slf4j
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final UserRepository userRepository;
+    private final LongSupplier clock;
+    private final Map<String, SessionAuth> sessions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public StompAuthChannelInterceptor(JwtUtil jwtUtil, UserRepository userRepository) {
+        this(jwtUtil, userRepository, System::currentTimeMillis);
+    }
+
+    StompAuthChannelInterceptor(JwtUtil jwtUtil, UserRepository userRepository, LongSupplier clock) {
+        this.jwtUtil = jwtUtil;
+        this.userRepository = userRepository;
+        this.clock = clock;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        String sessionId = accessor.getSessionId();
+        log.debug("WebSocket 메시지 수신: 명령={}, 세션ID={}", accessor.getCommand(), sessionId);
+
+        switch (accessor.getCommand()) {
+            case CONNECT, STOMP -> {
+                String token = bearerToken(accessor);
+                if (token == null) {
+                    log.warn("Authorization 헤더가 없거나 형식이 잘못되었습니다 - 세션ID: {}", sessionId);
+                } else {
+                    authenticate(accessor, sessionId, token);
+                }
+            }
+            case SEND -> checkSession(accessor, sessionId);
+            case DISCONNECT -> {
+                if (sessionId != null && sessions.remove(sessionId) != null) {
+                    log.debug("WebSocket 인증 정보 제거 - 세션ID: {}", sessionId);
+                }
+            }
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    /**
+     * 인증된 세션 수 (모니터링/테스트용)
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    private void checkSession(StompHeaderAccessor accessor, String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        SessionAuth cached = sessions.get(sessionId);
+
+        // 메시지에 새 토큰이 실려 오면 (토큰 갱신) 그 토큰으로 다시 인증
+        // 실패하면 CONNECT 때의 인증으로 계속 보내지 못하도록 세션을 지우고 거부
+        String token = bearerToken(accessor);
+        if (token != null && (cached == null || !token.equals(cached.token()))) {
+            cached = authenticate(accessor, sessionId, token);
+            if (cached == null) {
+                sessions.remove(sessionId);
+                log.info("WebSocket 재인증 실패 - 세션ID: {}", sessionId);
+                throw new MessageDeliveryException("인증에 실패했습니다. 다시 연결해주세요.");
+            }
+        }
+        if (cached == null) {
+            // /ws 핸드셰이크는 인증 없이 열리므로, 여기서 붙어 있는 사용자는 만료/제거 전에 Spring이 저장해 둔 CONNECT 인증
+            if (accessor.getUser() != null) {
+                log.info("WebSocket 인증 정보 없음 - 사용자: {}, 세션ID: {}", accessor.getUser().getName(), sessionId);
+                throw new MessageDeliveryException("인증이 만료되었습니다. 다시 연결해주세요.");
+            }
+            return; // 인증되지 않은 세션 - 컨트롤러에서 무시
+        }
+
+        if (cached.expiresAt() <= clock.getAsLong()) {
+            sessions.remove(sessionId, cached);
+            log.info("WebSocket 인증 만료 - 사용자: {}, 세션ID: {}", cached.auth().getName(), sessionId);
+            throw new MessageDeliveryException("인증이 만료되었습니다. 다시 연결해주세요.");
+        }
+        accessor.setUser(cached.auth());
+    }
+
+    /**
+     * 토큰을 한 번 파싱하여 사용자를 찾고 세션에 저장 (실패하면 null)
+     */
+    private SessionAuth authenticate(StompHeaderAccessor accessor, String sessionId, String token) {
+        Claims claims;
+        try {
+            claims = jwtUtil.getClaims(token);
+        } catch (ExpiredJwtException e) {
+            log.warn("WebSocket 인증 실패 - 만료된 토큰: {}", e.getMessage());
+            return null;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("WebSocket 인증 실패 - 유효하지 않은 토큰: {}", e.getMessage());
+            return null;
+        }
+
+        String username = claims.get("username", String.class);
+        String email = claims.get("userEmail", String.class);
+        User user = findUser(username, email);
+        if (user == null) {
+            log.warn("WebSocket 인증 실패 - 토큰은 유효하지만 DB에서 사용자를 찾을 수 없음: {}, {}", username, email);
+            return null;
+        }
+
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        UsernamePasswordAuthenticationToken auth =
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+
+        SessionAuth sessionAuth = new SessionAuth(token, auth, expiresAt);
+        if (sessionId != null) {
+            sessions.put(sessionId, sessionAuth);
+        }
+        accessor.setUser(auth);
+        log.debug("WebSocket 인증 성공: 사용자={}, ID={}, 세션ID={}", user.getUsername(), user.getId(), sessionId);
+        return sessionAuth;
+    }
+
+    /**
+     * JwtFilter와 같은 순서로 사용자 조회 (이메일 → 사용자명)
+     */
+    private User findUser(String username, String email) {
+        User user = null;
+        if (email != null && !email.isEmpty()) {
+            user = userRepository.findByEmail(email);
+        }
+        if (user == null && username != null && !username.isEmpty()) {
+            user = userRepository.findByUsername(username);
+        }
+        return user;
+    }
+
+    private static String bearerToken(StompHeaderAccessor accessor) {
+        String authHeader = accessor.getFirstNativeHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        return authHeader.substring(BEARER_PREFIX.length());
+    }
+
+    private record SessionAuth(String token, UsernamePasswordAuthenticationToken auth, long expiresAt) {
+    }
+}
@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.capstone.chat.dto.ChatRequest;
 import org.example.capstone.chat.dto.ChatResponse;
+import org.example.capstone.chat.dto.ChatStreamFrame;
+import org.example.capstone.chat.service.ChatDispatcher;
 import org.example.capstone.chat.service.FlaskChatService;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -15,14 +17,24 @@ import org.springframework.stereotype.Controller;
 import java.io.IOException;
 import java.security.Principal;
 import java.util.UUID;
-
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 메시지 수신
+ * - inbound 채널 스레드에서는 인증/세션 ID 확인만 하고, Flask 호출은 ChatDispatcher 스레드 풀에서 처리
+ *   (느린 LLM 응답이 다른 클라이언트의 CONNECT/SUBSCRIBE/SEND 처리를 막지 않도록)
+ * - 같은 WebSocket 세션의 메시지는 도착 순서대로 처리
+ */
 @Controller
 @RequiredArgsConstructor
 @Slf4j
 public class ChatController {
 
+    private static final String BUSY_MESSAGE = "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.";
+
     private final SimpMessagingTemplate messagingTemplate;
     private final FlaskChatService flaskChatService;
+    private final ChatDispatcher chatDispatcher;
 
     @MessageMapping("/chat.sendMessage")
     public void sendMessage(@Payload ChatRequest chatRequest, SimpMessageHeaderAccessor headerAccessor) {
@@ -40,28 +52,66 @@ public class ChatController {
             return;
         }
 
-        try {
-            // 사용자 이름 설정
-            String username = user.getName();
-            log.debug("메시지 처리 - 사용자: {}, 메시지: {}", username, chatRequest.getMessage());
-            chatRequest.setUsername(username);
-
-            // 세션 ID 확인 및 처리
-            if (chatRequest.getSessionId() == null || chatRequest.getSessionId().isEmpty()) {
-                // 세션 ID가 없으면 생성
-                chatRequest.setSessionId(UUID.randomUUID().toString());
-                log.debug("새 세션 ID 생성: {}", chatRequest.getSessionId());
-            } else {
-                log.debug("기존 세션 ID 사용: {}", chatRequest.getSessionId());
-            }
+        String username = prepare(chatRequest, user);
+        chatDispatcher.dispatch(dispatchKey(headerAccessor, username),
+                () -> reply(chatRequest, username),
+                () -> sendError(username, BUSY_MESSAGE));
+    }
+
+    /**
+     * 스트리밍 채팅 - 응답 조각마다 /user/queue/stream으로 프레임 전송
+     * 조각 프레임(seq 0, 1, 2 ...) 뒤에 done 프레임 하나로 끝남
+     */
+    @MessageMapping("/chat.streamMessage")
+    public void streamMessage(@Payload ChatRequest chatRequest, SimpMessageHeaderAccessor headerAccessor) {
+        Principal user = headerAccessor.getUser();
+        if (user == null) {
+            log.warn("인증되지 않은 사용자의 스트리밍 메시지 요청");
+            return;
+        }
+
+        String username = prepare(chatRequest, user);
+        chatDispatcher.dispatch(dispatchKey(headerAccessor, username),
+                () -> stream(chatRequest, username),
+                () -> sendStreamFrame(username, ChatStreamFrame.builder()
+                        .sessionId(chatRequest.getSessionId())
+                        .done(true)
+                        .error(BUSY_MESSAGE)
+                        .build()));
+    }
+
+    /**
+     * 사용자 이름/세션 ID 설정 (세션 ID가 없으면 생성)
+     */
+    private String prepare(ChatRequest chatRequest, Principal user) {
+        String username = user.getName();
+        log.debug("메시지 처리 - 사용자: {}, 메시지: {}", username, chatRequest.getMessage());
+        chatRequest.setUsername(username);
+
+        if (chatRequest.getSessionId() == null || chatRequest.getSessionId().isEmpty()) {
+            chatRequest.setSessionId(UUID.randomUUID().toString());
+            log.debug("새 세션 ID 생성: {}", chatRequest.getSessionId());
+        } else {
+            log.debug("기존 세션 ID 사용: {}", chatRequest.getSessionId());
+        }
+        return username;
+    }
+
+    /**
+     * 순서 보장 단위 - WebSocket 세션 (없으면 사용자)
+     */
+    private static String dispatchKey(SimpMessageHeaderAccessor headerAccessor, String username) {
+        return headerAccessor.getSessionId() != null ? headerAccessor.getSessionId() : username;
+    }
 
+    private void reply(ChatRequest chatRequest, String username) {
+        try {
             // Flask 서버에 요청 전송 (순수 채팅 메시지만)
             ChatResponse response = flaskChatService.sendRequestToFlask(chatRequest);
             log.debug("Flask 채팅 응답 수신: {}", response.getMessage());
 
             // 응답에 세션 ID 설정
             response.setSessionId(chatRequest.getSessionId());
-            log.debug("응답에 세션 ID 설정: {}", response.getSessionId());
 
             // 응답을 사용자에게 전송
             messagingTemplate.convertAndSendToUser(
@@ -76,15 +126,55 @@ public class ChatController {
             log.error("Flask 서버와 통신 중 오류 발생: {}", e.getMessage(), e);
 
             // 오류 메시지 전송
-            ChatResponse errorResponse = new ChatResponse();
-            errorResponse.setUsername("시스템");
-            errorResponse.setMessage("서버 오류가 발생했습니다: " + e.getMessage());
+            sendError(username, "서버 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
 
-            messagingTemplate.convertAndSendToUser(
-                    user.getName(),
-                    "/queue/messages",
-                    errorResponse
-            );
+    private void stream(ChatRequest chatRequest, String username) {
+        String sessionId = chatRequest.getSessionId();
+        AtomicLong seq = new AtomicLong();
+        try {
+            String reply = flaskChatService.streamRequestToFlask(chatRequest, delta ->
+                    sendStreamFrame(username, ChatStreamFrame.builder()
+                            .sessionId(sessionId)
+                            .seq(seq.getAndIncrement())
+                            .delta(delta)
+                            .build()));
+
+            sendStreamFrame(username, ChatStreamFrame.builder()
+                    .sessionId(sessionId)
+                    .seq(seq.getAndIncrement())
+                    .done(true)
+                    .message(reply)
+                    .build());
+            log.debug("스트리밍 응답 전송 완료: {}, 조각 {}개", username, seq.get() - 1);
+
+        } catch (IOException e) {
+            log.error("Flask 스트리밍 중 오류 발생: {}", e.getMessage(), e);
+
+            // 이미 보낸 조각이 있어도 done 프레임으로 끝났음을 알림
+            sendStreamFrame(username, ChatStreamFrame.builder()
+                    .sessionId(sessionId)
+                    .seq(seq.getAndIncrement())
+                    .done(true)
+                    .error("서버 오류가 발생했습니다: " + e.getMessage())
+                    .build());
         }
     }
-}
\ No newline at end of file
+
+    private void sendStreamFrame(String username, ChatStreamFrame frame) {
+        messagingTemplate.convertAndSendToUser(username, "/queue/stream", frame);
+    }
+
+    private void sendError(String username, String message) {
+        ChatResponse errorResponse = new ChatResponse();
+        errorResponse.setUsername("시스템");
+        errorResponse.setMessage(message);
+
+        messagingTemplate.convertAndSendToUser(
+                username,
+                "/queue/messages",
+                errorResponse
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.capstone.chat.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.capstone.chat.dto.ChatHistoryResponse;
+import org.example.capstone.chat.service.ChatHistoryService;
+import org.example.capstone.global.exception.CustomException;
+import org.example.capstone.global.exception.ErrorCode;
+import org.example.capstone.user.login.dto.CustomUserDetails;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class ChatHistoryController {
+
+    private final ChatHistoryService chatHistoryService;
+
+    // 한 번에 조회할 수 있는 최대 대화 수
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 채팅 기록 조회 API (최근 대화부터 페이지 단위)
+     * before를 생략하면 가장 최근 페이지, 다음 페이지는 응답의 nextBefore로 요청
+     */
+    @GetMapping("/api/chat/sessions/{sessionId}/messages")
+    public ResponseEntity<ChatHistoryResponse> getHistory(
+            @PathVariable String sessionId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        if (userDetails == null) {
+            throw new CustomException(ErrorCode.INVALID_USER);
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        log.info("채팅 기록 요청 - 세션 ID: {}, before: {}, size: {}, 사용자: {}",
+                sessionId, before, size, userDetails.getUsername());
+
+        return ResponseEntity.ok(chatHistoryService.getHistory(sessionId, userDetails.getUsername(), before, size));
+    }
+}
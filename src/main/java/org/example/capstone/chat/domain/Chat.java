@@ -1,6 +1,49 @@
 package org.example.capstone.chat.domain;
 
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.capstone.global.jpa.TimeOrderedId;
 
+import java.time.LocalDateTime;
 
+/**
+ * 채팅 대화 한 턴 (추가만 하고 수정하지 않음)
+ * 세션 안에서 seq가 0부터 1씩 증가
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "chat", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_chat_session_seq", columnNames = {"session_id", "seq"})
+})
 public class Chat {
+
+    public static final String ROLE_USER = "user";
+    public static final String ROLE_ASSISTANT = "assistant";
+
+    // 배치 INSERT를 위해 애플리케이션에서 ID 생성
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Column(name = "session_id", nullable = false, length = 64)
+    private String sessionId;
+
+    @Column(nullable = false)
+    private long seq;               //세션 내 순번
+
+    private String username;        //세션 소유자
+
+    @Column(length = 16)
+    private String role;            //user, assistant
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    private LocalDateTime createdAt;
 }
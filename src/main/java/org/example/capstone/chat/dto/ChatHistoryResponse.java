@@ -0,0 +1,23 @@
+package org.example.capstone.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 채팅 기록 페이지 (오래된 순)
+ * 다음(더 오래된) 페이지는 before=nextBefore로 요청
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatHistoryResponse {
+    private String sessionId;
+    private List<ChatMessageDTO> messages;
+    private boolean hasMore;        //더 오래된 대화가 있는지
+    private Long nextBefore;        //다음 페이지 요청 시 before 값 (없으면 null)
+}
@@ -0,0 +1,19 @@
+package org.example.capstone.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageDTO {
+    private long seq;               //세션 내 순번
+    private String role;            //user, assistant
+    private String content;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,24 @@
+package org.example.capstone.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스트리밍 채팅 응답 조각 (/user/queue/stream)
+ * - 조각마다 seq가 0부터 1씩 증가, 클라이언트는 seq 순서대로 delta를 이어 붙임
+ * - 마지막 프레임은 done=true, message에 전체 응답 (오류로 끝나면 error에 사유)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatStreamFrame {
+    private String sessionId;
+    private long seq;
+    private String delta;       //이번 조각
+    private boolean done;       //마지막 프레임 여부
+    private String message;     //전체 응답 (done 프레임에만)
+    private String error;       //오류 사유 (오류로 끝난 경우)
+}
@@ -0,0 +1,31 @@
+package org.example.capstone.chat.repository;
+
+import org.example.capstone.chat.domain.Chat;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ChatRepository extends JpaRepository<Chat, Long> {
+
+    /**
+     * 세션의 최근 대화 (seq 내림차순)
+     * @param sessionId 채팅 세션 ID
+     * @param pageable 가져올 개수
+     * @return 최근 대화 목록
+     */
+    @Query("SELECT c FROM Chat c WHERE c.sessionId = :sessionId ORDER BY c.seq DESC")
+    List<Chat> findRecent(@Param("sessionId") String sessionId, Pageable pageable);
+
+    /**
+     * 지정한 순번 이전의 대화 (seq 내림차순, 페이지 조회용)
+     * @param sessionId 채팅 세션 ID
+     * @param before 이 순번 미만만 조회
+     * @param pageable 가져올 개수
+     * @return 대화 목록
+     */
+    @Query("SELECT c FROM Chat c WHERE c.sessionId = :sessionId AND c.seq < :before ORDER BY c.seq DESC")
+    List<Chat> findBefore(@Param("sessionId") String sessionId, @Param("before") long before, Pageable pageable);
+}
@@ -0,0 +1,160 @@
+package org.example.capstone.chat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅 요청 분배기
+ * - 같은 WebSocket 세션의 메시지는 도착 순서대로 하나씩 처리, 다른 세션끼리는 병렬 처리
+ * - 세션별 대기열이 비어 있지 않은 동안 그 세션의 처리 작업 하나만 스레드 풀에 올라감
+ * - 전체 대기 메시지 수가 한도를 넘거나 스레드 풀 큐가 가득 차면 거절 (onRejected 호출)
+ */
+@Component
+@Slf4j
+public class ChatDispatcher {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final int maxPending;
+
+    // 세션 ID → 대기 메시지 (항목이 있으면 해당 세션의 처리 작업이 실행 중이거나 대기 중)
+    private final Map<String, Deque<DispatchTask>> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Timer waitTimer;
+    private final Timer handleTimer;
+    private final Counter rejectedCounter;
+
+    public ChatDispatcher(@Qualifier("chatDispatchExecutor") ThreadPoolTaskExecutor executor,
+                          MeterRegistry meterRegistry,
+                          @Value("${chat.dispatch.max-pending:500}") int maxPending) {
+        this.executor = executor;
+        this.maxPending = maxPending;
+        this.waitTimer = Timer.builder("chat.dispatch.wait")
+                .description("채팅 메시지가 도착부터 처리 시작까지 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.handleTimer = Timer.builder("chat.dispatch.handle")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("chat.dispatch.rejected")
+                .register(meterRegistry);
+        Gauge.builder("chat.dispatch.queue.depth", pending, AtomicInteger::get)
+                .description("처리를 기다리는 채팅 메시지 수 (처리 중 포함)")
+                .register(meterRegistry);
+        Gauge.builder("chat.dispatch.sessions", sessions, Map::size)
+                .description("처리할 메시지가 있는 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세션의 대기열에 메시지 처리 등록
+     *
+     * @param sessionId  WebSocket 세션 ID (순서 보장 단위)
+     * @param task       메시지 처리
+     * @param onRejected 혼잡으로 처리하지 못할 때 호출 (사용자 안내용)
+     */
+    public void dispatch(String sessionId, Runnable task, Runnable onRejected) {
+        DispatchTask dispatchTask = new DispatchTask(task, onRejected, System.nanoTime());
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            reject(List.of(dispatchTask));
+            return;
+        }
+
+        boolean[] first = new boolean[1];
+        sessions.compute(sessionId, (id, queue) -> {
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                first[0] = true;
+            }
+            queue.add(dispatchTask);
+            return queue;
+        });
+        if (!first[0]) {
+            // 이미 처리 중인 세션 - 앞 메시지가 끝나면 이어서 처리
+            return;
+        }
+
+        try {
+            executor.execute(() -> drain(sessionId));
+        } catch (TaskRejectedException e) {
+            // 이 세션 대기열 전체를 거절 (그 사이 추가된 메시지 포함)
+            Deque<DispatchTask> dropped = sessions.remove(sessionId);
+            if (dropped != null) {
+                pending.addAndGet(-dropped.size());
+                reject(new ArrayList<>(dropped));
+            }
+        }
+    }
+
+    /**
+     * 세션의 대기 메시지를 순서대로 처리, 비면 세션 항목 제거
+     */
+    private void drain(String sessionId) {
+        while (true) {
+            DispatchTask[] next = new DispatchTask[1];
+            sessions.computeIfPresent(sessionId, (id, queue) -> {
+                next[0] = queue.poll();
+                return next[0] == null ? null : queue;
+            });
+            if (next[0] == null) {
+                return;
+            }
+
+            DispatchTask task = next[0];
+            long startedAt = System.nanoTime();
+            waitTimer.record(startedAt - task.enqueuedAt, TimeUnit.NANOSECONDS);
+            try {
+                task.task.run();
+            } catch (Exception e) {
+                log.error("채팅 메시지 처리 중 오류 - 세션 ID: {}, {}", sessionId, e.getMessage(), e);
+            } finally {
+                pending.decrementAndGet();
+                handleTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void reject(List<DispatchTask> tasks) {
+        for (DispatchTask task : tasks) {
+            rejectedCounter.increment();
+            try {
+                task.onRejected.run();
+            } catch (Exception e) {
+                log.warn("채팅 거절 안내 실패: {}", e.getMessage());
+            }
+        }
+        log.warn("채팅 요청 혼잡으로 거절 - {}건, 대기 중: {}", tasks.size(), pending.get());
+    }
+
+    /**
+     * 대기 중인 메시지 처리
+     */
+    private static class DispatchTask {
+        private final Runnable task;
+        private final Runnable onRejected;
+        private final long enqueuedAt;
+
+        private DispatchTask(Runnable task, Runnable onRejected, long enqueuedAt) {
+            this.task = task;
+            this.onRejected = onRejected;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package org.example.capstone.chat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.capstone.chat.domain.Chat;
+import org.example.capstone.chat.dto.ChatHistoryResponse;
+import org.example.capstone.chat.dto.ChatMessageDTO;
+import org.example.capstone.chat.repository.ChatRepository;
+import org.example.capstone.global.exception.CustomException;
+import org.example.capstone.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 채팅 기록
+ * - 세션별 최근 대화(기본 50턴)를 메모리 링 버퍼에 보관, 일정 시간(기본 30분) 활동이 없으면 제거
+ * - 새 대화는 버퍼에 추가하고 ChatHistoryWriter로 지연 저장
+ * - Flask에는 토큰 예산 안의 최근 대화와, 예산 밖의 오래된 대화를 줄인 요약을 함께 전송
+ * - 기록 조회는 버퍼에서 먼저 찾고 부족한 부분만 DB 조회
+ * - 아직 저장되지 않은 대화가 있는 세션은 제거하지 않음 (DB에서 다시 불러오면 순번이 겹치므로)
+ * - 순번은 서버별 버퍼에서 부여하므로 여러 서버 운영 시 한 세션은 한 서버에서만 처리되도록 사용자 고정 라우팅 필요
+ */
+@Service
+@Slf4j
+public class ChatHistoryService {
+
+    // 요약에 넣을 때 턴 하나의 최대 글자 수
+    private static final int SUMMARY_TURN_CHARS = 60;
+    // 세션 ID 허용 형식 (chat.session_id 컬럼 길이 64)
+    private static final Pattern SESSION_ID_PATTERN = Pattern.compile("[A-Za-z0-9._:-]{1,64}");
+
+    private final ChatRepository chatRepository;
+    private final ChatHistoryWriter chatHistoryWriter;
+    private final int bufferSize;
+    private final long idleNanos;
+    private final int maxSessions;
+    private final int contextMaxTokens;
+    private final int summaryMaxTokens;
+
+    private final Map<String, SessionHistory> sessions = new ConcurrentHashMap<>();
+    private volatile long lastSweepAt = System.nanoTime();
+
+    private final Counter bufferPageCounter;
+    private final Counter dbPageCounter;
+
+    public ChatHistoryService(ChatRepository chatRepository,
+                              ChatHistoryWriter chatHistoryWriter,
+                              MeterRegistry meterRegistry,
+                              @Value("${chat.history.buffer-size:50}") int bufferSize,
+                              @Value("${chat.history.idle-minutes:30}") long idleMinutes,
+                              @Value("${chat.history.max-sessions:5000}") int maxSessions,
+                              @Value("${chat.context.max-tokens:1500}") int contextMaxTokens,
+                              @Value("${chat.context.summary-tokens:300}") int summaryMaxTokens) {
+        this.chatRepository = chatRepository;
+        this.chatHistoryWriter = chatHistoryWriter;
+        this.bufferSize = bufferSize;
+        this.idleNanos = TimeUnit.MINUTES.toNanos(idleMinutes);
+        this.maxSessions = maxSessions;
+        this.contextMaxTokens = contextMaxTokens;
+        this.summaryMaxTokens = summaryMaxTokens;
+        this.bufferPageCounter = Counter.builder("chat.history.page")
+                .tag("source", "buffer")
+                .register(meterRegistry);
+        this.dbPageCounter = Counter.builder("chat.history.page")
+                .tag("source", "db")
+                .register(meterRegistry);
+        Gauge.builder("chat.history.sessions", sessions, Map::size)
+                .description("메모리 버퍼에 있는 채팅 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Flask에 보낼 대화 맥락 (이번 메시지 이전의 대화)
+     */
+    public ChatContext contextFor(String sessionId, String username) {
+        SessionHistory session = sessionOf(sessionId, username, true);
+        List<ChatTurn> turns;
+        synchronized (session) {
+            turns = new ArrayList<>(session.turns);
+        }
+
+        // 최근 대화부터 토큰 예산 안에서 그대로 포함
+        int used = 0;
+        int start = turns.size();
+        while (start > 0) {
+            int tokens = estimateTokens(turns.get(start - 1).content());
+            if (used + tokens > contextMaxTokens) {
+                break;
+            }
+            used += tokens;
+            start--;
+        }
+
+        List<Map<String, String>> history = new ArrayList<>(turns.size() - start);
+        for (ChatTurn turn : turns.subList(start, turns.size())) {
+            history.add(Map.of("role", turn.role(), "content", turn.content()));
+        }
+        return new ChatContext(history, summarize(turns.subList(0, start)));
+    }
+
+    /**
+     * 예산 밖의 오래된 대화를 턴마다 앞부분만 남겨 요약 (요약 예산 안에서 최근 것 우선)
+     */
+    private String summarize(List<ChatTurn> older) {
+        Deque<String> lines = new ArrayDeque<>();
+        int used = 0;
+        for (int i = older.size() - 1; i >= 0; i--) {
+            ChatTurn turn = older.get(i);
+            String content = turn.content().replaceAll("\\s+", " ").strip();
+            if (content.length() > SUMMARY_TURN_CHARS) {
+                content = content.substring(0, SUMMARY_TURN_CHARS) + "…";
+            }
+            String line = (Chat.ROLE_USER.equals(turn.role()) ? "사용자: " : "챗봇: ") + content;
+            int tokens = estimateTokens(line);
+            if (used + tokens > summaryMaxTokens) {
+                break;
+            }
+            used += tokens;
+            lines.addFirst(line);
+        }
+        return String.join("\n", lines);
+    }
+
+    /**
+     * 사용자 메시지와 응답을 버퍼에 추가하고 지연 저장 등록
+     */
+    public void recordExchange(String sessionId, String username, String message, String reply) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Chat> rows = new ArrayList<>(2);
+        SessionHistory session;
+        while (true) {
+            session = sessionOf(sessionId, username, true);
+            synchronized (session) {
+                // 조회와 추가 사이에 제거된 버퍼면 다시 불러옴
+                if (session.evicted) {
+                    continue;
+                }
+                rows.add(session.append(Chat.ROLE_USER, Objects.toString(message, ""), now));
+                rows.add(session.append(Chat.ROLE_ASSISTANT, Objects.toString(reply, ""), now));
+                session.unflushed.addAndGet(rows.size());
+            }
+            break;
+        }
+        AtomicInteger unflushed = session.unflushed;
+        rows.forEach(row -> chatHistoryWriter.append(row, unflushed::decrementAndGet));
+    }
+
+    /**
+     * 기록 조회 (before 미만 순번 중 최근 size개, 오래된 순으로 반환)
+     * 버퍼에 있는 구간은 버퍼에서, 버퍼보다 오래된 구간만 DB에서 조회
+     */
+    public ChatHistoryResponse getHistory(String sessionId, String username, Long before, int size) {
+        SessionHistory session = sessionOf(sessionId, username, false);
+        long upper = before != null ? before : Long.MAX_VALUE;
+
+        // 최신 → 오래된 순으로 size + 1개까지 (하나 더 가져와 다음 페이지 여부 판단)
+        List<ChatMessageDTO> page = new ArrayList<>(size + 1);
+        long bufferOldest;
+        synchronized (session) {
+            Iterator<ChatTurn> iterator = session.turns.descendingIterator();
+            while (iterator.hasNext() && page.size() <= size) {
+                ChatTurn turn = iterator.next();
+                if (turn.seq() < upper) {
+                    page.add(toDTO(turn));
+                }
+            }
+            bufferOldest = session.oldestSeq();
+        }
+
+        if (page.size() <= size && bufferOldest > 0) {
+            dbPageCounter.increment();
+            for (Chat chat : chatRepository.findBefore(sessionId, Math.min(upper, bufferOldest),
+                    PageRequest.of(0, size + 1 - page.size()))) {
+                page.add(ChatMessageDTO.builder()
+                        .seq(chat.getSeq())
+                        .role(chat.getRole())
+                        .content(chat.getContent())
+                        .createdAt(chat.getCreatedAt())
+                        .build());
+            }
+        } else {
+            bufferPageCounter.increment();
+        }
+
+        boolean hasMore = page.size() > size;
+        if (hasMore) {
+            page = new ArrayList<>(page.subList(0, size));
+        }
+        Collections.reverse(page);
+
+        return ChatHistoryResponse.builder()
+                .sessionId(sessionId)
+                .messages(page)
+                .hasMore(hasMore)
+                .nextBefore(hasMore ? page.get(0).getSeq() : null)
+                .build();
+    }
+
+    /**
+     * 세션 버퍼 조회 - 없으면 DB에서 최근 대화를 불러와 채움
+     * 형식에 맞지 않는 세션 ID는 INVALID_CHAT_SESSION
+     * 다른 사용자의 세션이거나, create=false인데 대화가 없으면 CHAT_SESSION_NOT_FOUND
+     */
+    private SessionHistory sessionOf(String sessionId, String username, boolean create) {
+        if (sessionId == null || !SESSION_ID_PATTERN.matcher(sessionId).matches()) {
+            log.warn("잘못된 채팅 세션 ID - 사용자: {}", username);
+            throw new CustomException(ErrorCode.INVALID_CHAT_SESSION);
+        }
+        sweepIdleSessions();
+
+        SessionHistory session = sessions.get(sessionId);
+        if (session == null) {
+            List<Chat> recent = chatRepository.findRecent(sessionId, PageRequest.of(0, bufferSize));
+            if (recent.isEmpty() && !create) {
+                throw new CustomException(ErrorCode.CHAT_SESSION_NOT_FOUND);
+            }
+            String owner = recent.isEmpty() ? username : recent.get(0).getUsername();
+            SessionHistory loaded = new SessionHistory(sessionId, owner, bufferSize, recent);
+            // 동시에 불러온 경우 먼저 등록된 버퍼 사용
+            session = Objects.requireNonNullElse(sessions.putIfAbsent(sessionId, loaded), loaded);
+        }
+
+        if (!Objects.equals(session.username, username)) {
+            log.warn("다른 사용자의 채팅 세션 접근 - 세션 ID: {}, 사용자: {}", sessionId, username);
+            throw new CustomException(ErrorCode.CHAT_SESSION_NOT_FOUND);
+        }
+        session.lastAccessAt = System.nanoTime();
+        return session;
+    }
+
+    /**
+     * 비활성 세션 제거 (1분에 한 번), 세션 수가 한도를 넘으면 가장 오래 쉰 세션부터 제거
+     * 저장 대기 중인 대화가 있는 세션은 남겨 둠
+     */
+    private void sweepIdleSessions() {
+        long now = System.nanoTime();
+        if (now - lastSweepAt < TimeUnit.MINUTES.toNanos(1) && sessions.size() <= maxSessions) {
+            return;
+        }
+        lastSweepAt = now;
+
+        sessions.values().removeIf(session -> now - session.lastAccessAt >= idleNanos && session.evict());
+        int excess = sessions.size() - maxSessions;
+        if (excess > 0) {
+            sessions.entrySet().stream()
+                    .sorted((a, b) -> Long.compare(a.getValue().lastAccessAt, b.getValue().lastAccessAt))
+                    .filter(entry -> entry.getValue().evict())
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(sessions::remove);
+        }
+    }
+
+    private static ChatMessageDTO toDTO(ChatTurn turn) {
+        return ChatMessageDTO.builder()
+                .seq(turn.seq())
+                .role(turn.role())
+                .content(turn.content())
+                .createdAt(turn.createdAt())
+                .build();
+    }
+
+    /**
+     * 토큰 수 추정 - 영문/숫자는 4글자당 1토큰, 한글 등 그 밖의 글자는 글자당 1토큰
+     */
+    static int estimateTokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 128) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return (ascii + 3) / 4 + other;
+    }
+
+    /**
+     * Flask에 보낼 대화 맥락
+     *
+     * @param history 최근 대화 (오래된 순, role/content)
+     * @param summary 예산 밖의 오래된 대화 요약 (없으면 빈 문자열)
+     */
+    public record ChatContext(List<Map<String, String>> history, String summary) {
+    }
+
+    /**
+     * 버퍼의 대화 한 턴
+     */
+    record ChatTurn(long seq, String role, String content, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 세션 하나의 링 버퍼 (접근 시 인스턴스로 동기화)
+     */
+    private static class SessionHistory {
+        private final String sessionId;
+        private final String username;
+        private final int capacity;
+        private final ArrayDeque<ChatTurn> turns;
+        private long nextSeq;
+        private volatile long lastAccessAt = System.nanoTime();
+        // ChatHistoryWriter에 넘겼지만 아직 저장(또는 포기)되지 않은 대화 수
+        private final AtomicInteger unflushed = new AtomicInteger();
+        // 세션 맵에서 제거됨 - 이 버퍼에는 더 이상 추가하지 않음
+        private boolean evicted;
+
+        private SessionHistory(String sessionId, String username, int capacity, List<Chat> recentDesc) {
+            this.sessionId = sessionId;
+            this.username = username;
+            this.capacity = capacity;
+            this.turns = new ArrayDeque<>(capacity);
+            for (int i = recentDesc.size() - 1; i >= 0; i--) {
+                Chat chat = recentDesc.get(i);
+                turns.addLast(new ChatTurn(chat.getSeq(), chat.getRole(),
+                        Objects.toString(chat.getContent(), ""), chat.getCreatedAt()));
+            }
+            this.nextSeq = recentDesc.isEmpty() ? 0 : recentDesc.get(0).getSeq() + 1;
+        }
+
+        private Chat append(String role, String content, LocalDateTime createdAt) {
+            ChatTurn turn = new ChatTurn(nextSeq++, role, content, createdAt);
+            if (turns.size() == capacity) {
+                turns.pollFirst();
+            }
+            turns.addLast(turn);
+            return Chat.builder()
+                    .sessionId(sessionId)
+                    .username(username)
+                    .seq(turn.seq())
+                    .role(role)
+                    .content(content)
+                    .createdAt(createdAt)
+                    .build();
+        }
+
+        /**
+         * 저장 대기 중인 대화가 없으면 제거 표시 (표시 후에는 대화를 추가하지 않음)
+         */
+        private synchronized boolean evict() {
+            if (unflushed.get() > 0) {
+                return false;
+            }
+            evicted = true;
+            return true;
+        }
+
+        /**
+         * 버퍼에 있는 가장 오래된 순번 (0이면 세션 전체가 버퍼에 있음)
+         */
+        private long oldestSeq() {
+            return turns.isEmpty() ? nextSeq : turns.peekFirst().seq();
+        }
+    }
+}
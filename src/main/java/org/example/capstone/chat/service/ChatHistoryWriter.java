@@ -0,0 +1,185 @@
+package org.example.capstone.chat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.capstone.chat.domain.Chat;
+import org.example.capstone.chat.repository.ChatRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 기록 지연 저장기 (write-behind)
+ * - 대화 턴을 대기열에 넣고 바로 반환, 별도 스레드가 모아서 한 트랜잭션의 배치 INSERT로 저장
+ * - 첫 항목이 들어온 뒤 일정 시간(기본 200ms)이 지나거나 일정 개수(기본 100개)가 모이면 저장
+ * - 배치 저장이 실패하면 한 건씩 따로 저장 (문제 있는 행만 버리고 나머지는 저장)
+ * - 대기열이 가득 차면 버림 (메모리 버퍼의 대화는 유지되므로 응답에는 영향 없음)
+ * - 저장했거나 버린 뒤 등록 시 받은 콜백 호출 (세션 버퍼가 저장 전에 제거되지 않도록)
+ */
+@Component
+@Slf4j
+public class ChatHistoryWriter {
+
+    private final ChatRepository chatRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long flushIntervalNanos;
+    private final int batchSize;
+    private final BlockingQueue<PendingChat> queue;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    private Thread writer;
+    private volatile boolean running;
+
+    public ChatHistoryWriter(ChatRepository chatRepository,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${chat.history.write.flush-interval-ms:200}") long flushIntervalMs,
+                             @Value("${chat.history.write.batch-size:100}") int batchSize,
+                             @Value("${chat.history.write.queue-capacity:10000}") int queueCapacity) {
+        this.chatRepository = chatRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.batchSize = batchSize;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSizeSummary = DistributionSummary.builder("chat.history.write.batch.size")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("chat.history.write.dropped")
+                .description("대기열 초과로 저장하지 못한 대화 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("chat.history.write.failed")
+                .description("DB 저장 실패로 버린 대화 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.history.write.queue.depth", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::writeLoop, "chat-history-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 종료 시 남은 대화 저장
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<PendingChat> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            save(remaining);
+        }
+    }
+
+    /**
+     * 저장 등록 (대기하지 않음)
+     *
+     * @param chat      저장할 대화
+     * @param onSettled 저장했거나 버린 뒤 호출 (대기열 초과로 버리면 호출 스레드, 그 밖에는 writer 스레드에서 실행)
+     */
+    public void append(Chat chat, Runnable onSettled) {
+        if (!queue.offer(new PendingChat(chat, onSettled))) {
+            droppedCounter.increment();
+            log.warn("채팅 기록 저장 대기열 초과 - 세션 ID: {}, 순번: {}", chat.getSessionId(), chat.getSeq());
+            onSettled.run();
+        }
+    }
+
+    private void writeLoop() {
+        while (running) {
+            try {
+                PendingChat first = queue.take();
+                List<PendingChat> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        queue.drainTo(batch, batchSize - batch.size());
+                        break;
+                    }
+                    PendingChat next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                save(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("채팅 기록 저장 중 오류: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 한 트랜잭션으로 배치 저장 - 실패하면 한 건씩 각자 트랜잭션으로 저장하고, 그래도 실패한 건만 버림
+     */
+    private void save(List<PendingChat> batch) {
+        batchSizeSummary.record(batch.size());
+        List<Chat> chats = batch.stream().map(PendingChat::chat).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> chatRepository.saveAll(chats));
+            log.debug("채팅 기록 저장 완료 - {}건", chats.size());
+        } catch (Exception e) {
+            log.warn("채팅 기록 배치 저장 실패, 한 건씩 저장 - {}건: {}", chats.size(), e.getMessage());
+            chats.forEach(this::saveOne);
+        } finally {
+            batch.forEach(PendingChat::settle);
+        }
+    }
+
+    private void saveOne(Chat chat) {
+        // 실패한 배치에서 부여된 ID가 남아 있으면 새 행이 아닌 병합으로 처리되므로 비우고 새로 부여
+        chat.setId(null);
+        try {
+            transactionTemplate.executeWithoutResult(status -> chatRepository.save(chat));
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.error("채팅 기록 저장 포기 - 세션 ID: {}, 순번: {}: {}", chat.getSessionId(), chat.getSeq(), e.getMessage());
+        }
+    }
+
+    /**
+     * 저장 대기 중인 대화와 완료 콜백
+     */
+    private record PendingChat(Chat chat, Runnable onSettled) {
+
+        private void settle() {
+            try {
+                onSettled.run();
+            } catch (Exception e) {
+                log.warn("채팅 기록 저장 완료 처리 실패 - 세션 ID: {}: {}", chat.getSessionId(), e.getMessage());
+            }
+        }
+    }
+}
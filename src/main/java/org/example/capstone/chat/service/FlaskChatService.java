@@ -4,24 +4,23 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.http.HttpEntity;
-import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpPost;
-import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.util.EntityUtils;
 import org.example.capstone.chat.dto.ChatRequest;
 import org.example.capstone.chat.dto.ChatResponse;
+import org.apache.http.client.HttpResponseException;
+import org.example.capstone.global.client.FlaskGateway;
+import org.example.capstone.global.exception.CustomException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -34,7 +33,24 @@ public class FlaskChatService {
     @Value("${flask.api.base-url}")
     private String flaskBaseUrl;
 
+    private static final String MODE_STREAM = "stream";
+    private static final String MODE_BUFFERED = "buffered";
+    // 스트리밍 엔드포인트가 없다고 확인한 뒤 다시 시도해 보기까지의 간격
+    private static final long STREAM_RECHECK_NANOS = TimeUnit.MINUTES.toNanos(10);
+
     private final ObjectMapper objectMapper;
+    private final FlaskGateway flaskGateway;
+    private final ChatHistoryService chatHistoryService;
+    private final MeterRegistry meterRegistry;
+
+    // 첫 토큰까지의 시간 (채팅 응답 지연 지표)
+    private Timer streamFirstTokenTimer;
+    private Timer bufferedFirstTokenTimer;
+    private Timer streamTimer;
+
+    // Flask에 스트리밍 엔드포인트가 없다고(404/405) 확인한 시각 - 그동안은 요청마다 404를 받지 않고 바로 일반 요청
+    private volatile boolean streamUnsupported;
+    private volatile long streamUnsupportedAt;
 
     /**
      * 초기화 메서드 - 객체 매퍼 설정
@@ -45,6 +61,20 @@ public class FlaskChatService {
         objectMapper.configure(JsonGenerator.Feature.ESCAPE_NON_ASCII, false);
         // NULL 값은 JSON에 포함하지 않음
         objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        streamFirstTokenTimer = firstTokenTimerFor(MODE_STREAM);
+        bufferedFirstTokenTimer = firstTokenTimerFor(MODE_BUFFERED);
+        streamTimer = Timer.builder("chat.reply.stream.duration")
+                .description("스트리밍 응답 시작부터 마지막 조각까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    private Timer firstTokenTimerFor(String mode) {
+        return Timer.builder("chat.reply.first.token")
+                .description("Flask 요청부터 첫 응답 조각 수신까지 걸린 시간")
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     /**
@@ -55,6 +85,13 @@ public class FlaskChatService {
      * @throws IOException 통신 오류 발생 시
      */
     public ChatResponse sendRequestToFlask(ChatRequest chatRequest) throws IOException {
+        return send(chatRequest, true);
+    }
+
+    /**
+     * 일반(전체 응답) 요청 - record가 true이면 성공한 대화를 기록
+     */
+    private ChatResponse send(ChatRequest chatRequest, boolean record) throws IOException {
         // Flask API URL 구성
         String fullUrl = flaskBaseUrl + flaskChatEndpoint;
         log.info("Flask API 요청 URL: {}", fullUrl);
@@ -64,64 +101,40 @@ public class FlaskChatService {
         log.info("전송할 사용자명: {}", chatRequest.getUsername());
         log.info("전송할 세션 ID: {}", chatRequest.getSessionId());
 
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-            // HTTP POST 요청 생성
-            HttpPost httpPost = new HttpPost(fullUrl);
-
+        try {
             // JSON 요청 본문 구성
-            Map<String, String> requestBody = new HashMap<>();
-            if (chatRequest.getMessage() != null) {
-                requestBody.put("message", chatRequest.getMessage());
-            }
-            if (chatRequest.getUsername() != null) {
-                requestBody.put("username", chatRequest.getUsername());
-            }
-            if (chatRequest.getSessionId() != null) {
-                requestBody.put("sessionId", chatRequest.getSessionId());
-            }
+            Map<String, Object> requestBody = requestBodyOf(chatRequest);
 
-            // Map을 JSON 문자열로 변환
-            String jsonBody = objectMapper.writeValueAsString(requestBody);
-            log.info("JSON 요청 본문: {}", jsonBody);
-
-            // StringEntity로 요청 본문 설정 (UTF-8 인코딩 명시)
-            StringEntity entity = new StringEntity(jsonBody, StandardCharsets.UTF_8);
-            entity.setContentType("application/json; charset=UTF-8");
-            httpPost.setEntity(entity);
-
-            // 요청 헤더 설정
-            httpPost.setHeader("Content-Type", "application/json; charset=UTF-8");
-            httpPost.setHeader("Accept", "application/json");
-
-            // 요청 전송 및 응답 수신
-            try (CloseableHttpResponse response = httpClient.execute(httpPost)) {
-                HttpEntity responseEntity = response.getEntity();
-
-                // 응답 본문을 UTF-8로 디코딩하여 문자열로 변환
-                String responseString = EntityUtils.toString(responseEntity, StandardCharsets.UTF_8);
-                log.info("Flask API Chat Response: {}", responseString);
-
-                // 응답 본문이 비어있는지 확인
-                if (responseString == null || responseString.trim().isEmpty()) {
-                    log.error("Flask API 응답이 비어있습니다.");
-                    ChatResponse errorResponse = new ChatResponse();
-                    errorResponse.setMessage("서버에서 빈 응답이 반환되었습니다.");
-                    errorResponse.setUsername("시스템");
-                    return errorResponse;
-                }
+            // 공유 커넥션 풀을 사용하는 게이트웨이로 요청 전송
+            long startedAt = System.nanoTime();
+            String responseString = flaskGateway.chat(requestBody);
+            // 전체 응답을 한 번에 받으므로 첫 토큰까지의 시간 = 전체 응답 시간
+            bufferedFirstTokenTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.info("Flask API Chat Response: {}", responseString);
 
-                try {
-                    // 응답 JSON을 ChatResponse 객체로 파싱
-                    ChatResponse chatResponse = objectMapper.readValue(responseString, ChatResponse.class);
-                    return chatResponse;
-                } catch (Exception e) {
-                    // JSON 파싱 오류 처리
-                    log.error("응답 파싱 오류: {}", e.getMessage(), e);
-                    ChatResponse errorResponse = new ChatResponse();
-                    errorResponse.setMessage("응답 처리 중 오류가 발생했습니다: " + e.getMessage());
-                    errorResponse.setUsername("시스템");
-                    return errorResponse;
+            // 응답 본문이 비어있는지 확인
+            if (responseString == null || responseString.trim().isEmpty()) {
+                log.error("Flask API 응답이 비어있습니다.");
+                ChatResponse errorResponse = new ChatResponse();
+                errorResponse.setMessage("서버에서 빈 응답이 반환되었습니다.");
+                errorResponse.setUsername("시스템");
+                return errorResponse;
+            }
+
+            try {
+                // 응답 JSON을 ChatResponse 객체로 파싱
+                ChatResponse chatResponse = objectMapper.readValue(responseString, ChatResponse.class);
+                if (record) {
+                    recordExchange(chatRequest, chatResponse.getMessage());
                 }
+                return chatResponse;
+            } catch (Exception e) {
+                // JSON 파싱 오류 처리
+                log.error("응답 파싱 오류: {}", e.getMessage(), e);
+                ChatResponse errorResponse = new ChatResponse();
+                errorResponse.setMessage("응답 처리 중 오류가 발생했습니다: " + e.getMessage());
+                errorResponse.setUsername("시스템");
+                return errorResponse;
             }
         } catch (Exception e) {
             // 네트워크 통신 오류 처리
@@ -129,4 +142,117 @@ public class FlaskChatService {
             throw new IOException("Flask 서버와 통신 중 오류 발생: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 채팅 요청을 Flask 서버로 스트리밍 전송
+     * - 응답 조각이 도착할 때마다 onDelta 호출 (호출 스레드에서 순서대로 실행)
+     * - Flask에 스트리밍 엔드포인트가 없으면(404/405) 일반 요청으로 받아 한 조각으로 전달
+     * - 엔드포인트가 없다는 결과는 일정 시간 기억해 그동안은 스트리밍을 시도하지 않음
+     *
+     * @param chatRequest 채팅 요청 객체
+     * @param onDelta     응답 조각 콜백
+     * @return 전체 응답
+     * @throws IOException 통신 오류 발생 시
+     */
+    public String streamRequestToFlask(ChatRequest chatRequest, Consumer<String> onDelta) throws IOException {
+        log.info("Flask 채팅 스트리밍 요청 - 세션 ID: {}", chatRequest.getSessionId());
+
+        long startedAt = System.nanoTime();
+        StringBuilder reply = new StringBuilder();
+        Consumer<String> relay = delta -> {
+            if (reply.length() == 0) {
+                streamFirstTokenTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+            reply.append(delta);
+            onDelta.accept(delta);
+        };
+
+        try {
+            if (streamSupported()) {
+                flaskGateway.streamChat(requestBodyOf(chatRequest), relay);
+            } else {
+                relayBuffered(chatRequest, relay);
+            }
+        } catch (HttpResponseException e) {
+            if (reply.length() > 0 || (e.getStatusCode() != 404 && e.getStatusCode() != 405)) {
+                throw e;
+            }
+            log.warn("Flask 스트리밍 엔드포인트 없음, 일반 요청으로 대체");
+            streamUnsupportedAt = System.nanoTime();
+            streamUnsupported = true;
+            relayBuffered(chatRequest, relay);
+        } finally {
+            streamTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        log.info("Flask 채팅 스트리밍 완료 - 세션 ID: {}, 응답 길이: {}", chatRequest.getSessionId(), reply.length());
+        recordExchange(chatRequest, reply.toString());
+        return reply.toString();
+    }
+
+    private boolean streamSupported() {
+        if (!streamUnsupported) {
+            return true;
+        }
+        if (System.nanoTime() - streamUnsupportedAt < STREAM_RECHECK_NANOS) {
+            return false;
+        }
+        // 재시도 간격이 지나면 Flask가 그사이 엔드포인트를 추가했을 수 있으므로 다시 시도
+        streamUnsupported = false;
+        return true;
+    }
+
+    /**
+     * 일반 요청으로 받은 전체 응답을 한 조각으로 전달
+     */
+    private void relayBuffered(ChatRequest chatRequest, Consumer<String> relay) throws IOException {
+        ChatResponse response = send(chatRequest, false);
+        if (response.getMessage() != null && !response.getMessage().isEmpty()) {
+            relay.accept(response.getMessage());
+        }
+    }
+
+    /**
+     * Flask 요청 본문 - 메시지와 함께 이전 대화 맥락(history, summary) 포함
+     */
+    private Map<String, Object> requestBodyOf(ChatRequest chatRequest) throws IOException {
+        Map<String, Object> requestBody = new HashMap<>();
+        if (chatRequest.getMessage() != null) {
+            requestBody.put("message", chatRequest.getMessage());
+        }
+        if (chatRequest.getUsername() != null) {
+            requestBody.put("username", chatRequest.getUsername());
+        }
+        if (chatRequest.getSessionId() != null) {
+            requestBody.put("sessionId", chatRequest.getSessionId());
+
+            try {
+                ChatHistoryService.ChatContext context =
+                        chatHistoryService.contextFor(chatRequest.getSessionId(), chatRequest.getUsername());
+                requestBody.put("history", context.history());
+                if (!context.summary().isEmpty()) {
+                    requestBody.put("summary", context.summary());
+                }
+            } catch (CustomException e) {
+                // 다른 사용자의 세션 ID로 요청한 경우
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+        return requestBody;
+    }
+
+    /**
+     * 성공한 대화를 기록 (실패해도 응답에는 영향 없음)
+     */
+    private void recordExchange(ChatRequest chatRequest, String reply) {
+        if (chatRequest.getSessionId() == null) {
+            return;
+        }
+        try {
+            chatHistoryService.recordExchange(chatRequest.getSessionId(), chatRequest.getUsername(),
+                    chatRequest.getMessage(), reply);
+        } catch (Exception e) {
+            log.warn("채팅 기록 실패 (무시됨) - 세션 ID: {}, {}", chatRequest.getSessionId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.capstone.global.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한(LRU)과 만료 시간(TTL)을 함께 적용하는 메모리 캐시
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+ * - 만료된 항목은 조회 시 제거, 저장 시에는 가장 오래 사용되지 않은 쪽부터 만료되지 않은 항목을 만날 때까지만 제거
+ *   (저장마다 전체를 훑지 않으므로 항목 수가 많아도 저장 비용이 일정함)
+ * - 모든 연산은 인스턴스 단위로 동기화됨
+ */
+public class LruTtlCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    public LruTtlCache(int maxSize, Duration ttl) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        // accessOrder=true 이므로 get 시 해당 항목이 가장 최근으로 이동
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > LruTtlCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 조회 (없거나 만료되었으면 null)
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * 저장 (같은 키가 있으면 덮어쓰고 만료 시간도 갱신)
+     */
+    public synchronized void put(K key, V value) {
+        long now = System.nanoTime();
+        removeExpired(now);
+        entries.put(key, new Entry<>(value, now + ttlNanos));
+    }
+
+    /**
+     * 조회 후 없으면 계산하여 저장
+     * 계산 결과가 null이면 저장하지 않음
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        // 로더는 락 밖에서 실행 (동일 키 동시 계산은 허용)
+        value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 값이 조건에 맞는 항목 모두 제거 (전체를 훑으므로 항목 수가 작은 캐시에만 사용)
+     */
+    public synchronized void invalidateIf(Predicate<? super V> condition) {
+        entries.values().removeIf(entry -> condition.test(entry.value));
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 앞쪽(가장 오래 사용되지 않은 쪽)의 만료 항목 제거
+     * 최근에 조회된 만료 항목은 뒤쪽에 있어 남을 수 있지만 조회 시 제거되고, 크기 제한으로도 밀려남
+     */
+    private void removeExpired(long now) {
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (!iterator.next().isExpired(now)) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
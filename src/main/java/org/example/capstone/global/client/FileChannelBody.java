@@ -0,0 +1,60 @@
+package org.example.capstone.global.client;
+
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.MIME;
+import org.apache.http.entity.mime.content.AbstractContentBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 파일을 FileChannel.transferTo로 전송하는 멀티파트 본문
+ * 파일 전체를 힙에 올리지 않으며 Content-Length를 미리 알 수 있어 청크 전송을 피함
+ */
+public class FileChannelBody extends AbstractContentBody {
+
+    private final Path path;
+    private final String filename;
+    private final long length;
+
+    public FileChannelBody(Path path, ContentType contentType, String filename) throws IOException {
+        super(contentType);
+        this.path = path;
+        this.filename = filename;
+        this.length = Files.size(path);
+    }
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // out은 호출자가 관리하므로 닫지 않음
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = 0;
+            while (position < length) {
+                position += channel.transferTo(position, length - position, target);
+            }
+        }
+        out.flush();
+    }
+
+    @Override
+    public String getTransferEncoding() {
+        return MIME.ENC_BINARY;
+    }
+
+    @Override
+    public long getContentLength() {
+        return length;
+    }
+}
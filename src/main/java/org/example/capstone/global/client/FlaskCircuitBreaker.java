@@ -0,0 +1,184 @@
+package org.example.capstone.global.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.HttpResponseException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Flask 엔드포인트별 서킷 브레이커
+ * - CLOSED: 정상 호출, 연속 실패가 기준 횟수에 도달하면 OPEN
+ * - OPEN: 호출하지 않고 바로 실패 (타임아웃까지 기다리지 않음), 대기 시간이 지나면 HALF_OPEN
+ * - HALF_OPEN: 시험 호출 하나만 통과, 성공하면 CLOSED / 실패하면 다시 OPEN
+ * - 연결 실패/타임아웃/5xx만 실패로 집계 (4xx는 요청 문제이므로 제외)
+ * - RuntimeException(응답 조각 전달 콜백 등 호출자 쪽 오류)은 Flask 상태와 무관하므로 성공/실패 어느 쪽에도 집계하지 않음
+ */
+@Slf4j
+public class FlaskCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 브레이커를 거치는 Flask 호출
+     */
+    @FunctionalInterface
+    public interface FlaskCall<T> {
+        T call() throws IOException;
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter rejectedCounter;
+
+    public FlaskCircuitBreaker(String name, int failureThreshold, long openMillis, MeterRegistry meterRegistry) {
+        this(name, failureThreshold, openMillis, meterRegistry, System::nanoTime);
+    }
+
+    FlaskCircuitBreaker(String name, int failureThreshold, long openMillis,
+                        MeterRegistry meterRegistry, LongSupplier clock) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.clock = clock;
+        this.successCounter = callCounter(meterRegistry, "success");
+        this.failureCounter = callCounter(meterRegistry, "failure");
+        this.rejectedCounter = callCounter(meterRegistry, "rejected");
+        // 0: CLOSED, 1: OPEN, 2: HALF_OPEN
+        Gauge.builder("flask.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("Flask 엔드포인트 서킷 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .tag("endpoint", name)
+                .register(meterRegistry);
+    }
+
+    private Counter callCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("flask.circuit.calls")
+                .tag("endpoint", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 브레이커 상태에 따라 호출 (OPEN이면 호출하지 않고 CircuitOpenException)
+     */
+    public <T> T execute(FlaskCall<T> call) throws IOException {
+        if (!tryAcquire()) {
+            rejectedCounter.increment();
+            throw new CircuitOpenException(name);
+        }
+
+        T result;
+        try {
+            result = call.call();
+        } catch (IOException e) {
+            if (isFailure(e)) {
+                onFailure(e);
+            } else {
+                onSuccess();
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            releaseProbe();
+            throw e;
+        }
+        onSuccess();
+        return result;
+    }
+
+    public synchronized State getState() {
+        // 대기 시간이 지난 OPEN은 다음 호출이 시험 호출이 되므로 HALF_OPEN으로 표시
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.getAsLong() - openedAt < openNanos) {
+                    return false;
+                }
+                transition(State.HALF_OPEN);
+                probeInFlight = true;
+                return true;
+            default:
+                // HALF_OPEN: 시험 호출이 진행 중이면 나머지는 바로 실패
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        successCounter.increment();
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        if (state != State.CLOSED) {
+            transition(State.CLOSED);
+        }
+    }
+
+    /**
+     * 집계하지 않는 호출 - 시험 호출 자리만 반환하고 상태는 유지
+     */
+    private synchronized void releaseProbe() {
+        probeInFlight = false;
+    }
+
+    private synchronized void onFailure(Exception e) {
+        failureCounter.increment();
+        probeInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            openedAt = clock.getAsLong();
+            transition(State.OPEN);
+            log.warn("Flask 서킷 OPEN - 엔드포인트: {}, 연속 실패: {}, 원인: {}", name, consecutiveFailures, e.getMessage());
+        }
+    }
+
+    private void transition(State next) {
+        log.info("Flask 서킷 상태 변경 - 엔드포인트: {}, {} → {}", name, state, next);
+        state = next;
+    }
+
+    private static boolean isFailure(IOException e) {
+        if (e instanceof HttpResponseException response) {
+            return response.getStatusCode() >= 500;
+        }
+        return true;
+    }
+
+    /**
+     * 서킷이 열려 있어 호출하지 않고 실패
+     */
+    public static class CircuitOpenException extends IOException {
+        public CircuitOpenException(String endpoint) {
+            super("Flask 서버 응답 불가로 호출 일시 차단 (" + endpoint + ")");
+        }
+    }
+}
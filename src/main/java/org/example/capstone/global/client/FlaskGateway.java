@@ -0,0 +1,382 @@
+package org.example.capstone.global.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.client.HttpResponseException;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.example.capstone.nutrition.dto.NutritionBatchFlaskResponse;
+import org.example.capstone.nutrition.dto.NutritionDTO;
+import org.example.capstone.recipe.dto.BatchSubstituteResponse;
+import org.example.capstone.recipe.dto.RecipeGenerateResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Flask 서버 통신 전용 게이트웨이
+ * - 커넥션 풀(keep-alive)을 공유하여 요청마다 TCP/TLS 핸드셰이크가 발생하지 않도록 함
+ * - 엔드포인트별 응답 타임아웃 적용
+ * - 엔드포인트별 서킷 브레이커 적용 (Flask 장애 시 타임아웃까지 기다리지 않고 바로 실패)
+ * - 채팅 스트리밍: SSE(text/event-stream) 또는 chunked 응답을 한 커넥션에서 받으며 조각마다 콜백
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class FlaskGateway {
+
+    @Value("${flask.api.base-url}")
+    private String flaskBaseUrl;
+
+    @Value("${flask.api.endpoints.chat}")
+    private String chatEndpoint;
+
+    @Value("${flask.api.endpoints.chat-stream:/chat/stream}")
+    private String chatStreamEndpoint;
+
+    @Value("${flask.api.endpoints.recipe-generate}")
+    private String recipeGenerateEndpoint;
+
+    @Value("${flask.api.endpoints.substitute}")
+    private String substituteEndpoint;
+
+    @Value("${flask.api.endpoints.substitute-batch:/substitute/batch}")
+    private String substituteBatchEndpoint;
+
+    @Value("${flask.api.endpoints.nutrition}")
+    private String nutritionEndpoint;
+
+    @Value("${flask.api.endpoints.nutrition-batch:/nutrition/batch}")
+    private String nutritionBatchEndpoint;
+
+    // 커넥션 풀 설정
+    @Value("${flask.http.pool.max-total:100}")
+    private int maxTotal;
+
+    @Value("${flask.http.pool.max-per-route:50}")
+    private int maxPerRoute;
+
+    @Value("${flask.http.pool.idle-evict-seconds:30}")
+    private long idleEvictSeconds;
+
+    // 타임아웃 설정 (밀리초)
+    @Value("${flask.http.timeout.connect-ms:3000}")
+    private int connectTimeoutMs;
+
+    @Value("${flask.http.timeout.pool-acquire-ms:5000}")
+    private int poolAcquireTimeoutMs;
+
+    @Value("${flask.http.timeout.chat-ms:60000}")
+    private int chatResponseTimeoutMs;
+
+    @Value("${flask.http.timeout.recipe-generate-ms:120000}")
+    private int recipeGenerateResponseTimeoutMs;
+
+    @Value("${flask.http.timeout.substitute-ms:60000}")
+    private int substituteResponseTimeoutMs;
+
+    @Value("${flask.http.timeout.nutrition-ms:15000}")
+    private int nutritionResponseTimeoutMs;
+
+    // 서킷 브레이커 설정
+    @Value("${flask.circuit.failure-threshold:5}")
+    private int circuitFailureThreshold;
+
+    @Value("${flask.circuit.open-ms:30000}")
+    private long circuitOpenMs;
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private FlaskCircuitBreaker chatBreaker;
+    private FlaskCircuitBreaker chatStreamBreaker;
+    private FlaskCircuitBreaker recipeGenerateBreaker;
+    private FlaskCircuitBreaker substituteBreaker;
+    private FlaskCircuitBreaker substituteBatchBreaker;
+    private FlaskCircuitBreaker nutritionBreaker;
+    private FlaskCircuitBreaker nutritionBatchBreaker;
+
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RequestConfig defaultRequestConfig;
+
+    @PostConstruct
+    public void init() {
+        connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setMaxPerRoute(new HttpRoute(flaskHost()), maxPerRoute);
+        // 오래 쉬던 커넥션은 재사용 전에 검증
+        connectionManager.setValidateAfterInactivity(2000);
+
+        // 응답(소켓) 타임아웃은 요청마다 엔드포인트별 값으로 설정 (newPost)
+        defaultRequestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutMs)
+                .setConnectionRequestTimeout(poolAcquireTimeoutMs)
+                .build();
+
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(defaultRequestConfig)
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .evictExpiredConnections()
+                .evictIdleConnections(idleEvictSeconds, TimeUnit.SECONDS)
+                .build();
+
+        chatBreaker = newBreaker("chat");
+        chatStreamBreaker = newBreaker("chat-stream");
+        recipeGenerateBreaker = newBreaker("recipe-generate");
+        substituteBreaker = newBreaker("substitute");
+        substituteBatchBreaker = newBreaker("substitute-batch");
+        nutritionBreaker = newBreaker("nutrition");
+        nutritionBatchBreaker = newBreaker("nutrition-batch");
+
+        log.info("Flask 게이트웨이 초기화 - 호스트: {}, 최대 커넥션: {}, 라우트당: {}",
+                flaskHost(), maxTotal, maxPerRoute);
+    }
+
+    private FlaskCircuitBreaker newBreaker(String name) {
+        return new FlaskCircuitBreaker(name, circuitFailureThreshold, circuitOpenMs, meterRegistry);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+    }
+
+    /**
+     * 채팅 요청 - 응답 본문 문자열 반환
+     */
+    public String chat(Map<String, ?> body) throws IOException {
+        return postJson(chatBreaker, chatEndpoint, body, chatResponseTimeoutMs);
+    }
+
+    /**
+     * 사용자 정보 전송 - 채팅 엔드포인트로 보내므로 채팅 서킷 브레이커를 함께 사용
+     */
+    public String userInfo(Object body) throws IOException {
+        return postJson(chatBreaker, chatEndpoint, body, chatResponseTimeoutMs);
+    }
+
+    /**
+     * 채팅 스트리밍 요청 - 응답 조각이 도착할 때마다 onDelta 호출 (호출 스레드에서 실행)
+     * - text/event-stream: data 필드를 조각으로 전달, "done" 이벤트 또는 [DONE]에서 종료, "error" 이벤트는 예외
+     * - 그 외: chunked 본문을 읽히는 대로 전달
+     * - 응답 타임아웃은 조각 사이의 최대 대기 시간으로 적용
+     * - onDelta에서 난 RuntimeException은 그대로 전파되며 서킷 실패로 집계되지 않음
+     */
+    public void streamChat(Map<String, ?> body, Consumer<String> onDelta) throws IOException {
+        HttpPost post = jsonPost(chatStreamEndpoint, body, chatResponseTimeoutMs);
+        post.setHeader("Accept", "text/event-stream, text/plain");
+
+        chatStreamBreaker.execute(() -> {
+            try (CloseableHttpResponse response = httpClient.execute(post)) {
+                HttpEntity entity = response.getEntity();
+                int status = response.getStatusLine().getStatusCode();
+                if (status >= 300) {
+                    String errorBody = entity != null ? EntityUtils.toString(entity, StandardCharsets.UTF_8) : null;
+                    log.error("Flask 응답 오류 - 엔드포인트: {}, 상태: {}, 본문: {}", chatStreamEndpoint, status, errorBody);
+                    throw new HttpResponseException(status, "Flask 응답 오류 (" + chatStreamEndpoint + "): " + status);
+                }
+                if (entity == null) {
+                    return null;
+                }
+
+                ContentType contentType = ContentType.get(entity);
+                boolean eventStream = contentType != null
+                        && "text/event-stream".equalsIgnoreCase(contentType.getMimeType());
+                try (Reader reader = new InputStreamReader(entity.getContent(), StandardCharsets.UTF_8)) {
+                    if (eventStream) {
+                        readEvents(new BufferedReader(reader), onDelta);
+                    } else {
+                        readChunks(reader, onDelta);
+                    }
+                }
+                // 남은 본문을 비워 커넥션을 풀에 반환
+                EntityUtils.consume(entity);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * SSE 이벤트 읽기 (빈 줄로 이벤트 구분, 여러 data 줄은 줄바꿈으로 합침)
+     */
+    static void readEvents(BufferedReader reader, Consumer<String> onDelta) throws IOException {
+        String event = null;
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                if (dispatchEvent(event, data, onDelta)) {
+                    return;
+                }
+                event = null;
+                data.setLength(0);
+            } else if (line.startsWith("event:")) {
+                event = line.substring(6).trim();
+            } else if (line.startsWith("data:")) {
+                String value = line.substring(5);
+                if (data.length() > 0) {
+                    data.append('\n');
+                }
+                data.append(value.startsWith(" ") ? value.substring(1) : value);
+            }
+            // ':'로 시작하는 주석(keep-alive)과 id/retry 필드는 무시
+        }
+        dispatchEvent(event, data, onDelta);
+    }
+
+    /**
+     * 이벤트 하나 처리 - 스트림이 끝났으면 true
+     */
+    private static boolean dispatchEvent(String event, StringBuilder data, Consumer<String> onDelta) throws IOException {
+        if ("error".equals(event)) {
+            throw new IOException("Flask 채팅 스트림 오류: " + data);
+        }
+        if ("done".equals(event) || "[DONE]".contentEquals(data)) {
+            return true;
+        }
+        if (data.length() > 0) {
+            onDelta.accept(data.toString());
+        }
+        return false;
+    }
+
+    static void readChunks(Reader reader, Consumer<String> onDelta) throws IOException {
+        char[] buffer = new char[1024];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            if (read > 0) {
+                onDelta.accept(new String(buffer, 0, read));
+            }
+        }
+    }
+
+    /**
+     * 이미지 기반 레시피 생성 요청 (multipart)
+     */
+    public RecipeGenerateResponse generateRecipe(HttpEntity multipart) throws IOException {
+        HttpPost post = newPost(recipeGenerateEndpoint, recipeGenerateResponseTimeoutMs);
+        post.setEntity(multipart);
+        post.setHeader("Accept-Charset", "UTF-8");
+
+        String responseString = recipeGenerateBreaker.execute(
+                () -> httpClient.execute(post, bodyHandler(recipeGenerateEndpoint)));
+        log.info("Flask API Response for Recipe Generate: {}", responseString);
+        return objectMapper.readValue(responseString, RecipeGenerateResponse.class);
+    }
+
+    /**
+     * 대체 재료 요청
+     */
+    public RecipeGenerateResponse substitute(Map<String, ?> body) throws IOException {
+        String responseString = postJson(substituteBreaker, substituteEndpoint, body, substituteResponseTimeoutMs);
+        return objectMapper.readValue(responseString, RecipeGenerateResponse.class);
+    }
+
+    /**
+     * 일괄 대체 재료 요청 (여러 재료 쌍을 한 번의 LLM 호출로 처리)
+     */
+    public BatchSubstituteResponse substituteBatch(Map<String, ?> body) throws IOException {
+        String responseString = postJson(substituteBatchBreaker, substituteBatchEndpoint, body, substituteResponseTimeoutMs);
+        return objectMapper.readValue(responseString, BatchSubstituteResponse.class);
+    }
+
+    /**
+     * 영양 정보 계산 요청
+     */
+    public NutritionDTO nutrition(Map<String, ?> body) throws IOException {
+        String responseString = postJson(nutritionBreaker, nutritionEndpoint, body, nutritionResponseTimeoutMs);
+        return objectMapper.readValue(responseString, NutritionDTO.class);
+    }
+
+    /**
+     * 일괄 영양 정보 계산 요청 (여러 레시피를 한 번의 호출로 처리)
+     */
+    public NutritionBatchFlaskResponse nutritionBatch(Map<String, ?> body) throws IOException {
+        String responseString = postJson(nutritionBatchBreaker, nutritionBatchEndpoint, body, nutritionResponseTimeoutMs);
+        return objectMapper.readValue(responseString, NutritionBatchFlaskResponse.class);
+    }
+
+    private String postJson(FlaskCircuitBreaker breaker, String endpoint, Object body,
+                            int responseTimeoutMs) throws IOException {
+        HttpPost post = jsonPost(endpoint, body, responseTimeoutMs);
+        post.setHeader("Accept", "application/json");
+
+        return breaker.execute(() -> httpClient.execute(post, bodyHandler(endpoint)));
+    }
+
+    private HttpPost jsonPost(String endpoint, Object body, int responseTimeoutMs) throws IOException {
+        HttpPost post = newPost(endpoint, responseTimeoutMs);
+
+        String jsonBody = objectMapper.writeValueAsString(body);
+        log.debug("Flask 요청 - 엔드포인트: {}, 본문: {}", endpoint, jsonBody);
+
+        StringEntity entity = new StringEntity(jsonBody, StandardCharsets.UTF_8);
+        entity.setContentType("application/json; charset=UTF-8");
+        post.setEntity(entity);
+        post.setHeader("Content-Type", "application/json; charset=UTF-8");
+        return post;
+    }
+
+    private HttpPost newPost(String endpoint, int responseTimeoutMs) {
+        HttpPost post = new HttpPost(flaskBaseUrl + endpoint);
+        post.setConfig(RequestConfig.copy(defaultRequestConfig)
+                .setSocketTimeout(responseTimeoutMs)
+                .build());
+        return post;
+    }
+
+    /**
+     * 응답 본문을 UTF-8 문자열로 읽고 커넥션을 풀에 반환
+     */
+    private ResponseHandler<String> bodyHandler(String endpoint) {
+        return response -> {
+            HttpEntity entity = response.getEntity();
+            String body = entity != null ? EntityUtils.toString(entity, StandardCharsets.UTF_8) : null;
+            int status = response.getStatusLine().getStatusCode();
+            if (status >= 300) {
+                log.error("Flask 응답 오류 - 엔드포인트: {}, 상태: {}, 본문: {}", endpoint, status, body);
+                throw new HttpResponseException(status, "Flask 응답 오류 (" + endpoint + "): " + status);
+            }
+            return body;
+        };
+    }
+
+    private HttpHost flaskHost() {
+        URI uri = URI.create(flaskBaseUrl);
+        int port = uri.getPort();
+        if (port == -1) {
+            port = "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        }
+        return new HttpHost(uri.getHost(), port, uri.getScheme());
+    }
+}
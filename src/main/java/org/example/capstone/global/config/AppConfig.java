@@ -1,29 +0,0 @@
-package org.example.capstone.global.config;
-
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.web.reactive.function.client.WebClient;
-
-import java.nio.charset.StandardCharsets;
-
-@Configuration
-public class AppConfig {
-
-    @Value("${flask.api.base-url}")
-    private String flaskBaseUrl;
-
-    //webclient 설정
-    @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
-                .baseUrl(flaskBaseUrl)
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8")
-                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                .defaultHeader(HttpHeaders.ACCEPT_CHARSET, StandardCharsets.UTF_8.name())
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024)) // 16MB
-                .build();
-    }
-}
@@ -0,0 +1,52 @@
+package org.example.capstone.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC 배치 INSERT/UPDATE 설정
+ * - 재료/조리 단계처럼 한 번에 여러 행을 저장하는 경우 왕복 횟수를 줄임
+ * - MySQL 드라이버는 rewriteBatchedStatements가 켜져 있어야 배치를 다중 행 INSERT로 보냄
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Value("${jpa.batch.size:50}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+
+    /**
+     * 설정 바인딩 이후, 커넥션 풀이 시작되기 전에 MySQL 드라이버 속성 추가
+     * (spring.datasource.hikari.data-source-properties에 이미 지정했다면 그 값을 유지)
+     */
+    @Bean
+    public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof HikariDataSource dataSource
+                        && dataSource.getJdbcUrl() != null
+                        && dataSource.getJdbcUrl().startsWith("jdbc:mysql:")
+                        && !dataSource.getDataSourceProperties().containsKey("rewriteBatchedStatements")) {
+                    dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.capstone.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Open-EntityManager-in-View 설정
+ * 직접 등록하면 스프링 부트 기본 인터셉터는 등록되지 않음
+ */
+@Configuration
+public class JpaWebConfig implements WebMvcConfigurer {
+
+    /**
+     * 요청 중 Flask를 오래 기다리는 경로
+     * OSIV가 적용되면 첫 조회 이후 요청이 끝날 때까지 DB 커넥션을 점유하므로 제외
+     */
+    private static final String[] LONG_RUNNING_PATHS = {
+            "/api/recipe/generate",
+            "/api/recipe/upload"
+    };
+
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns(LONG_RUNNING_PATHS);
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.capstone.global.config;
+
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 멀티파트 업로드 설정
+ * 작은 임계값을 넘는 업로드는 메모리가 아닌 디스크에 저장되도록 함
+ * (spring.servlet.multipart.* 설정 키를 그대로 사용)
+ */
+@Configuration
+public class MultipartConfig {
+
+    @Value("${spring.servlet.multipart.file-size-threshold:64KB}")
+    private DataSize fileSizeThreshold;
+
+    @Value("${spring.servlet.multipart.max-file-size:15MB}")
+    private DataSize maxFileSize;
+
+    @Value("${spring.servlet.multipart.max-request-size:16MB}")
+    private DataSize maxRequestSize;
+
+    @Value("${spring.servlet.multipart.location:}")
+    private String location;
+
+    @Bean
+    public MultipartConfigElement multipartConfigElement() {
+        MultipartConfigFactory factory = new MultipartConfigFactory();
+        factory.setFileSizeThreshold(fileSizeThreshold);
+        factory.setMaxFileSize(maxFileSize);
+        factory.setMaxRequestSize(maxRequestSize);
+        if (!location.isEmpty()) {
+            factory.setLocation(location);
+        }
+        return factory.createMultipartConfig();
+    }
+
+    public long getMaxRequestSizeBytes() {
+        return maxRequestSize.toBytes();
+    }
+}
@@ -3,6 +3,7 @@ package org.example.capstone.global.config;
 import lombok.RequiredArgsConstructor;
 import org.example.capstone.global.filter.JwtFilter;
 import org.example.capstone.global.filter.LoginFilter;
+import org.example.capstone.global.filter.UploadSizeLimitFilter;
 import org.example.capstone.global.util.JwtUtil;
 import org.example.capstone.user.repository.UserRepository;
 import org.springframework.context.annotation.Bean;
@@ -31,6 +32,7 @@ public class SecurityConfig {
     private final JwtUtil jwtUtil;
     private final AuthenticationConfiguration authenticationConfiguration;
     private final UserRepository userRepository;
+    private final MultipartConfig multipartConfig;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -65,6 +67,11 @@ public class SecurityConfig {
                         loginFilter,
                         UsernamePasswordAuthenticationFilter.class
                 )
+                //업로드 크기 초과 요청은 인증/본문 파싱 전에 거절
+                .addFilterBefore(
+                        new UploadSizeLimitFilter(multipartConfig.getMaxRequestSizeBytes()),
+                        JwtFilter.class
+                )
                 .build();
     }
 
@@ -24,6 +24,12 @@ public enum ErrorCode {
 
     RECIPE_NOT_FOUND(HttpStatus.NOT_FOUND, "레시피를 찾을 수 없습니다."),
     NUTRITION_NOT_FOUND(HttpStatus.NOT_FOUND, "영양 성분 정보를 가져올 수 없습니다."),
+    RECIPE_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "레시피 생성 작업을 찾을 수 없습니다."),
+    RECIPE_GENERATION_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "레시피 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    IMAGE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "업로드 이미지 크기가 너무 큽니다."),
+    CHAT_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "채팅 세션을 찾을 수 없습니다."),
+    INVALID_CHAT_SESSION(HttpStatus.BAD_REQUEST, "잘못된 채팅 세션 ID입니다."),
+    FLASK_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "AI 서버에 일시적으로 연결할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // 추가
     SATISFACTION_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 만족도 평가가 존재합니다."),
@@ -7,6 +7,7 @@ import org.example.capstone.global.exception.ErrorResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 @RestControllerAdvice
 @Slf4j
@@ -32,6 +33,16 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, ErrorCode.INVALID_REQUEST.getStatus());
     }
 
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ErrorResponse> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException e) {
+        log.error("업로드 크기 초과: {}", e.getMessage());
+        ErrorResponse response = ErrorResponse.builder()
+                .errorCode(ErrorCode.IMAGE_TOO_LARGE)
+                .errorMessage(ErrorCode.IMAGE_TOO_LARGE.getMessage())
+                .build();
+        return new ResponseEntity<>(response, ErrorCode.IMAGE_TOO_LARGE.getStatus());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneralException(Exception e) {
         log.error("일반 예외 발생: {}", e.getMessage(), e);
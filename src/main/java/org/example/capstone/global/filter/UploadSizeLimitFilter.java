@@ -0,0 +1,42 @@
+package org.example.capstone.global.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 이미지 업로드 요청의 Content-Length를 먼저 확인하여
+ * 허용 크기를 넘으면 본문을 읽기 전에 413으로 거절
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class UploadSizeLimitFilter extends OncePerRequestFilter {
+
+    private final long maxRequestSize;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long contentLength = request.getContentLengthLong();
+
+        if (contentLength > maxRequestSize) {
+            log.warn("업로드 크기 초과로 거절: {} bytes (최대 {} bytes), 경로: {}",
+                    contentLength, maxRequestSize, request.getRequestURI());
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType == null || !contentType.toLowerCase().startsWith("multipart/");
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.capstone.global.jpa;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 애플리케이션에서 시간순 ID를 생성하는 식별자
+ * IDENTITY와 달리 INSERT 전에 ID가 정해지므로 JDBC 배치 INSERT가 가능
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,76 @@
+package org.example.capstone.global.jpa;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * 시간순 64비트 ID 생성기
+ * - 상위 41비트: 기준 시각 이후 경과 밀리초
+ * - 중간 10비트: 노드 ID (capstone.id.node-id 시스템 속성 또는 CAPSTONE_ID_NODE_ID 환경 변수)
+ *   설정이 없으면 단일 서버로 보고 0 사용 (여러 서버 운영 시 미설정이면 TimeOrderedIdNodeCheck가 기동 중단)
+ * - 하위 12비트: 같은 밀리초 안의 순번
+ * 같은 노드에서는 항상 증가하므로 기존 IDENTITY 값보다 크고 저장 순서대로 정렬됨
+ */
+public class TimeOrderedIdGenerator implements IdentifierGenerator {
+
+    // 2025-01-01T00:00:00Z
+    private static final long EPOCH_MILLIS = 1735689600000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final String CONFIGURED_NODE_ID =
+            System.getProperty("capstone.id.node-id", System.getenv("CAPSTONE_ID_NODE_ID"));
+    private static final long NODE_ID = resolveNodeId();
+
+    // 모든 엔티티가 하나의 시계를 공유
+    private static final Object LOCK = new Object();
+    private static long lastMillis = -1L;
+    private static long sequence = 0L;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return nextId();
+    }
+
+    static long nextId() {
+        synchronized (LOCK) {
+            // 시계가 뒤로 가더라도 마지막 시각을 기준으로 계속 증가
+            long now = Math.max(System.currentTimeMillis(), lastMillis);
+            if (now == lastMillis) {
+                sequence = (sequence + 1) & SEQUENCE_MASK;
+                if (sequence == 0) {
+                    // 같은 밀리초의 순번을 모두 사용하면 다음 밀리초로 넘김
+                    now = lastMillis + 1;
+                }
+            } else {
+                sequence = 0;
+            }
+            lastMillis = now;
+            return ((now - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS))
+                    | (NODE_ID << SEQUENCE_BITS)
+                    | sequence;
+        }
+    }
+
+    /**
+     * 노드 ID가 명시적으로 설정되었는지 (여러 서버 운영 시 필수)
+     */
+    static boolean isNodeIdConfigured() {
+        return CONFIGURED_NODE_ID != null && !CONFIGURED_NODE_ID.isBlank();
+    }
+
+    private static long resolveNodeId() {
+        if (!isNodeIdConfigured()) {
+            // 해시 등으로 추정하면 서버끼리 같은 값이 나와 ID가 겹칠 수 있으므로 단일 서버 값만 사용
+            return 0L;
+        }
+        long nodeId = Long.parseLong(CONFIGURED_NODE_ID.trim());
+        if (nodeId < 0 || nodeId > MAX_NODE) {
+            throw new IllegalStateException("capstone.id.node-id는 0~" + MAX_NODE + " 범위여야 합니다: " + nodeId);
+        }
+        return nodeId;
+    }
+}
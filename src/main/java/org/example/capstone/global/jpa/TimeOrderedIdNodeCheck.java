@@ -0,0 +1,36 @@
+package org.example.capstone.global.jpa;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.capstone.chat.config.ChatBrokerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시간순 ID의 노드 ID 설정 확인
+ * - 외부 브로커 중계(chat.broker.mode=relay)는 여러 서버 운영이므로 노드 ID 설정이 없으면 기동 중단
+ *   (모든 서버가 노드 ID 0을 쓰면 같은 밀리초의 ID가 겹쳐 INSERT가 기본 키 충돌로 실패)
+ * - 단일 서버에서는 설정이 없어도 노드 ID 0으로 동작
+ */
+@Component
+@Slf4j
+public class TimeOrderedIdNodeCheck {
+
+    private final String brokerMode;
+
+    public TimeOrderedIdNodeCheck(@Value("${chat.broker.mode:simple}") String brokerMode) {
+        this.brokerMode = brokerMode;
+    }
+
+    @PostConstruct
+    public void verify() {
+        if (TimeOrderedIdGenerator.isNodeIdConfigured()) {
+            return;
+        }
+        if (ChatBrokerConfig.MODE_RELAY.equalsIgnoreCase(brokerMode)) {
+            throw new IllegalStateException("여러 서버 운영(chat.broker.mode=relay) 시 서버마다 다른 "
+                    + "capstone.id.node-id(CAPSTONE_ID_NODE_ID)를 설정해야 합니다.");
+        }
+        log.info("capstone.id.node-id 미설정 - 단일 서버로 보고 노드 ID 0 사용");
+    }
+}
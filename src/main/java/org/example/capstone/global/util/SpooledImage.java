@@ -0,0 +1,38 @@
+package org.example.capstone.global.util;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 디스크에 임시 저장된 업로드 이미지
+ * close() 호출 시 임시 파일 삭제
+ */
+@Getter
+@Slf4j
+public class SpooledImage implements AutoCloseable {
+
+    private final Path path;
+    private final String originalFilename;
+    private final String contentType;
+    private final long size;
+
+    public SpooledImage(Path path, String originalFilename, String contentType, long size) {
+        this.path = path;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.size = size;
+    }
+
+    @Override
+    public void close() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 이미지 파일 삭제 실패: {}", path, e);
+        }
+    }
+}
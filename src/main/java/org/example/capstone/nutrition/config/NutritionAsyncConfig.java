@@ -0,0 +1,59 @@
+package org.example.capstone.nutrition.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class NutritionAsyncConfig {
+
+    @Value("${nutrition.precompute.pool-size:2}")
+    private int precomputePoolSize;
+
+    @Value("${nutrition.precompute.queue-capacity:100}")
+    private int precomputeQueueCapacity;
+
+    @Value("${nutrition.batcher.max-in-flight:4}")
+    private int batcherMaxInFlight;
+
+    /**
+     * 영양 정보 미리 계산 전용 스레드 풀
+     * - 사용자 요청보다 우선순위가 낮도록 스레드 수를 작게 두고 최저 우선순위로 실행
+     *   (Flask 커넥션도 최대 스레드 수만큼만 사용)
+     * - 큐가 가득 차면 TaskRejectedException 발생 → 작업을 버리고 조회 시점 계산으로 대체
+     */
+    @Bean
+    public ThreadPoolTaskExecutor nutritionPrecomputeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(precomputePoolSize);
+        executor.setMaxPoolSize(precomputePoolSize);
+        executor.setQueueCapacity(precomputeQueueCapacity);
+        executor.setThreadNamePrefix("nutrition-precompute-");
+        executor.setThreadPriority(Thread.MIN_PRIORITY);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 묶음 영양 정보 요청(Flask 일괄 호출) 전송 전용 스레드 풀
+     * - 스레드 수 = 동시에 진행할 수 있는 일괄 호출 수
+     * - 모두 사용 중이면 호출 스레드(묶음 수집 스레드)에서 직접 전송하여 자연스럽게 수집 속도를 늦춤
+     */
+    @Bean
+    public ThreadPoolTaskExecutor nutritionBatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(batcherMaxInFlight);
+        executor.setMaxPoolSize(batcherMaxInFlight);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("nutrition-batch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
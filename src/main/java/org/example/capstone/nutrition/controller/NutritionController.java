@@ -2,6 +2,8 @@ package org.example.capstone.nutrition.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.capstone.nutrition.dto.NutritionBatchRequest;
+import org.example.capstone.nutrition.dto.NutritionBatchResponse;
 import org.example.capstone.nutrition.dto.NutritionDTO;
 import org.example.capstone.nutrition.service.NutritionService;
 import org.example.capstone.user.login.dto.CustomUserDetails;
@@ -9,8 +11,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequiredArgsConstructor
 @Slf4j
@@ -18,6 +25,9 @@ public class NutritionController {
 
     private final NutritionService nutritionService;
 
+    // 한 번에 조회할 수 있는 최대 레시피 수
+    private static final int MAX_BATCH_RECIPES = 100;
+
     /**
      * 영양 정보 조회 API
      * 어떤 오류가 발생해도 사용자에게는 응답 반환
@@ -39,20 +49,43 @@ public class NutritionController {
             // 오류 처리 및 로깅
             log.error("영양정보 요청 처리 중 오류: {}", e.getMessage());
 
-            // 오류 발생해도 기본값 반환
-            result = NutritionDTO.builder()
-                    .calories(500.0)
-                    .carbohydrate(30.0)
-                    .protein(25.0)
-                    .fat(15.0)
-                    .sugar(5.0)
-                    .sodium(400.0)
-                    .saturatedFat(3.0)
-                    .transFat(0.0)
-                    .cholesterol(50.0)
-                    .build();
+            // 오류 발생해도 마지막 저장 값(stale) 또는 기본값(estimated) 반환
+            result = nutritionService.lastKnownOrDefault(recipeId);
+        }
+
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 여러 레시피 영양 정보 일괄 조회 API (레시피 목록 화면용)
+     * 저장된 값은 한 번에 조회하고, 없는 값은 한 번의 Flask 요청으로 계산
+     */
+    @PostMapping("/api/nutrition/batch")
+    public ResponseEntity<?> getNutritionBatch(
+            @RequestBody NutritionBatchRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        List<Long> recipeIds = request.getRecipeIds();
+        int count = recipeIds != null ? recipeIds.size() : 0;
+        log.info("영양정보 일괄 요청 - 레시피 {}개, 사용자: {}",
+                count, userDetails != null ? userDetails.getUsername() : "인증되지 않음");
+
+        if (count == 0) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", "레시피 ID 목록이 비어 있습니다.",
+                    "error", "MISSING_REQUIRED_FIELDS"
+            ));
+        }
+        if (count > MAX_BATCH_RECIPES) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", String.format("한 번에 최대 %d개 레시피까지 조회할 수 있습니다.", MAX_BATCH_RECIPES),
+                    "error", "TOO_MANY_RECIPES"
+            ));
         }
 
+        NutritionBatchResponse result = nutritionService.getNutritionBatch(recipeIds);
         return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+}
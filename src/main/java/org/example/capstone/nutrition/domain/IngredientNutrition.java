@@ -0,0 +1,51 @@
+package org.example.capstone.nutrition.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.capstone.global.jpa.TimeOrderedId;
+import org.example.capstone.recipe.domain.Recipe;
+
+/**
+ * 재료 한 줄의 영양 정보 기여분
+ * 레시피 합계(Nutrition)는 이 행들의 합으로 다시 계산되며, 대체 재료 적용 시 바뀐 줄의 행만 삭제/추가
+ */
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "ingredient_nutrition", indexes = {
+        @Index(name = "idx_ingredient_nutrition_recipe", columnList = "recipe_id"),
+        @Index(name = "idx_ingredient_nutrition_line_key", columnList = "line_key")
+})
+public class IngredientNutrition {
+
+    // 배치 INSERT를 위해 애플리케이션에서 ID 생성
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "recipe_id")
+    private Recipe recipe;
+
+    @Column(name = "line_key", length = 512)
+    private String lineKey;         //정규화된 (재료명, 양)
+
+    private String ingredientName;  //재료명
+    private String amount;          //양
+    private String source;          //계산 출처 (LOCAL: 성분표, FLASK: Flask 계산)
+
+    private Double calories;        //칼로리
+    private Double carbohydrate;    //탄수화물
+    private Double protein;    //단백질
+    private Double fat;    //지방
+    private Double sugar;   //당
+    private Double sodium;   //나트륨
+    private Double saturatedFat;    //포화지방
+    private Double transFat;    //트랜스지방
+    private Double cholesterol;     //콜레스트롤
+}
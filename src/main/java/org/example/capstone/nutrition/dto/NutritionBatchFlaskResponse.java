@@ -0,0 +1,18 @@
+package org.example.capstone.nutrition.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Flask 일괄 영양 정보 응답 - 요청 항목 ID별 결과 (계산하지 못한 항목은 빠질 수 있음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NutritionBatchFlaskResponse {
+
+    private Map<String, NutritionDTO> results;
+}
@@ -0,0 +1,15 @@
+package org.example.capstone.nutrition.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NutritionBatchRequest {
+
+    private List<Long> recipeIds;   //영양 정보를 조회할 레시피 ID 목록
+}
@@ -0,0 +1,19 @@
+package org.example.capstone.nutrition.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NutritionBatchResponse {
+
+    private Map<Long, NutritionDTO> nutritions;     //레시피 ID별 영양 정보 (요청 순서 유지)
+    private List<Long> notFoundRecipeIds;           //존재하지 않는 레시피 ID
+}
@@ -6,8 +6,10 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class NutritionDTO {
@@ -21,4 +23,10 @@ public class NutritionDTO {
     private Double saturatedFat;    //포화지방
     private Double transFat;    //트랜스지방
     private Double cholesterol;     //콜레스트롤
+
+    private List<String> resolvedIngredients;      //영양 정보를 계산한 재료 (로컬 성분표 또는 Flask)
+    private List<String> unresolvedIngredients;    //Flask로도 계산하지 못해 합계에서 빠진 재료
+
+    private boolean stale;        //Flask 장애로 재계산하지 못해 마지막으로 저장된 값을 반환한 경우
+    private boolean estimated;    //일부/전체 재료를 계산하지 못해 추정치(계산된 재료만의 합계 또는 기본값)를 반환한 경우
 }
@@ -0,0 +1,30 @@
+package org.example.capstone.nutrition.repository;
+
+import org.example.capstone.nutrition.domain.IngredientNutrition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface IngredientNutritionRepository extends JpaRepository<IngredientNutrition, Long> {
+
+    /**
+     * 레시피의 재료별 영양 정보 기여분
+     * @param recipeId 레시피 ID
+     * @return 재료별 기여분 목록
+     */
+    @Query("SELECT n FROM IngredientNutrition n WHERE n.recipe.id = :recipeId")
+    List<IngredientNutrition> findByRecipeId(@Param("recipeId") Long recipeId);
+
+    /**
+     * 같은 재료 줄(정규화된 이름/양)의 가장 최근 기여분 - 다른 레시피에서 계산해 둔 값 재사용
+     * ID가 시간순이므로 키별 최대 ID 한 행만 조회
+     * @param lineKeys 재료 줄 키 목록
+     * @return 키별 기여분 (키당 한 행)
+     */
+    @Query("SELECT n FROM IngredientNutrition n WHERE n.id IN ("
+            + "SELECT MAX(m.id) FROM IngredientNutrition m WHERE m.lineKey IN :lineKeys GROUP BY m.lineKey)")
+    List<IngredientNutrition> findLatestByLineKeyIn(@Param("lineKeys") Collection<String> lineKeys);
+}
@@ -2,9 +2,12 @@ package org.example.capstone.nutrition.repository;
 
 import org.example.capstone.nutrition.domain.Nutrition;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface NutritionRepository extends JpaRepository<Nutrition, Long> {
@@ -16,4 +19,37 @@ public interface NutritionRepository extends JpaRepository<Nutrition, Long> {
      */
     @Query("SELECT n FROM Nutrition n WHERE n.recipe.id = :recipeId")
     Optional<Nutrition> findByRecipeId(@Param("recipeId") Long recipeId);
-}
\ No newline at end of file
+
+    /**
+     * 여러 레시피의 영양 정보를 한 번의 IN 쿼리로 찾기 (레시피 ID만 쓰지만 즉시 로딩 연관이라 함께 조회해 레시피별 추가 쿼리를 막음)
+     * @param recipeIds 레시피 ID 목록
+     * @return 저장된 영양 정보 목록
+     */
+    @Query("SELECT n FROM Nutrition n JOIN FETCH n.recipe r WHERE r.id IN :recipeIds")
+    List<Nutrition> findByRecipeIdIn(@Param("recipeIds") Collection<Long> recipeIds);
+
+    /**
+     * 영양 정보 저장 또는 갱신 - recipe_id 유니크 키 기준 단일 문장 (MySQL)
+     * 동시에 저장해도 유니크 제약 충돌 없이 마지막 값으로 수렴
+     * @return 영향받은 행 수 (MySQL: 삽입 1, 갱신 2, 값이 같으면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO nutrition (recipe_id, calories, carbohydrate, protein, fat, sugar, sodium, " +
+            "saturated_fat, trans_fat, cholesterol) " +
+            "VALUES (:recipeId, :calories, :carbohydrate, :protein, :fat, :sugar, :sodium, " +
+            ":saturatedFat, :transFat, :cholesterol) " +
+            "ON DUPLICATE KEY UPDATE calories = VALUES(calories), carbohydrate = VALUES(carbohydrate), " +
+            "protein = VALUES(protein), fat = VALUES(fat), sugar = VALUES(sugar), sodium = VALUES(sodium), " +
+            "saturated_fat = VALUES(saturated_fat), trans_fat = VALUES(trans_fat), cholesterol = VALUES(cholesterol)",
+            nativeQuery = true)
+    int upsert(@Param("recipeId") Long recipeId,
+               @Param("calories") Double calories,
+               @Param("carbohydrate") Double carbohydrate,
+               @Param("protein") Double protein,
+               @Param("fat") Double fat,
+               @Param("sugar") Double sugar,
+               @Param("sodium") Double sodium,
+               @Param("saturatedFat") Double saturatedFat,
+               @Param("transFat") Double transFat,
+               @Param("cholesterol") Double cholesterol);
+}
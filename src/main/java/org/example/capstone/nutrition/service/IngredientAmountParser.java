@@ -0,0 +1,163 @@
+package org.example.capstone.nutrition.service;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 재료 양 표기 해석 ("200g", "1큰술", "반 개", "1과 1/2컵", "2~3쪽", "약간")
+ * - 무게(g), 부피(ml), 개수 중 하나로 변환
+ * - 해석할 수 없거나 "적당량"처럼 양을 알 수 없으면 null
+ */
+final class IngredientAmountParser {
+
+    enum Unit { GRAM, MILLILITER, PIECE }
+
+    record Quantity(double value, Unit unit) {
+    }
+
+    // "1과 1/2", "1 1/2", "1/2", "0.5", "200"
+    private static final Pattern NUMBER = Pattern.compile(
+            "^(?:(\\d+(?:\\.\\d+)?)\\s*(?:과|와|\\s)\\s*(?=\\d+\\s*/))?(\\d+(?:\\.\\d+)?)(?:\\s*/\\s*(\\d+))?");
+
+    // "2~3", "2-3" → 평균값
+    private static final Pattern RANGE = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*[~\\-]\\s*(\\d+(?:\\.\\d+)?)");
+
+    // 숫자 대신 쓰는 우리말 수량 (긴 것부터 검사)
+    private static final String[][] NATIVE_NUMBERS = {
+            {"다섯", "5"}, {"한두", "1.5"}, {"두세", "2.5"}, {"하나", "1"}, {"둘", "2"}, {"셋", "3"}, {"넷", "4"},
+            {"반", "0.5"}, {"한", "1"}, {"두", "2"}, {"세", "3"}, {"네", "4"}
+    };
+
+    // 아주 적은 양 (소금/후추 등) - 1g으로 계산
+    private static final String[] PINCH = {"약간", "조금", "소량", "꼬집", "톡톡", "한꼬집"};
+
+    // 단위, 기준 단위, 환산 계수 (앞부분이 겹치는 단위는 긴 것을 먼저 둠)
+    private static final Object[][] UNITS = {
+            {"kg", Unit.GRAM, 1000.0}, {"킬로그램", Unit.GRAM, 1000.0}, {"킬로", Unit.GRAM, 1000.0},
+            {"mg", Unit.GRAM, 0.001}, {"그램", Unit.GRAM, 1.0}, {"g", Unit.GRAM, 1.0},
+            {"근", Unit.GRAM, 600.0}, {"oz", Unit.GRAM, 28.35}, {"lb", Unit.GRAM, 453.6},
+            {"ml", Unit.MILLILITER, 1.0}, {"cc", Unit.MILLILITER, 1.0}, {"밀리리터", Unit.MILLILITER, 1.0},
+            {"리터", Unit.MILLILITER, 1000.0}, {"l", Unit.MILLILITER, 1000.0},
+            {"작은술", Unit.MILLILITER, 5.0}, {"작은스푼", Unit.MILLILITER, 5.0}, {"티스푼", Unit.MILLILITER, 5.0},
+            {"찻숟가락", Unit.MILLILITER, 5.0}, {"tsp", Unit.MILLILITER, 5.0},
+            {"큰술", Unit.MILLILITER, 15.0}, {"큰스푼", Unit.MILLILITER, 15.0}, {"tbsp", Unit.MILLILITER, 15.0},
+            {"밥숟가락", Unit.MILLILITER, 15.0}, {"숟가락", Unit.MILLILITER, 15.0}, {"숟갈", Unit.MILLILITER, 15.0},
+            {"스푼", Unit.MILLILITER, 15.0}, {"수저", Unit.MILLILITER, 15.0},
+            {"종이컵", Unit.MILLILITER, 180.0}, {"컵", Unit.MILLILITER, 200.0}, {"cup", Unit.MILLILITER, 200.0},
+            {"개", Unit.PIECE, 1.0}, {"쪽", Unit.PIECE, 1.0}, {"알", Unit.PIECE, 1.0}, {"모", Unit.PIECE, 1.0},
+            {"장", Unit.PIECE, 1.0}, {"뿌리", Unit.PIECE, 1.0}, {"대", Unit.PIECE, 1.0}, {"마리", Unit.PIECE, 1.0},
+            {"톨", Unit.PIECE, 1.0}, {"포기", Unit.PIECE, 1.0}, {"줄기", Unit.PIECE, 1.0}, {"송이", Unit.PIECE, 1.0},
+            {"봉지", Unit.PIECE, 1.0}, {"봉", Unit.PIECE, 1.0}, {"팩", Unit.PIECE, 1.0}, {"캔", Unit.PIECE, 1.0},
+            {"통", Unit.PIECE, 1.0}, {"덩이", Unit.PIECE, 1.0}, {"조각", Unit.PIECE, 1.0}, {"공기", Unit.PIECE, 1.0}
+    };
+
+    private IngredientAmountParser() {
+    }
+
+    static Quantity parse(String amount) {
+        if (amount == null || amount.isBlank()) {
+            return null;
+        }
+        String text = amount.trim()
+                .replace("½", "1/2").replace("¼", "1/4").replace("¾", "3/4").replace("⅓", "1/3").replace("⅔", "2/3");
+
+        // 대문자 T/t는 큰술/작은술 약어 (소문자 변환 전에 확인)
+        String compact = text.replaceAll("\\s+", "");
+        if (compact.matches("[\\d./]+T")) {
+            return scaled(number(compact.substring(0, compact.length() - 1)), Unit.MILLILITER, 15.0);
+        }
+        if (compact.matches("[\\d./]+t")) {
+            return scaled(number(compact.substring(0, compact.length() - 1)), Unit.MILLILITER, 5.0);
+        }
+
+        text = text.toLowerCase(Locale.ROOT);
+        for (String pinch : PINCH) {
+            if (compact.contains(pinch)) {
+                return new Quantity(1.0, Unit.GRAM);
+            }
+        }
+
+        // "약 200g", "대략 1컵"
+        text = text.replaceFirst("^(약|대략)\\s*", "");
+
+        Matcher range = RANGE.matcher(text);
+        if (range.find()) {
+            double average = (Double.parseDouble(range.group(1)) + Double.parseDouble(range.group(2))) / 2;
+            text = text.substring(0, range.start()) + average + text.substring(range.end());
+        }
+
+        double value;
+        String rest;
+        Matcher number = NUMBER.matcher(text);
+        if (number.find()) {
+            value = Double.parseDouble(number.group(2));
+            if (number.group(3) != null) {
+                double denominator = Double.parseDouble(number.group(3));
+                if (denominator == 0) {
+                    return null;
+                }
+                value /= denominator;
+            }
+            if (number.group(1) != null) {
+                value += Double.parseDouble(number.group(1));
+            }
+            rest = text.substring(number.end());
+        } else {
+            String[] nativeNumber = nativeNumber(text);
+            if (nativeNumber == null) {
+                return null;
+            }
+            value = Double.parseDouble(nativeNumber[1]);
+            rest = text.substring(nativeNumber[0].length());
+        }
+
+        rest = rest.replaceAll("\\s+", "");
+        // "1개 반" → 1.5개
+        if (rest.endsWith("반") && rest.length() > 1) {
+            value += 0.5;
+            rest = rest.substring(0, rest.length() - 1);
+        }
+        // "(약 200g)" 같은 부가 설명 제거
+        rest = rest.replaceAll("\\(.*?\\)", "");
+
+        if (rest.isEmpty()) {
+            return new Quantity(value, Unit.PIECE);
+        }
+        for (Object[] unit : UNITS) {
+            if (rest.startsWith((String) unit[0])) {
+                return scaled(value, (Unit) unit[1], (Double) unit[2]);
+            }
+        }
+        return null;
+    }
+
+    private static Quantity scaled(Double value, Unit unit, double factor) {
+        return value == null ? null : new Quantity(value * factor, unit);
+    }
+
+    private static Double number(String text) {
+        Matcher matcher = NUMBER.matcher(text);
+        if (!matcher.matches()) {
+            return null;
+        }
+        double value = Double.parseDouble(matcher.group(2));
+        if (matcher.group(3) != null) {
+            double denominator = Double.parseDouble(matcher.group(3));
+            if (denominator == 0) {
+                return null;
+            }
+            value /= denominator;
+        }
+        return matcher.group(1) != null ? value + Double.parseDouble(matcher.group(1)) : value;
+    }
+
+    private static String[] nativeNumber(String text) {
+        for (String[] nativeNumber : NATIVE_NUMBERS) {
+            if (text.startsWith(nativeNumber[0])) {
+                return nativeNumber;
+            }
+        }
+        return null;
+    }
+}
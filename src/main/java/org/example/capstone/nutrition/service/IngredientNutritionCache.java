@@ -0,0 +1,83 @@
+package org.example.capstone.nutrition.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.capstone.global.cache.LruTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 재료 줄별 영양 정보 캐시
+ * - 키: 정규화된 (재료명, 양) - 띄어쓰기/대소문자 차이는 같은 줄로 취급
+ * - 값: 영양소별 값 (LocalNutritionEngine 영양소 순서)과 계산 출처
+ * - 여러 레시피에 같은 재료 줄이 있으면 한 번만 계산
+ */
+@Component
+public class IngredientNutritionCache {
+
+    private final LruTtlCache<String, LineNutrition> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public IngredientNutritionCache(MeterRegistry meterRegistry,
+                                    @Value("${nutrition.line-cache.max-size:20000}") int maxSize,
+                                    @Value("${nutrition.line-cache.ttl-hours:24}") long ttlHours) {
+        this.cache = new LruTtlCache<>(maxSize, Duration.ofHours(ttlHours));
+        this.hitCounter = Counter.builder("nutrition.line.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("nutrition.line.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("nutrition.line.cache.size", cache, LruTtlCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재료 줄 키 ("돼지고기 | 200 g" → "돼지고기|200g")
+     */
+    public static String keyOf(String name, String amount) {
+        return normalize(name) + "|" + normalize(amount);
+    }
+
+    /**
+     * 조회 (없으면 null, 호출자가 수정해도 캐시에 영향 없도록 복사본 반환)
+     */
+    public LineNutrition get(String key) {
+        LineNutrition line = cache.get(key);
+        if (line == null) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return line.copy();
+    }
+
+    public void put(String key, LineNutrition line) {
+        cache.put(key, line.copy());
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 재료 한 줄의 영양 정보
+     *
+     * @param values 영양소별 값 (LocalNutritionEngine 영양소 순서)
+     * @param source 계산 출처 (LOCAL: 성분표, FLASK: Flask 계산)
+     */
+    public record LineNutrition(double[] values, String source) {
+
+        public static final String LOCAL = "LOCAL";
+        public static final String FLASK = "FLASK";
+
+        LineNutrition copy() {
+            return new LineNutrition(values.clone(), source);
+        }
+    }
+}
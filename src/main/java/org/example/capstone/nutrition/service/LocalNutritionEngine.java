@@ -0,0 +1,235 @@
+package org.example.capstone.nutrition.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.capstone.recipe.domain.Ingredient;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 영양 정보 계산기
+ * - 식품 100g당 영양 성분표(nutrition/nutrient-table.csv)를 영양소별 double[] 열로 메모리에 보관
+ * - 재료명 → 식품 번호, 양 표기 → g으로 변환하여 합산 (재료 하나당 배열 조회 몇 번)
+ * - 성분표에서 찾지 못했거나 양을 알 수 없는 재료는 null을 돌려주어 호출자가 Flask에 요청
+ */
+@Component
+@Slf4j
+public class LocalNutritionEngine {
+
+    private static final String TABLE_LOCATION = "nutrition/nutrient-table.csv";
+
+    // 영양소 열 순서 (CSV 열 순서와 동일)
+    static final int CALORIES = 0;
+    static final int CARBOHYDRATE = 1;
+    static final int PROTEIN = 2;
+    static final int FAT = 3;
+    static final int SUGAR = 4;
+    static final int SODIUM = 5;
+    static final int SATURATED_FAT = 6;
+    static final int TRANS_FAT = 7;
+    static final int CHOLESTEROL = 8;
+    static final int NUTRIENT_COUNT = 9;
+
+    private static final int NOT_FOUND = -1;
+    private static final int RESOLVE_CACHE_LIMIT = 10_000;
+
+    // 재료명 뒤에 붙으면 원재료가 아닌 가공품이 되는 말 (멸치액젓 ≠ 멸치, 새우젓 ≠ 새우, 참치액 ≠ 참치)
+    private static final String[] PROCESSED_SUFFIXES = {"젓", "액", "즙", "가루", "분말", "소스", "육수", "기름", "오일", "엑기스"};
+
+    // 영양소별 열 [영양소][식품 번호] - 100g 기준
+    private double[][] columns = new double[NUTRIENT_COUNT][0];
+    private double[] pieceGrams = new double[0];     // 1개당 중량 (모르면 NaN)
+    private double[] densities = new double[0];      // g/ml (모르면 1.0)
+
+    // 정규화된 이름/별칭 → 식품 번호
+    private Map<String, Integer> nameIndex = Map.of();
+    // 재료명 안에 포함되는지 검사할 이름 (두 글자 이상, 긴 것부터, 길이가 같으면 가나다순)
+    private List<String> containedNames = List.of();
+    // 재료명 → 식품 번호 조회 결과
+    private final Map<String, Integer> resolveCache = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void load() {
+        ClassPathResource resource = new ClassPathResource(TABLE_LOCATION);
+        if (!resource.exists()) {
+            log.warn("영양 성분표가 없어 로컬 영양 계산을 사용하지 않음: {}", TABLE_LOCATION);
+            return;
+        }
+
+        List<String[]> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] row = line.split(",", -1);
+                if (row.length >= 2 + NUTRIENT_COUNT) {
+                    rows.add(row);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("영양 성분표 로딩 실패 (로컬 영양 계산 사용 안 함): {}", e.getMessage());
+            return;
+        }
+
+        int size = rows.size();
+        double[][] loadedColumns = new double[NUTRIENT_COUNT][size];
+        double[] loadedPieceGrams = new double[size];
+        double[] loadedDensities = new double[size];
+        Map<String, Integer> loadedIndex = new HashMap<>();
+
+        for (int id = 0; id < size; id++) {
+            String[] row = rows.get(id);
+            for (int n = 0; n < NUTRIENT_COUNT; n++) {
+                loadedColumns[n][id] = parseDouble(column(row, 2 + n), 0.0);
+            }
+            loadedPieceGrams[id] = parseDouble(column(row, 2 + NUTRIENT_COUNT), Double.NaN);
+            loadedDensities[id] = parseDouble(column(row, 3 + NUTRIENT_COUNT), 1.0);
+
+            loadedIndex.putIfAbsent(normalize(row[0]), id);
+            for (String alias : column(row, 1).split(";")) {
+                if (!alias.isBlank()) {
+                    loadedIndex.putIfAbsent(normalize(alias), id);
+                }
+            }
+        }
+
+        this.columns = loadedColumns;
+        this.pieceGrams = loadedPieceGrams;
+        this.densities = loadedDensities;
+        this.nameIndex = loadedIndex;
+        this.containedNames = loadedIndex.keySet().stream()
+                .filter(name -> name.length() >= 2)
+                .sorted(Comparator.comparingInt(String::length).reversed().thenComparing(Comparator.naturalOrder()))
+                .toList();
+        resolveCache.clear();
+
+        log.info("영양 성분표 로딩 완료 - 식품 {}개, 이름/별칭 {}개", size, loadedIndex.size());
+    }
+
+    /**
+     * 재료 한 줄의 영양소별 값 (성분표에 없거나 양을 알 수 없으면 null)
+     */
+    public double[] contributionOf(Ingredient ingredient) {
+        int id = resolve(ingredient.getName());
+        double grams = id == NOT_FOUND ? Double.NaN : grams(id, ingredient.getAmount());
+        if (Double.isNaN(grams)) {
+            return null;
+        }
+        double factor = grams / 100.0;
+        double[] contribution = new double[NUTRIENT_COUNT];
+        for (int n = 0; n < NUTRIENT_COUNT; n++) {
+            contribution[n] = columns[n][id] * factor;
+        }
+        return contribution;
+    }
+
+    /**
+     * 재료명 → 식품 번호
+     * - 정확히 일치하는 이름 우선
+     * - 없으면 재료명에 포함된 가장 긴 이름 (바로 뒤에 가공품을 뜻하는 말이 붙은 위치는 제외)
+     * - 길이가 같으면 뒤쪽에 있는 이름 (우리말 복합어는 뒤가 중심어), 그래도 같으면 가나다순
+     */
+    int resolve(String ingredientName) {
+        if (ingredientName == null || ingredientName.isBlank()) {
+            return NOT_FOUND;
+        }
+        String name = normalize(ingredientName);
+        if (resolveCache.size() > RESOLVE_CACHE_LIMIT) {
+            resolveCache.clear();
+        }
+        return resolveCache.computeIfAbsent(name, key -> {
+            Integer exact = nameIndex.get(key);
+            if (exact != null) {
+                return exact;
+            }
+            String best = null;
+            int bestEnd = -1;
+            for (String candidate : containedNames) {
+                if (best != null && candidate.length() < best.length()) {
+                    break;
+                }
+                int end = lastBaseMatchEnd(key, candidate);
+                if (end > bestEnd) {
+                    best = candidate;
+                    bestEnd = end;
+                }
+            }
+            return best != null ? nameIndex.get(best) : NOT_FOUND;
+        });
+    }
+
+    /**
+     * 재료명 안에서 원재료로 쓰인 마지막 위치의 끝 (없으면 -1)
+     */
+    private static int lastBaseMatchEnd(String name, String candidate) {
+        int start = name.lastIndexOf(candidate);
+        while (start >= 0) {
+            int end = start + candidate.length();
+            if (!isProcessedSuffix(name, end)) {
+                return end;
+            }
+            start = start == 0 ? -1 : name.lastIndexOf(candidate, start - 1);
+        }
+        return -1;
+    }
+
+    private static boolean isProcessedSuffix(String name, int offset) {
+        for (String suffix : PROCESSED_SUFFIXES) {
+            if (name.startsWith(suffix, offset)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 양 표기 → g (알 수 없으면 NaN)
+     */
+    private double grams(int id, String amount) {
+        IngredientAmountParser.Quantity quantity = IngredientAmountParser.parse(amount);
+        if (quantity == null) {
+            return Double.NaN;
+        }
+        return switch (quantity.unit()) {
+            case GRAM -> quantity.value();
+            case MILLILITER -> quantity.value() * densities[id];
+            case PIECE -> quantity.value() * pieceGrams[id];
+        };
+    }
+
+    static String labelOf(Ingredient ingredient) {
+        String amount = ingredient.getAmount();
+        return amount == null || amount.isBlank() ? ingredient.getName() : ingredient.getName() + " " + amount;
+    }
+
+    private static String normalize(String value) {
+        // 괄호 안 부가 설명 제거 ("돼지고기(목살)" → "돼지고기")
+        return value.replaceAll("\\(.*?\\)", "").replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static String column(String[] row, int index) {
+        return index < row.length ? row[index].trim() : "";
+    }
+
+    private static double parseDouble(String value, double defaultValue) {
+        try {
+            return value.isEmpty() ? defaultValue : Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
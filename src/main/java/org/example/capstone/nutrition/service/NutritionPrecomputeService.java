@@ -0,0 +1,169 @@
+package org.example.capstone.nutrition.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 영양 정보 미리 계산
+ * - 레시피 저장/대체 재료 반영이 커밋된 직후 백그라운드에서 영양 정보를 계산하여 저장
+ * - 사용자가 레시피를 열 때는 대부분 저장된 값을 바로 반환
+ * - 같은 레시피의 작업이 이미 대기 중이면 새로 등록하지 않음 (재계산 요청은 기존 작업에 합침)
+ * - 대기열이 가득 차면 작업을 버림 → 조회 시점 계산으로 대체
+ */
+@Service
+@Slf4j
+public class NutritionPrecomputeService {
+
+    private final NutritionService nutritionService;
+    private final ThreadPoolTaskExecutor executor;
+
+    // 대기 중인 작업 (레시피 ID → 작업)
+    private final Map<Long, PendingJob> pending = new ConcurrentHashMap<>();
+
+    private final Timer lagTimer;
+    private final Timer computeTimer;
+    private final Counter rejectedCounter;
+    private final Counter deduplicatedCounter;
+    private final Counter failedCounter;
+
+    public NutritionPrecomputeService(NutritionService nutritionService,
+                                      @Qualifier("nutritionPrecomputeExecutor") ThreadPoolTaskExecutor executor,
+                                      MeterRegistry meterRegistry) {
+        this.nutritionService = nutritionService;
+        this.executor = executor;
+        this.lagTimer = Timer.builder("nutrition.precompute.lag")
+                .description("커밋 후 작업 등록부터 실행 시작까지 대기 시간")
+                .register(meterRegistry);
+        this.computeTimer = Timer.builder("nutrition.precompute.time")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("nutrition.precompute.jobs")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.deduplicatedCounter = Counter.builder("nutrition.precompute.jobs")
+                .tag("result", "deduplicated")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("nutrition.precompute.jobs")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        Gauge.builder("nutrition.precompute.queue.depth", pending, Map::size)
+                .description("실행을 기다리는 영양 정보 계산 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("nutrition.precompute.oldest.lag.seconds", this, NutritionPrecomputeService::oldestLagSeconds)
+                .description("가장 오래 기다린 작업의 대기 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새로 저장된 레시피의 영양 정보 계산 등록 (이미 저장된 값이 있으면 재사용)
+     */
+    public void scheduleAfterCommit(Long recipeId) {
+        afterCommit(recipeId, false);
+    }
+
+    /**
+     * 재료가 바뀐 레시피의 영양 정보 재계산 등록
+     */
+    public void scheduleRefreshAfterCommit(Long recipeId) {
+        afterCommit(recipeId, true);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 등록 (롤백되면 등록하지 않음, 트랜잭션 밖이면 바로 등록)
+     */
+    private void afterCommit(Long recipeId, boolean refresh) {
+        if (recipeId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(recipeId, refresh);
+                }
+            });
+        } else {
+            enqueue(recipeId, refresh);
+        }
+    }
+
+    private void enqueue(Long recipeId, boolean refresh) {
+        PendingJob created = new PendingJob(System.nanoTime(), refresh);
+        // 대기 중인 작업이 있으면 재계산 여부만 합침 (실행 시작 시의 제거와 원자적으로 처리)
+        PendingJob job = pending.compute(recipeId, (id, existing) -> {
+            if (existing == null) {
+                return created;
+            }
+            existing.refresh |= refresh;
+            return existing;
+        });
+        if (job != created) {
+            deduplicatedCounter.increment();
+            log.debug("영양 정보 계산 작업 이미 대기 중 - 레시피 ID: {}", recipeId);
+            return;
+        }
+
+        try {
+            executor.execute(() -> run(recipeId, job));
+        } catch (TaskRejectedException e) {
+            pending.remove(recipeId, job);
+            rejectedCounter.increment();
+            log.warn("영양 정보 계산 작업 거절 - 대기열 초과, 조회 시점에 계산: 레시피 ID {}", recipeId);
+        }
+    }
+
+    private void run(Long recipeId, PendingJob job) {
+        // 실행 시작 시점에 대기 목록에서 제거 (이후 들어온 변경은 새 작업으로 등록)
+        pending.remove(recipeId, job);
+        lagTimer.record(System.nanoTime() - job.enqueuedAt, TimeUnit.NANOSECONDS);
+
+        long startedAt = System.nanoTime();
+        try {
+            if (job.refresh) {
+                nutritionService.refreshNutritionByRecipeId(recipeId, null);
+            } else {
+                nutritionService.getNutritionByRecipeId(recipeId, null);
+            }
+            log.debug("영양 정보 미리 계산 완료 - 레시피 ID: {}", recipeId);
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("영양 정보 미리 계산 실패 (조회 시점에 다시 계산): 레시피 ID {}, {}", recipeId, e.getMessage());
+        } finally {
+            computeTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private double oldestLagSeconds() {
+        long now = System.nanoTime();
+        long oldest = now;
+        for (PendingJob job : pending.values()) {
+            oldest = Math.min(oldest, job.enqueuedAt);
+        }
+        return (now - oldest) / 1_000_000_000.0;
+    }
+
+    /**
+     * 대기 중인 작업
+     */
+    private static class PendingJob {
+        private final long enqueuedAt;
+        private volatile boolean refresh;
+
+        private PendingJob(long enqueuedAt, boolean refresh) {
+            this.enqueuedAt = enqueuedAt;
+            this.refresh = refresh;
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package org.example.capstone.nutrition.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.capstone.global.client.FlaskGateway;
+import org.example.capstone.nutrition.dto.NutritionBatchFlaskResponse;
+import org.example.capstone.nutrition.dto.NutritionDTO;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Flask 영양 정보 요청 묶음 전송기
+ * - 여러 사용자의 요청을 짧은 시간(기본 10ms) 또는 일정 개수(기본 32개)까지 모아 한 번의 일괄 호출로 전송
+ * - 호출한 스레드는 자기 요청의 결과가 나올 때까지 기다림 (동기 API 유지)
+ * - 같은 묶음 안의 동일한 재료 텍스트는 한 항목으로 합쳐 전송
+ * - 대기열이 가득 차거나 비활성화되어 있으면 기존처럼 단건 호출
+ */
+@Component
+@Slf4j
+public class NutritionRequestBatcher {
+
+    private final FlaskGateway flaskGateway;
+    private final ThreadPoolTaskExecutor executor;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final long callerTimeoutMs;
+    private final BlockingQueue<PendingRequest> queue;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer waitTimer;
+    private final Timer callTimer;
+    private final Counter directCounter;
+
+    private Thread collector;
+    private volatile boolean running;
+
+    public NutritionRequestBatcher(FlaskGateway flaskGateway,
+                                   @Qualifier("nutritionBatchExecutor") ThreadPoolTaskExecutor executor,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${nutrition.batcher.enabled:true}") boolean enabled,
+                                   @Value("${nutrition.batcher.window-ms:10}") long windowMs,
+                                   @Value("${nutrition.batcher.max-batch-size:32}") int maxBatchSize,
+                                   @Value("${nutrition.batcher.queue-capacity:1000}") int queueCapacity,
+                                   @Value("${nutrition.batcher.caller-timeout-ms:20000}") long callerTimeoutMs) {
+        this.flaskGateway = flaskGateway;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.maxBatchSize = maxBatchSize;
+        this.callerTimeoutMs = callerTimeoutMs;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSizeSummary = DistributionSummary.builder("nutrition.batcher.batch.size")
+                .description("일괄 호출 한 번에 담긴 요청 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("nutrition.batcher.wait")
+                .description("요청이 묶음에 담겨 전송되기까지 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.callTimer = Timer.builder("nutrition.batcher.call")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.directCounter = Counter.builder("nutrition.batcher.direct")
+                .description("묶지 않고 단건으로 보낸 요청 수 (비활성화/대기열 초과)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("영양 정보 묶음 전송 비활성화 - 요청마다 단건 호출");
+            return;
+        }
+        running = true;
+        collector = new Thread(this::collectLoop, "nutrition-batch-collector");
+        collector.setDaemon(true);
+        collector.start();
+        log.info("영양 정보 묶음 전송 시작 - 대기 시간: {}ms, 최대 묶음 크기: {}",
+                TimeUnit.NANOSECONDS.toMillis(windowNanos), maxBatchSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (collector != null) {
+            collector.interrupt();
+        }
+        // 남은 요청은 실패 처리 (호출 측에서 기본값으로 대체)
+        List<PendingRequest> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(request -> request.future.completeExceptionally(new IOException("영양 정보 묶음 전송기 종료")));
+    }
+
+    /**
+     * 재료 텍스트의 영양 정보 계산 (결과가 나올 때까지 대기)
+     */
+    public NutritionDTO calculate(String ingredientsText) throws IOException {
+        PendingRequest request = new PendingRequest(ingredientsText, System.nanoTime());
+        if (!running || !queue.offer(request)) {
+            directCounter.increment();
+            return flaskGateway.nutrition(Map.of("ingredients", ingredientsText));
+        }
+
+        try {
+            return request.future.get(callerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("영양 정보 요청 대기 중 인터럽트", e);
+        } catch (TimeoutException e) {
+            throw new IOException("영양 정보 요청 대기 시간 초과", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw new IOException("영양 정보 일괄 요청 실패", e.getCause());
+        }
+    }
+
+    /**
+     * 여러 재료 텍스트의 영양 정보 계산 (모두 끝날 때까지 대기)
+     * - 한 묶음 이상 분량이면 기다리지 않고 최대 묶음 크기씩 나누어 바로 일괄 호출로 전송
+     * - 대기열이 가득 차면 넘친 텍스트는 단건 호출
+     * - 실패한 텍스트는 결과에서 빠짐
+     */
+    public Map<String, NutritionDTO> calculateAll(Collection<String> ingredientsTexts) {
+        List<String> texts = ingredientsTexts.stream().distinct().toList();
+        Map<String, NutritionDTO> results = new LinkedHashMap<>();
+        if (texts.isEmpty()) {
+            return results;
+        }
+
+        if (texts.size() >= maxBatchSize || !running) {
+            for (int from = 0; from < texts.size(); from += maxBatchSize) {
+                List<PendingRequest> batch = texts.subList(from, Math.min(from + maxBatchSize, texts.size())).stream()
+                        .map(text -> new PendingRequest(text, System.nanoTime()))
+                        .toList();
+                send(batch);
+                batch.forEach(request -> collect(request, results));
+            }
+            return results;
+        }
+
+        List<PendingRequest> requests = new ArrayList<>();
+        for (String text : texts) {
+            PendingRequest request = new PendingRequest(text, System.nanoTime());
+            if (queue.offer(request)) {
+                requests.add(request);
+            } else {
+                sendDirect(request);
+                requests.add(request);
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(callerTimeoutMs);
+        for (PendingRequest request : requests) {
+            try {
+                request.future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (TimeoutException | ExecutionException e) {
+                log.warn("영양 정보 요청 실패 - 재료: {}, 원인: {}", request.ingredientsText, e.getMessage());
+            }
+            collect(request, results);
+        }
+        return results;
+    }
+
+    private static void collect(PendingRequest request, Map<String, NutritionDTO> results) {
+        NutritionDTO result = request.future.getNow(null);
+        if (result != null && !request.future.isCompletedExceptionally()) {
+            results.put(request.ingredientsText, result);
+        }
+    }
+
+    /**
+     * 첫 요청이 들어오면 대기 시간이 지나거나 최대 크기가 될 때까지 모은 뒤 전송
+     */
+    private void collectLoop() {
+        while (running) {
+            try {
+                PendingRequest first = queue.take();
+                List<PendingRequest> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        queue.drainTo(batch, maxBatchSize - batch.size());
+                        break;
+                    }
+                    PendingRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                // 동시 호출 수가 가득 차면 이 스레드에서 직접 전송 (CallerRunsPolicy)
+                executor.execute(() -> send(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("영양 정보 묶음 수집 중 오류: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 묶지 않고 단건 API로 전송 (calculate의 대기열 초과 처리와 같음)
+     */
+    private void sendDirect(PendingRequest request) {
+        directCounter.increment();
+        try {
+            request.future.complete(flaskGateway.nutrition(Map.of("ingredients", request.ingredientsText)));
+        } catch (Exception e) {
+            request.future.completeExceptionally(e);
+        }
+    }
+
+    private void send(List<PendingRequest> batch) {
+        long dispatchedAt = System.nanoTime();
+        batchSizeSummary.record(batch.size());
+        for (PendingRequest request : batch) {
+            waitTimer.record(dispatchedAt - request.enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+
+        // 같은 재료 텍스트는 한 항목으로 전송
+        Map<String, String> idsByText = new LinkedHashMap<>();
+        List<Map<String, String>> items = new ArrayList<>();
+        for (PendingRequest request : batch) {
+            idsByText.computeIfAbsent(request.ingredientsText, text -> {
+                String id = String.valueOf(items.size());
+                items.add(Map.of("id", id, "ingredients", text));
+                return id;
+            });
+        }
+
+        try {
+            NutritionBatchFlaskResponse response = callTimer.recordCallable(
+                    () -> flaskGateway.nutritionBatch(Map.of("items", items)));
+            Map<String, NutritionDTO> results = response != null && response.getResults() != null
+                    ? response.getResults() : Map.of();
+            log.debug("영양 정보 일괄 호출 완료 - 요청 {}개, 전송 항목 {}개, 응답 {}개",
+                    batch.size(), items.size(), results.size());
+
+            for (PendingRequest request : batch) {
+                NutritionDTO result = results.get(idsByText.get(request.ingredientsText));
+                if (result != null) {
+                    // 같은 항목을 공유한 요청끼리 서로의 결과를 수정하지 않도록 복사본 전달
+                    request.future.complete(result.toBuilder().build());
+                } else {
+                    request.future.completeExceptionally(new IOException("일괄 응답에 결과 없음"));
+                }
+            }
+        } catch (Exception e) {
+            log.error("영양 정보 일괄 호출 실패 - 요청 {}개: {}", batch.size(), e.getMessage());
+            batch.forEach(request -> request.future.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * 대기 중인 요청
+     */
+    private static class PendingRequest {
+        private final String ingredientsText;
+        private final long enqueuedAt;
+        private final CompletableFuture<NutritionDTO> future = new CompletableFuture<>();
+
+        private PendingRequest(String ingredientsText, long enqueuedAt) {
+            this.ingredientsText = ingredientsText;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -4,42 +4,61 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.capstone.global.exception.CustomException;
 import org.example.capstone.global.exception.ErrorCode;
+import org.example.capstone.nutrition.domain.IngredientNutrition;
 import org.example.capstone.nutrition.domain.Nutrition;
+import org.example.capstone.nutrition.dto.NutritionBatchResponse;
 import org.example.capstone.nutrition.dto.NutritionDTO;
+import org.example.capstone.nutrition.repository.IngredientNutritionRepository;
 import org.example.capstone.nutrition.repository.NutritionRepository;
+import org.example.capstone.nutrition.service.IngredientNutritionCache.LineNutrition;
 import org.example.capstone.recipe.domain.Ingredient;
 import org.example.capstone.recipe.domain.Recipe;
 import org.example.capstone.recipe.repository.RecipeRepository;
 import org.example.capstone.user.login.dto.CustomUserDetails;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.example.capstone.nutrition.service.LocalNutritionEngine.*;
 
 /**
  * 영양 정보 처리 서비스
+ * - 레시피 영양 정보는 재료 줄별 기여분(IngredientNutrition)과 그 합계(Nutrition)로 저장
+ * - 재료 줄별 값은 (재료명, 양) 기준으로 캐시/재사용하여 같은 줄을 두 번 계산하지 않음
+ * - Flask 장애로 계산하지 못하면 마지막으로 저장된 값(stale) 또는 추정치(estimated)를 표시하여 반환하고 저장하지 않음
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class NutritionService {
 
-    @Value("${flask.api.endpoints.nutrition}")
-    private String nutritionEndpoint;
-
-    private final WebClient webClient;
     private final NutritionRepository nutritionRepository;
     private final RecipeRepository recipeRepository;
+    private final LocalNutritionEngine localNutritionEngine;
+    private final NutritionRequestBatcher nutritionRequestBatcher;
+    private final IngredientNutritionRepository ingredientNutritionRepository;
+    private final IngredientNutritionCache ingredientNutritionCache;
 
     @Autowired
     private NutritionPersistenceService persistenceService;
 
+    // 레시피별 진행 중인 영양 정보 계산 (동시 요청은 같은 계산 결과를 공유)
+    private final Map<Long, CompletableFuture<NutritionDTO>> inFlight = new ConcurrentHashMap<>();
+
     /**
      * 영양 정보 조회 - 트랜잭션 없음
      */
@@ -48,7 +67,7 @@ public class NutritionService {
             log.info("영양 정보 조회 시작 - 레시피 ID: {}", recipeId);
 
             // 1. 레시피 존재 확인
-            Optional<Recipe> recipeOpt = recipeRepository.findById(recipeId);
+            Optional<Recipe> recipeOpt = recipeRepository.findWithIngredientsById(recipeId);
             if (recipeOpt.isEmpty()) {
                 log.warn("레시피가 존재하지 않음: {}", recipeId);
                 return createDefaultNutrition();
@@ -65,74 +84,163 @@ public class NutritionService {
                 return convertToDTO(existingNutrition.get());
             }
 
-            // 4. 없으면 Flask API 호출
-            log.info("Flask에 영양 정보 요청 - 레시피: {}", recipe.getName());
-            NutritionDTO nutritionDto = callFlaskAPI(recipe);
-
-            // 5. 결과 저장 (별도 서비스 사용)
-            try {
-                persistenceService.saveNutrition(recipeId, nutritionDto);
-            } catch (Exception e) {
-                log.error("영양 정보 저장 실패 (무시됨): {}", e.getMessage());
-                // 저장 실패해도 계속 진행
-            }
-
-            // 6. 결과 반환
-            return nutritionDto;
+            // 4. 없으면 계산 후 저장 (같은 레시피의 동시 요청은 하나의 계산을 공유)
+            return computeOnce(recipe);
 
         } catch (Exception e) {
             log.error("영양 정보 처리 중 오류: {}", e.getMessage());
-            return createDefaultNutrition();
+            return lastKnownOrDefault(recipeId);
         }
     }
 
     /**
      * 대체 재료 적용 후 영양 정보 갱신
+     * - 저장된 재료별 기여분과 현재 재료를 줄 단위로 비교
+     * - 남은 줄은 저장된 기여분을 그대로 쓰고, 새로 생긴 줄만 계산
+     * - 합계는 저장된 합계를 고치지 않고 현재 재료의 기여분을 다시 더해 계산
+     * - 기여분이 저장되어 있지 않은 레시피는 전체 계산
      */
     public NutritionDTO refreshNutritionByRecipeId(Long recipeId, CustomUserDetails userDetails) {
         try {
             log.info("영양 정보 갱신 시작 - 레시피 ID: {}", recipeId);
 
             // 1. 레시피 존재 확인
-            Recipe recipe = recipeRepository.findById(recipeId)
+            Recipe recipe = recipeRepository.findWithIngredientsById(recipeId)
                     .orElseThrow(() -> new CustomException(ErrorCode.RECIPE_NOT_FOUND));
 
-            // 2. 레시피의 재료 정보를 수집
-            String ingredientsText = extractIngredientsText(recipe);
-            log.debug("영양 정보 계산을 위한 재료 텍스트: {}", ingredientsText);
+            // 2. 저장된 합계와 재료별 기여분
+            Optional<Nutrition> stored = nutritionRepository.findByRecipeId(recipeId);
+            List<IngredientNutrition> rows = ingredientNutritionRepository.findByRecipeId(recipeId);
+            if (stored.isEmpty() || rows.isEmpty()) {
+                log.info("저장된 재료별 기여분 없음, 전체 계산 - 레시피 ID: {}", recipeId);
+                RecipeNutrition computed = computeAll(List.of(recipe)).get(recipeId);
+                if (!computed.storable() && stored.isPresent()) {
+                    return staleOf(stored.get());
+                }
+                store(Map.of(recipeId, computed));
+                return computed.nutrition();
+            }
 
-            // 3. Flask API 호출하여 새로운 영양 정보 계산
-            NutritionDTO updatedNutrition = callFlaskAPI(ingredientsText);
-            log.info("새로운 영양 정보 계산 완료 - 레시피 ID: {}", recipeId);
+            // 3. 현재 재료와 기여분을 줄 키로 대응 (같은 줄이 여러 번 있어도 개수만큼 대응)
+            Map<String, Deque<IngredientNutrition>> remaining = new HashMap<>();
+            for (IngredientNutrition row : rows) {
+                remaining.computeIfAbsent(row.getLineKey(), key -> new ArrayDeque<>()).add(row);
+            }
+            List<Ingredient> added = new ArrayList<>();
+            List<LineContribution> contributions = new ArrayList<>();
+            List<String> resolved = new ArrayList<>();
+            for (Ingredient ingredient : ingredientsOf(recipe)) {
+                Deque<IngredientNutrition> matches = remaining.get(lineKeyOf(ingredient));
+                if (matches != null && !matches.isEmpty()) {
+                    IngredientNutrition row = matches.poll();
+                    contributions.add(new LineContribution(ingredient, new LineNutrition(valuesOf(row), row.getSource())));
+                    resolved.add(labelOf(ingredient));
+                } else {
+                    added.add(ingredient);
+                }
+            }
+            List<IngredientNutrition> removed = remaining.values().stream().flatMap(Collection::stream).toList();
+
+            if (added.isEmpty() && removed.isEmpty()) {
+                log.info("재료 변경 없음, 저장된 영양 정보 사용 - 레시피 ID: {}", recipeId);
+                NutritionDTO unchanged = convertToDTO(stored.get());
+                unchanged.setResolvedIngredients(resolved);
+                unchanged.setUnresolvedIngredients(List.of());
+                return unchanged;
+            }
 
-            // 4. 기존 영양 정보 엔티티 찾기
-            Optional<Nutrition> existingNutrition = nutritionRepository.findByRecipeId(recipeId);
+            // 4. 새로 생긴 줄만 계산
+            Map<String, LineNutrition> addedLines = resolveLines(added);
+            List<String> unresolved = new ArrayList<>();
+            for (Ingredient ingredient : added) {
+                LineNutrition line = addedLines.get(lineKeyOf(ingredient));
+                if (line == null) {
+                    unresolved.add(labelOf(ingredient));
+                    continue;
+                }
+                contributions.add(new LineContribution(ingredient, line));
+                resolved.add(labelOf(ingredient));
+            }
 
-            // 5. 영양 정보 업데이트 또는 생성
+            // 새 재료를 계산하지 못했으면 반쪽짜리 합계를 저장하지 않고 마지막 값을 반환 (다음 갱신에서 다시 계산)
+            if (!unresolved.isEmpty()) {
+                log.warn("추가된 재료 계산 실패, 마지막 영양 정보 반환 - 레시피 ID: {}, 실패 재료: {}", recipeId, unresolved);
+                NutritionDTO lastKnown = staleOf(stored.get());
+                lastKnown.setUnresolvedIngredients(unresolved);
+                return lastKnown;
+            }
+
+            NutritionDTO updated = toDTO(sumOf(contributions));
+            updated.setResolvedIngredients(resolved);
+            updated.setUnresolvedIngredients(unresolved);
+            log.info("영양 정보 부분 갱신 - 레시피 ID: {}, 빠진 재료 {}개, 추가된 재료 {}개",
+                    recipeId, removed.size(), added.size());
+
+            // 5. 바뀐 기여분과 합계를 한 트랜잭션으로 저장
             try {
-                if (existingNutrition.isPresent()) {
-                    // 기존 영양 정보 업데이트
-                    persistenceService.updateNutrition(existingNutrition.get(), updatedNutrition);
-                    log.info("기존 영양 정보 업데이트 완료 - 영양 정보 ID: {}", existingNutrition.get().getId());
-                } else {
-                    // 새 영양 정보 생성
-                    persistenceService.saveNutrition(recipeId, updatedNutrition);
-                    log.info("새 영양 정보 생성 완료 - 레시피 ID: {}", recipe.getId());
-                }
+                persistenceService.applyContributionChanges(recipeId, contributions);
             } catch (Exception e) {
                 log.error("영양 정보 업데이트/저장 실패 (계속 진행): {}", e.getMessage());
                 // 저장 실패해도 계속 진행
             }
 
-            // 6. 업데이트된 영양 정보 반환
-            return updatedNutrition;
+            return updated;
 
         } catch (Exception e) {
             log.error("영양 정보 갱신 중 오류: {}", e.getMessage());
-            return createDefaultNutrition();
+            return lastKnownOrDefault(recipeId);
         }
     }
 
+    /**
+     * 여러 레시피 영양 정보 일괄 조회
+     * - 저장된 영양 정보는 한 번의 IN 쿼리로 조회
+     * - 없는 레시피는 재료까지 한 번에 조회한 뒤 재료 줄별로 계산 (캐시/성분표에 없는 줄만 Flask 일괄 요청)
+     * - 새로 계산한 결과는 하나의 트랜잭션으로 저장
+     */
+    public NutritionBatchResponse getNutritionBatch(List<Long> recipeIds) {
+        List<Long> ids = recipeIds.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Long, NutritionDTO> found = new HashMap<>();
+
+        // 1. 저장된 영양 정보 (IN 쿼리 1회)
+        for (Nutrition nutrition : nutritionRepository.findByRecipeIdIn(ids)) {
+            found.put(nutrition.getRecipe().getId(), convertToDTO(nutrition));
+        }
+
+        List<Long> missingIds = ids.stream().filter(id -> !found.containsKey(id)).toList();
+        List<Long> notFound = new ArrayList<>();
+
+        if (!missingIds.isEmpty()) {
+            // 2. 영양 정보가 없는 레시피와 재료 (fetch join 쿼리 1회)
+            List<Recipe> recipes = recipeRepository.findWithIngredientsByIdIn(missingIds);
+            Map<Long, RecipeNutrition> computed = computeAll(recipes);
+            for (Long id : missingIds) {
+                if (!computed.containsKey(id)) {
+                    notFound.add(id);
+                }
+            }
+
+            // 3. 새로 계산한 결과 저장 (트랜잭션 1회)
+            store(computed);
+            computed.forEach((id, result) -> found.put(id, result.nutrition()));
+        }
+
+        Map<Long, NutritionDTO> ordered = new LinkedHashMap<>();
+        for (Long id : ids) {
+            if (found.containsKey(id)) {
+                ordered.put(id, found.get(id));
+            }
+        }
+
+        log.info("영양 정보 일괄 조회 완료 - 요청 {}개, 저장된 값 {}개, 새로 계산 {}개, 없는 레시피 {}개",
+                ids.size(), ids.size() - missingIds.size(), missingIds.size() - notFound.size(), notFound.size());
+
+        return NutritionBatchResponse.builder()
+                .nutritions(ordered)
+                .notFoundRecipeIds(notFound)
+                .build();
+    }
+
     /**
      * 레시피의 재료 정보를 텍스트로 추출
      */
@@ -164,77 +272,184 @@ public class NutritionService {
     }
 
     /**
-     * Flask API 호출 - 재료 텍스트로 직접 호출
+     * 영양 정보 계산 및 저장 (레시피별 single-flight)
+     * - 먼저 들어온 요청만 계산/저장하고, 동시에 들어온 요청은 그 결과를 기다려 공유
+     * - 계산 직전에 저장된 값을 다시 확인하여 앞선 계산이 막 끝난 경우 재계산하지 않음
      */
-    private NutritionDTO callFlaskAPI(String ingredientsText) {
+    private NutritionDTO computeOnce(Recipe recipe) {
+        Long recipeId = recipe.getId();
+        CompletableFuture<NutritionDTO> flight = new CompletableFuture<>();
+        CompletableFuture<NutritionDTO> existing = inFlight.putIfAbsent(recipeId, flight);
+        if (existing != null) {
+            log.debug("진행 중인 영양 정보 계산 결과 대기 - 레시피 ID: {}", recipeId);
+            return existing.join();
+        }
+
         try {
-            // API 요청 구성
-            Map<String, String> requestBody = new HashMap<>();
-            requestBody.put("ingredients", ingredientsText);
+            Optional<Nutrition> stored = nutritionRepository.findByRecipeId(recipeId);
+            if (stored.isPresent()) {
+                NutritionDTO nutritionDto = convertToDTO(stored.get());
+                flight.complete(nutritionDto);
+                return nutritionDto;
+            }
 
-            log.debug("영양 정보 API 호출 - 재료: {}", ingredientsText);
+            RecipeNutrition computed = computeAll(List.of(recipe)).get(recipeId);
 
-            // API 호출
-            NutritionDTO result = webClient.post()
-                    .uri(nutritionEndpoint)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(NutritionDTO.class)
-                    .doOnSuccess(n -> {
-                        log.info("영양 정보 응답 성공");
-                        log.debug("수신된 영양 정보: 칼로리={}, 탄수화물={}, 단백질={}, 지방={}",
-                                n.getCalories(), n.getCarbohydrate(), n.getProtein(), n.getFat());
-                    })
-                    .doOnError(e -> log.error("영양 정보 요청 실패: {}", e.getMessage()))
-                    .onErrorReturn(createDefaultNutrition())
-                    .block();
+            // 결과 저장 (별도 서비스 사용)
+            store(Map.of(recipeId, computed));
 
-            return result;
-        } catch (Exception e) {
-            log.error("Flask API 호출 오류: {}", e.getMessage());
-            return createDefaultNutrition();
+            flight.complete(computed.nutrition());
+            return computed.nutrition();
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(recipeId, flight);
         }
     }
 
     /**
-     * Flask API 호출 - 레시피 객체 사용
+     * 레시피 영양 정보 계산 (여러 레시피의 재료 줄을 한 번에 해결)
+     * - 재료 줄별 값을 합산, 계산하지 못한 줄은 합계에서 제외하고 unresolvedIngredients로 표시
+     * - 계산하지 못한 줄이 있으면 계산된 줄만의 합계를 추정치로 반환하고 저장하지 않음
+     * - 재료가 없는 레시피는 기존처럼 레시피 이름으로 Flask에 요청 (기여분 없음)
      */
-    private NutritionDTO callFlaskAPI(Recipe recipe) {
-        try {
-            // 재료 목록 및 레시피 이름 추출
-            StringBuilder ingredients = new StringBuilder(recipe.getName());
+    private Map<Long, RecipeNutrition> computeAll(Collection<Recipe> recipes) {
+        Map<String, LineNutrition> lines = resolveLines(recipes.stream()
+                .flatMap(recipe -> ingredientsOf(recipe).stream())
+                .toList());
+
+        Map<Long, RecipeNutrition> results = new LinkedHashMap<>();
+        for (Recipe recipe : recipes) {
+            List<Ingredient> ingredients = ingredientsOf(recipe);
+            if (ingredients.isEmpty()) {
+                NutritionDTO remote = callFlaskAPI(extractIngredientsText(recipe));
+                results.put(recipe.getId(), remote != null
+                        ? new RecipeNutrition(remote, List.of(), true)
+                        : new RecipeNutrition(createDefaultNutrition(), List.of(), false));
+                continue;
+            }
+
+            double[] totals = new double[NUTRIENT_COUNT];
+            List<LineContribution> contributions = new ArrayList<>();
+            List<String> resolved = new ArrayList<>();
+            List<String> unresolved = new ArrayList<>();
+            for (Ingredient ingredient : ingredients) {
+                LineNutrition line = lines.get(lineKeyOf(ingredient));
+                if (line == null) {
+                    unresolved.add(labelOf(ingredient));
+                    continue;
+                }
+                add(totals, line.values());
+                contributions.add(new LineContribution(ingredient, line));
+                resolved.add(labelOf(ingredient));
+            }
+
+            // 계산하지 못한 줄이 있으면 추정치 (저장하지 않아 다음 조회에서 다시 계산)
+            boolean complete = unresolved.isEmpty();
+            NutritionDTO nutrition = toDTO(totals);
+            nutrition.setEstimated(!complete);
+            nutrition.setResolvedIngredients(resolved);
+            nutrition.setUnresolvedIngredients(unresolved);
+            results.put(recipe.getId(), new RecipeNutrition(nutrition, contributions, complete));
+
+            log.info("영양 정보 계산 완료 - 레시피: {}, 재료 {}개 중 {}개 계산", recipe.getName(), ingredients.size(), resolved.size());
+        }
+        return results;
+    }
 
-            if (recipe.getIngredients() != null && !recipe.getIngredients().isEmpty()) {
-                ingredients.append(", ");
-                recipe.getIngredients().forEach(i -> ingredients.append(i.getName()).append(", "));
+    /**
+     * 재료 줄별 영양 정보 (줄 키 → 값, 계산하지 못한 줄은 빠짐)
+     * 메모리 캐시 → 다른 레시피에 저장된 기여분 → 로컬 성분표 → Flask 순으로 찾음
+     */
+    private Map<String, LineNutrition> resolveLines(List<Ingredient> ingredients) {
+        Map<String, Ingredient> pending = new LinkedHashMap<>();
+        for (Ingredient ingredient : ingredients) {
+            pending.putIfAbsent(lineKeyOf(ingredient), ingredient);
+        }
+        Map<String, LineNutrition> lines = new HashMap<>();
+
+        // 1. 메모리 캐시
+        pending.keySet().removeIf(key -> {
+            LineNutrition cached = ingredientNutritionCache.get(key);
+            if (cached != null) {
+                lines.put(key, cached);
+            }
+            return cached != null;
+        });
+
+        // 2. 다른 레시피에서 계산해 둔 같은 줄
+        if (!pending.isEmpty()) {
+            for (IngredientNutrition row : ingredientNutritionRepository.findLatestByLineKeyIn(pending.keySet())) {
+                if (pending.remove(row.getLineKey()) != null) {
+                    remember(lines, row.getLineKey(), new LineNutrition(valuesOf(row), row.getSource()));
+                }
             }
+        }
 
-            String ingredientsStr = ingredients.toString().replaceAll(", $", "");
-            log.info("영양 정보 요청 재료: {}", ingredientsStr);
-
-            // API 요청 구성
-            Map<String, String> requestBody = new HashMap<>();
-            requestBody.put("ingredients", ingredientsStr);
-
-            // API 호출
-            NutritionDTO result = webClient.post()
-                    .uri(nutritionEndpoint)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(NutritionDTO.class)
-                    .doOnSuccess(n -> {
-                        log.info("영양 정보 응답 성공");
-                        log.debug("수신된 영양 정보: 칼로리={}, 탄수화물={}, 단백질={}, 지방={}",
-                                n.getCalories(), n.getCarbohydrate(), n.getProtein(), n.getFat());
-                    })
-                    .doOnError(e -> log.error("영양 정보 요청 실패: {}", e.getMessage()))
-                    .onErrorReturn(createDefaultNutrition())
-                    .block();
+        // 3. 로컬 성분표
+        pending.entrySet().removeIf(entry -> {
+            double[] values = localNutritionEngine.contributionOf(entry.getValue());
+            if (values != null) {
+                remember(lines, entry.getKey(), new LineNutrition(values, LineNutrition.LOCAL));
+            }
+            return values != null;
+        });
+
+        // 4. 남은 줄만 Flask에 요청 (묶음 전송기를 통해 일괄 호출)
+        if (!pending.isEmpty()) {
+            Map<String, String> keysByLabel = new LinkedHashMap<>();
+            pending.forEach((key, ingredient) -> keysByLabel.putIfAbsent(labelOf(ingredient), key));
+            log.info("재료 줄 Flask 계산 요청 - {}개", keysByLabel.size());
+            nutritionRequestBatcher.calculateAll(keysByLabel.keySet()).forEach((label, result) ->
+                    remember(lines, keysByLabel.get(label), new LineNutrition(valuesOf(result), LineNutrition.FLASK)));
+        }
+        return lines;
+    }
+
+    private void remember(Map<String, LineNutrition> lines, String key, LineNutrition line) {
+        lines.put(key, line);
+        ingredientNutritionCache.put(key, line);
+    }
+
+    /**
+     * 계산 결과 저장 (저장할 결과만, 실패해도 계속 진행)
+     */
+    private void store(Map<Long, RecipeNutrition> computed) {
+        Map<Long, RecipeNutrition> storable = new LinkedHashMap<>();
+        computed.forEach((id, result) -> {
+            if (result.storable()) {
+                storable.put(id, result);
+            }
+        });
+        if (storable.isEmpty()) {
+            return;
+        }
+        try {
+            persistenceService.replaceContributions(storable);
+        } catch (Exception e) {
+            log.error("영양 정보 저장 실패 (무시됨): {}", e.getMessage());
+            // 저장 실패해도 계속 진행
+        }
+    }
+
+    /**
+     * Flask API 호출 - 묶음 전송기를 통해 호출 (실패 시 null)
+     */
+    private NutritionDTO callFlaskAPI(String ingredientsText) {
+        try {
+            log.debug("영양 정보 API 호출 - 재료: {}", ingredientsText);
+
+            // 다른 요청과 묶어 일괄 호출 (결과가 나올 때까지 대기)
+            NutritionDTO result = nutritionRequestBatcher.calculate(ingredientsText);
+            log.info("영양 정보 응답 성공");
+            log.debug("수신된 영양 정보: 칼로리={}, 탄수화물={}, 단백질={}, 지방={}",
+                    result.getCalories(), result.getCarbohydrate(), result.getProtein(), result.getFat());
 
             return result;
         } catch (Exception e) {
-            log.error("Flask API 호출 오류: {}", e.getMessage());
-            return createDefaultNutrition();
+            log.error("영양 정보 요청 실패: {}", e.getMessage());
+            return null;
         }
     }
 
@@ -256,7 +471,29 @@ public class NutritionService {
     }
 
     /**
-     * 기본 영양 정보 생성
+     * 처리 중 오류 시 대체 값 - 저장된 값이 있으면 stale, 없으면 기본값(estimated)
+     * 컨트롤러의 예외 처리에서도 사용 (표시 없는 기본값을 실제 값처럼 반환하지 않도록)
+     */
+    public NutritionDTO lastKnownOrDefault(Long recipeId) {
+        try {
+            Optional<Nutrition> stored = nutritionRepository.findByRecipeId(recipeId);
+            if (stored.isPresent()) {
+                return staleOf(stored.get());
+            }
+        } catch (Exception e) {
+            log.error("마지막 영양 정보 조회 실패: {}", e.getMessage());
+        }
+        return createDefaultNutrition();
+    }
+
+    private NutritionDTO staleOf(Nutrition nutrition) {
+        NutritionDTO dto = convertToDTO(nutrition);
+        dto.setStale(true);
+        return dto;
+    }
+
+    /**
+     * 기본 영양 정보 생성 (실제 계산값이 아니므로 estimated 표시)
      */
     private NutritionDTO createDefaultNutrition() {
         return NutritionDTO.builder()
@@ -269,11 +506,94 @@ public class NutritionService {
                 .saturatedFat(3.0)
                 .transFat(0.0)
                 .cholesterol(50.0)
+                .estimated(true)
                 .build();
     }
 
+    private static List<Ingredient> ingredientsOf(Recipe recipe) {
+        return recipe.getIngredients() != null ? recipe.getIngredients() : List.of();
+    }
+
+    private static String lineKeyOf(Ingredient ingredient) {
+        return IngredientNutritionCache.keyOf(ingredient.getName(), ingredient.getAmount());
+    }
+
+    private static NutritionDTO toDTO(double[] totals) {
+        return NutritionDTO.builder()
+                .calories(round(totals[CALORIES]))
+                .carbohydrate(round(totals[CARBOHYDRATE]))
+                .protein(round(totals[PROTEIN]))
+                .fat(round(totals[FAT]))
+                .sugar(round(totals[SUGAR]))
+                .sodium(round(totals[SODIUM]))
+                .saturatedFat(round(totals[SATURATED_FAT]))
+                .transFat(round(totals[TRANS_FAT]))
+                .cholesterol(round(totals[CHOLESTEROL]))
+                .build();
+    }
+
+    private static double[] valuesOf(NutritionDTO dto) {
+        return values(dto.getCalories(), dto.getCarbohydrate(), dto.getProtein(), dto.getFat(), dto.getSugar(),
+                dto.getSodium(), dto.getSaturatedFat(), dto.getTransFat(), dto.getCholesterol());
+    }
+
+    private static double[] valuesOf(Nutrition nutrition) {
+        return values(nutrition.getCalories(), nutrition.getCarbohydrate(), nutrition.getProtein(), nutrition.getFat(),
+                nutrition.getSugar(), nutrition.getSodium(), nutrition.getSaturatedFat(), nutrition.getTransFat(),
+                nutrition.getCholesterol());
+    }
+
+    private static double[] valuesOf(IngredientNutrition row) {
+        return values(row.getCalories(), row.getCarbohydrate(), row.getProtein(), row.getFat(), row.getSugar(),
+                row.getSodium(), row.getSaturatedFat(), row.getTransFat(), row.getCholesterol());
+    }
+
+    private static double[] values(Double... nutrients) {
+        double[] values = new double[NUTRIENT_COUNT];
+        for (int n = 0; n < NUTRIENT_COUNT; n++) {
+            values[n] = nutrients[n] != null ? nutrients[n] : 0.0;
+        }
+        return values;
+    }
+
+    private static void add(double[] totals, double[] values) {
+        for (int n = 0; n < NUTRIENT_COUNT; n++) {
+            totals[n] += values[n];
+        }
+    }
+
+    private static double[] sumOf(List<LineContribution> contributions) {
+        double[] totals = new double[NUTRIENT_COUNT];
+        for (LineContribution contribution : contributions) {
+            add(totals, contribution.line().values());
+        }
+        return totals;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
+    /**
+     * 재료 한 줄과 그 영양 정보
+     */
+    record LineContribution(Ingredient ingredient, LineNutrition line) {
+    }
+
+    /**
+     * 레시피 계산 결과
+     *
+     * @param nutrition     합계 (응답용)
+     * @param contributions 재료 줄별 기여분
+     * @param storable      저장 여부 (계산하지 못한 재료가 있어 추정치인 경우 false)
+     */
+    record RecipeNutrition(NutritionDTO nutrition, List<LineContribution> contributions, boolean storable) {
+    }
+
     /**
      * 영양 정보 저장을 담당하는 내부 서비스
+     * 레시피 행을 잠근 뒤 저장된 기여분을 다시 읽어 맞추므로, 일괄 계산/단건 계산/부분 갱신이 동시에 저장해도
+     * 같은 줄이 중복 저장되지 않음
      */
     @Service
     @Slf4j
@@ -281,79 +601,114 @@ public class NutritionService {
     public static class NutritionPersistenceService {
 
         private final NutritionRepository nutritionRepository;
+        private final IngredientNutritionRepository ingredientNutritionRepository;
         private final RecipeRepository recipeRepository;
 
         /**
-         * 영양 정보 저장 - 별도의 독립 트랜잭션으로 실행
+         * 레시피 영양 정보 전체 교체 - 여러 레시피를 하나의 독립 트랜잭션에서 저장
+         * 레시피 ID 순서로 잠가 동시 일괄 저장끼리 교착되지 않게 하고, 새 기여분은 한 번에 배치 INSERT
          */
         @Transactional(propagation = Propagation.REQUIRES_NEW)
-        public void saveNutrition(Long recipeId, NutritionDTO dto) {
-            log.info("독립 트랜잭션으로 영양 정보 저장 시작: {}", recipeId);
-
-            try {
-                // 1. 이미 데이터가 있는지 다시 확인
-                if (nutritionRepository.findByRecipeId(recipeId).isPresent()) {
-                    log.info("이미 영양 정보가 있어 저장 취소: {}", recipeId);
-                    return;
-                }
-
-                // 2. 레시피 엔티티 조회
-                Recipe recipe = recipeRepository.findById(recipeId).orElse(null);
-                if (recipe == null) {
-                    log.warn("영양 정보 저장 취소 - 레시피 없음: {}", recipeId);
-                    return;
+        public void replaceContributions(Map<Long, RecipeNutrition> computed) {
+            List<IngredientNutrition> inserts = new ArrayList<>();
+            computed.keySet().stream().sorted().forEach(recipeId -> {
+                RecipeNutrition result = computed.get(recipeId);
+                if (reconcile(recipeId, result.contributions(), inserts)) {
+                    upsert(recipeId, result.nutrition());
                 }
+            });
+            ingredientNutritionRepository.saveAll(inserts);
+        }
 
-                // 3. 영양 정보 엔티티 생성 및 저장
-                Nutrition nutrition = Nutrition.builder()
-                        .recipe(recipe)
-                        .calories(dto.getCalories())
-                        .carbohydrate(dto.getCarbohydrate())
-                        .protein(dto.getProtein())
-                        .fat(dto.getFat())
-                        .sugar(dto.getSugar())
-                        .sodium(dto.getSodium())
-                        .saturatedFat(dto.getSaturatedFat())
-                        .transFat(dto.getTransFat())
-                        .cholesterol(dto.getCholesterol())
-                        .build();
-
-                nutritionRepository.save(nutrition);
-                log.info("영양 정보 저장 성공: {}", recipeId);
-
-            } catch (Exception e) {
-                log.error("영양 정보 저장 중 오류 발생: {}", e.getMessage());
-                // 예외가 전파되어 트랜잭션이 롤백되더라도 호출자에게는 영향 없음
-                throw e;
+        /**
+         * 재료 줄 변경 반영 - 기여분 맞추기와 합계 갱신을 하나의 독립 트랜잭션에서 실행
+         * 합계는 저장된 기여분(= 현재 재료 줄 전체)의 합으로 다시 계산
+         *
+         * @param contributions 현재 재료 줄 전체의 기여분
+         */
+        @Transactional(propagation = Propagation.REQUIRES_NEW)
+        public void applyContributionChanges(Long recipeId, List<LineContribution> contributions) {
+            List<IngredientNutrition> inserts = new ArrayList<>();
+            if (reconcile(recipeId, contributions, inserts)) {
+                ingredientNutritionRepository.saveAll(inserts);
+                upsert(recipeId, toDTO(sumOf(contributions)));
             }
         }
 
         /**
-         * 영양 정보 업데이트 - 별도의 독립 트랜잭션으로 실행
+         * 레시피 행을 잠그고 저장된 기여분을 현재 재료 줄에 맞춤
+         * - 줄 키가 같은 행은 개수만큼 그대로 두고, 남는 행은 삭제, 모자란 줄은 inserts에 추가
+         *
+         * @return 레시피가 없어 저장하지 않으면 false
          */
-        @Transactional(propagation = Propagation.REQUIRES_NEW)
-        public void updateNutrition(Nutrition nutrition, NutritionDTO dto) {
-            log.info("독립 트랜잭션으로 영양 정보 업데이트 시작: {}", nutrition.getId());
+        private boolean reconcile(Long recipeId, List<LineContribution> contributions, List<IngredientNutrition> inserts) {
+            Optional<Recipe> locked = recipeRepository.findByIdForUpdate(recipeId);
+            if (locked.isEmpty()) {
+                log.warn("영양 정보 저장 생략 - 레시피 없음: {}", recipeId);
+                return false;
+            }
 
-            try {
-                // 영양 정보 필드 업데이트
-                nutrition.setCalories(dto.getCalories());
-                nutrition.setCarbohydrate(dto.getCarbohydrate());
-                nutrition.setProtein(dto.getProtein());
-                nutrition.setFat(dto.getFat());
-                nutrition.setSugar(dto.getSugar());
-                nutrition.setSodium(dto.getSodium());
-                nutrition.setSaturatedFat(dto.getSaturatedFat());
-                nutrition.setTransFat(dto.getTransFat());
-                nutrition.setCholesterol(dto.getCholesterol());
-
-                nutritionRepository.save(nutrition);
-                log.info("영양 정보 업데이트 성공: {}", nutrition.getId());
+            Map<String, Deque<IngredientNutrition>> existing = new HashMap<>();
+            for (IngredientNutrition row : ingredientNutritionRepository.findByRecipeId(recipeId)) {
+                existing.computeIfAbsent(row.getLineKey(), key -> new ArrayDeque<>()).add(row);
+            }
+            for (LineContribution contribution : contributions) {
+                Deque<IngredientNutrition> matches = existing.get(lineKeyOf(contribution.ingredient()));
+                if (matches != null && !matches.isEmpty()) {
+                    matches.poll();
+                } else {
+                    inserts.add(toRow(locked.get(), contribution));
+                }
+            }
 
-            } catch (Exception e) {
-                log.error("영양 정보 업데이트 중 오류 발생: {}", e.getMessage());
-                throw e;
+            List<Long> staleIds = existing.values().stream()
+                    .flatMap(Collection::stream)
+                    .map(IngredientNutrition::getId)
+                    .toList();
+            if (!staleIds.isEmpty()) {
+                ingredientNutritionRepository.deleteAllByIdInBatch(staleIds);
             }
+            return true;
+        }
+
+        private IngredientNutrition toRow(Recipe recipe, LineContribution contribution) {
+            Ingredient ingredient = contribution.ingredient();
+            double[] values = contribution.line().values();
+            return IngredientNutrition.builder()
+                    .recipe(recipe)
+                    .lineKey(lineKeyOf(ingredient))
+                    .ingredientName(ingredient.getName())
+                    .amount(ingredient.getAmount())
+                    .source(contribution.line().source())
+                    .calories(values[CALORIES])
+                    .carbohydrate(values[CARBOHYDRATE])
+                    .protein(values[PROTEIN])
+                    .fat(values[FAT])
+                    .sugar(values[SUGAR])
+                    .sodium(values[SODIUM])
+                    .saturatedFat(values[SATURATED_FAT])
+                    .transFat(values[TRANS_FAT])
+                    .cholesterol(values[CHOLESTEROL])
+                    .build();
+        }
+
+        /**
+         * 합계 저장 또는 갱신 - 단일 upsert 문
+         * 동시에 저장해도 유니크 제약 충돌이 나지 않고, 조회/존재 확인 쿼리가 필요 없음
+         */
+        private void upsert(Long recipeId, NutritionDTO dto) {
+            int affected = nutritionRepository.upsert(
+                    recipeId,
+                    dto.getCalories(),
+                    dto.getCarbohydrate(),
+                    dto.getProtein(),
+                    dto.getFat(),
+                    dto.getSugar(),
+                    dto.getSodium(),
+                    dto.getSaturatedFat(),
+                    dto.getTransFat(),
+                    dto.getCholesterol());
+            log.info("영양 정보 저장 완료 - 레시피 ID: {}, 영향받은 행: {}", recipeId, affected);
         }
     }
-}
\ No newline at end of file
+}
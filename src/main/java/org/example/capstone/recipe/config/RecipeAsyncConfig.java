@@ -0,0 +1,68 @@
+package org.example.capstone.recipe.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class RecipeAsyncConfig {
+
+    @Value("${recipe.generation.pool-size:4}")
+    private int poolSize;
+
+    @Value("${recipe.generation.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${recipe.persistence.pool-size:8}")
+    private int persistencePoolSize;
+
+    @Value("${recipe.persistence.queue-capacity:200}")
+    private int persistenceQueueCapacity;
+
+    /**
+     * 비동기 레시피 생성 작업 전용 스레드 풀
+     * 큐가 가득 차면 TaskRejectedException 발생 (요청 거절)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor recipeGenerationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("recipe-gen-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 비동기 흐름(Mono) 안의 JPA 작업 전용 스레드 풀
+     * 이벤트 루프/요청 스레드에서 블로킹 DB 호출이 일어나지 않도록 분리
+     * 스레드 수는 DB 커넥션 풀 크기 이하로 유지
+     */
+    @Bean
+    public ThreadPoolTaskExecutor recipePersistenceExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(persistencePoolSize);
+        executor.setMaxPoolSize(persistencePoolSize);
+        executor.setQueueCapacity(persistenceQueueCapacity);
+        executor.setThreadNamePrefix("recipe-persist-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * recipePersistenceExecutor에서 실행하는 Reactor 스케줄러
+     * 요청마다 만들지 않고 하나를 공유 (subscribeOn/publishOn용)
+     */
+    @Bean
+    public Scheduler recipePersistenceScheduler() {
+        return Schedulers.fromExecutor(recipePersistenceExecutor());
+    }
+}
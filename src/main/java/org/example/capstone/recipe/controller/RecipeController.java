@@ -9,6 +9,7 @@ import org.example.capstone.nutrition.service.NutritionService;
 import org.example.capstone.recipe.domain.Recipe;
 import org.example.capstone.recipe.dto.*;
 import org.example.capstone.recipe.service.FlaskRecipeService;
+import org.example.capstone.recipe.service.RecipeGenerationJobService;
 import org.example.capstone.user.domain.User;
 import org.example.capstone.user.login.dto.CustomUserDetails;
 import org.example.capstone.user.repository.UserRepository;
@@ -20,7 +21,9 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import reactor.core.publisher.Mono;
 
+import java.net.URI;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.example.capstone.global.exception.ErrorCode.USER_NOT_FOUND;
 
@@ -37,10 +40,14 @@ import static org.example.capstone.global.exception.ErrorCode.USER_NOT_FOUND;
 public class RecipeController {
 
     private final FlaskRecipeService recipeService;
+    private final RecipeGenerationJobService recipeGenerationJobService;
     private final SimpMessagingTemplate messagingTemplate;
     private final NutritionService nutritionService;
     private final UserRepository userRepository;
 
+    // 일괄 대체 요청 한 번에 받을 수 있는 최대 재료 쌍 수
+    private static final int MAX_BATCH_SUBSTITUTIONS = 10;
+
     /**
      * 실시간 어시스턴스 API
      */
@@ -68,45 +75,29 @@ public class RecipeController {
 
     /**
      * 이미지 분석 및 레시피 생성 API
+     * async=true 인 경우 작업 ID와 함께 202를 즉시 반환하고, 완료 시 WebSocket으로 알림
      */
     @PostMapping("/api/recipe/generate")
     public ResponseEntity<?> generateRecipeFromImage(
             @RequestParam("image") MultipartFile image,
             @RequestParam("instructions") String instructions,
+            @RequestParam(value = "async", defaultValue = "false") boolean async,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
         try {
-            log.info("레시피 생성 요청 처리 - 사용자: {}", userDetails.getUsername());
-
-            // 사용자 ID 명시적으로 확인 및 로깅
-            String username = userDetails.getUsername();
-            Long userId = userDetails.getUserId();
-            log.info("레시피 생성 요청 처리 - 사용자: {}, ID: {}", username, userId);
-
-            // 세션 ID 생성
-            String sessionId = UUID.randomUUID().toString();
-
-            /// 요청 객체 생성 - 현재 로그인한 사용자 정보 추가
-            RecipeGenerateRequest request = new RecipeGenerateRequest();
-            request.setImage(image);
-            request.setInstructions(instructions);
-            request.setUsername(userDetails.getUsername());
-            request.setSessionId(sessionId);
+            log.info("레시피 생성 요청 처리 - 사용자: {}, 비동기: {}", userDetails.getUsername(), async);
 
-            // 현재 사용자의 ID도 명시적으로 저장
-            request.setUserId(userId);  // 이 필드가 RecipeGenerateRequest에 추가되어야 함
+            RecipeGenerateRequest request = buildGenerateRequest(image, instructions, userDetails);
 
-            // 사용자 정보 가져오기
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+            if (async) {
+                String username = userDetails.getUsername();
+                RecipeJobResponse job = recipeGenerationJobService.submit(request,
+                        finished -> sendRecipeJobNotification(username, finished));
 
-            // 사용자 식습관과 선호도 설정
-            request.setUserHabit(user.getHabit());
-            request.setUserPreference(user.getPreference());
-
-            log.info("요청 객체 설정 완료 - 사용자: {}, ID: {}, 식습관: {}, 선호도: {}",
-                    request.getUsername(), request.getUserId(),
-                    request.getUserHabit(), request.getUserPreference());
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .location(URI.create("/api/recipe/jobs/" + job.getJobId()))
+                        .body(job);
+            }
 
             // Flask 서버에 요청 전송
             RecipeGenerateResponse flaskResponse = recipeService.generateRecipeFromImage(request);
@@ -115,13 +106,14 @@ public class RecipeController {
             log.info("생성된 레시피 정보 - ID: {}, 이름: {}, 소유자 ID: {}",
                     flaskResponse.getId(), flaskResponse.getName(), flaskResponse.getUserId());
 
-            // 레시피 저장은 서비스 내부에서 처리되므로 ID 값을 가져옴
-            // 통합된 서비스가 적절히 구현되었다고 가정
-
             // 레시피 생성 알림 메시지를 WebSocket으로 전송
             sendRecipeNotification(userDetails.getUsername(), flaskResponse.getName());
 
             return ResponseEntity.ok(flaskResponse);
+        } catch (CustomException e) {
+            log.error("레시피 생성 요청 실패: {}", e.getMessage());
+            return ResponseEntity.status(e.getErrorCode().getStatus())
+                    .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("레시피 생성 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -129,154 +121,295 @@ public class RecipeController {
         }
     }
 
+    /**
+     * 비동기 레시피 생성 작업 상태 조회 API
+     */
+    @GetMapping("/api/recipe/jobs/{jobId}")
+    public ResponseEntity<RecipeJobResponse> getRecipeJob(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        return ResponseEntity.ok(recipeGenerationJobService.getJob(jobId, userDetails.getUsername()));
+    }
+
+    /**
+     * 레시피 생성 요청 객체 구성 - 현재 로그인한 사용자 정보 포함
+     */
+    private RecipeGenerateRequest buildGenerateRequest(MultipartFile image, String instructions,
+                                                       CustomUserDetails userDetails) {
+        // 사용자 ID 명시적으로 확인 및 로깅
+        String username = userDetails.getUsername();
+        Long userId = userDetails.getUserId();
+        log.info("레시피 생성 요청 처리 - 사용자: {}, ID: {}", username, userId);
+
+        RecipeGenerateRequest request = new RecipeGenerateRequest();
+        request.setImage(image);
+        request.setInstructions(instructions);
+        request.setUsername(username);
+        request.setSessionId(UUID.randomUUID().toString());
+        request.setUserId(userId);
+
+        // 사용자 식습관과 선호도 설정
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+        request.setUserHabit(user.getHabit());
+        request.setUserPreference(user.getPreference());
+
+        log.info("요청 객체 설정 완료 - 사용자: {}, ID: {}, 식습관: {}, 선호도: {}",
+                request.getUsername(), request.getUserId(),
+                request.getUserHabit(), request.getUserPreference());
+
+        return request;
+    }
+
     /**
      * 대체 재료 요청 API (LLM 기반 판단 적용)
      */
     @PostMapping("/api/recipe/substitute")
-    public ResponseEntity<?> substituteIngredient(
+    public Mono<ResponseEntity<?>> substituteIngredient(
             @RequestBody SubstituteIngredientRequest request,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        try {
-            // 입력값 검증 및 로깅
-            log.info("대체 재료 요청 처리 - 사용자: {}, 원재료: '{}', 대체재료: '{}', 레시피: '{}'",
-                    userDetails != null ? userDetails.getUsername() : "인증되지 않음",
-                    request.getOriginalIngredient(),
-                    request.getSubstituteIngredient(),
-                    request.getRecipeName());
+        // 입력값 검증 및 로깅
+        log.info("대체 재료 요청 처리 - 사용자: {}, 원재료: '{}', 대체재료: '{}', 레시피: '{}'",
+                userDetails != null ? userDetails.getUsername() : "인증되지 않음",
+                request.getOriginalIngredient(),
+                request.getSubstituteIngredient(),
+                request.getRecipeName());
 
-            // 필수 필드 검증
-            List<String> missingFields = new ArrayList<>();
-            if (request.getOriginalIngredient() == null || request.getOriginalIngredient().trim().isEmpty()) {
-                missingFields.add("원재료");
-            }
-            if (request.getSubstituteIngredient() == null || request.getSubstituteIngredient().trim().isEmpty()) {
-                missingFields.add("대체재료");
-            }
-            if (request.getRecipeName() == null || request.getRecipeName().trim().isEmpty()) {
-                missingFields.add("레시피명");
-            }
+        // 필수 필드 검증
+        List<String> missingFields = new ArrayList<>();
+        if (request.getOriginalIngredient() == null || request.getOriginalIngredient().trim().isEmpty()) {
+            missingFields.add("원재료");
+        }
+        if (request.getSubstituteIngredient() == null || request.getSubstituteIngredient().trim().isEmpty()) {
+            missingFields.add("대체재료");
+        }
+        if (request.getRecipeName() == null || request.getRecipeName().trim().isEmpty()) {
+            missingFields.add("레시피명");
+        }
 
-            if (!missingFields.isEmpty()) {
-                String errorMessage = String.join(", ", missingFields) + "를 입력해주세요.";
-                log.warn("필수 필드 누락: {}", errorMessage);
+        if (!missingFields.isEmpty()) {
+            String errorMessage = String.join(", ", missingFields) + "를 입력해주세요.";
+            log.warn("필수 필드 누락: {}", errorMessage);
 
-                return ResponseEntity.badRequest().body(Map.of(
-                        "success", false,
-                        "message", errorMessage,
-                        "substituteFailure", true,
-                        "error", "MISSING_REQUIRED_FIELDS"
-                ));
-            }
+            return Mono.just(ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", errorMessage,
+                    "substituteFailure", true,
+                    "error", "MISSING_REQUIRED_FIELDS"
+            )));
+        }
+
+        // 같은 재료인지 확인
+        if (request.getOriginalIngredient().trim().equalsIgnoreCase(request.getSubstituteIngredient().trim())) {
+            log.warn("동일한 재료로 대체 시도: {}", request.getOriginalIngredient());
+            return Mono.just(ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", "같은 재료로는 대체할 수 없습니다.",
+                    "substituteFailure", true,
+                    "error", "SAME_INGREDIENT"
+            )));
+        }
 
-            // 같은 재료인지 확인
-            if (request.getOriginalIngredient().trim().equalsIgnoreCase(request.getSubstituteIngredient().trim())) {
-                log.warn("동일한 재료로 대체 시도: {}", request.getOriginalIngredient());
-                return ResponseEntity.badRequest().body(Map.of(
-                        "success", false,
-                        "message", "같은 재료로는 대체할 수 없습니다.",
-                        "substituteFailure", true,
-                        "error", "SAME_INGREDIENT"
-                ));
+        String username = userDetails != null ? userDetails.getUsername() : null;
+
+        // Flask 서버에 대체 재료 요청 (LLM 판단) - 요청 스레드를 점유하지 않고 비동기로 응답
+        return recipeService.substituteIngredient(request)
+                .<ResponseEntity<?>>map(response -> toSubstituteResponse(request, username, response))
+                .switchIfEmpty(Mono.<ResponseEntity<?>>fromSupplier(() -> {
+                    log.error("Flask 서버로부터 null 응답 수신");
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(Map.of(
+                                    "success", false,
+                                    "message", "AI 서버에서 응답을 받지 못했습니다. 잠시 후 다시 시도해주세요.",
+                                    "substituteFailure", true,
+                                    "error", "NO_RESPONSE_FROM_AI"
+                            ));
+                }))
+                .onErrorResume(Exception.class, e -> {
+                    log.error("대체 재료 요청 중 오류 발생: {}", e.getMessage(), e);
+
+                    // 예외 타입에 따른 구체적인 오류 메시지
+                    String errorMessage = buildExceptionErrorMessage(e);
+                    String errorCode = getErrorCodeFromException(e);
+
+                    return Mono.<ResponseEntity<?>>just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(Map.of(
+                                    "success", false,
+                                    "message", errorMessage,
+                                    "error", errorCode,
+                                    "substituteFailure", true,
+                                    "details", e.getMessage() != null ? e.getMessage() : "알 수 없는 오류"
+                            )));
+                });
+    }
+
+    /**
+     * 대체 재료 처리 결과를 응답 본문으로 변환
+     */
+    private ResponseEntity<?> toSubstituteResponse(SubstituteIngredientRequest request, String username,
+                                                   RecipeGenerateResponse response) {
+        // Flask 응답에서 대체 실패 여부 확인 (LLM 판단 결과)
+        if (response.isSubstituteFailure()) {
+            // 대체 실패 시 명확한 오류 응답 반환
+            String errorMessage = response.getDescription();
+            if (errorMessage == null || errorMessage.isEmpty()) {
+                errorMessage = String.format(
+                        "%s를 %s로 대체할 수 없습니다. 자세한 이유는 제공되지 않았습니다.",
+                        request.getOriginalIngredient(),
+                        request.getSubstituteIngredient()
+                );
             }
 
-            // Flask 서버에 대체 재료 요청 (LLM 판단)
-            RecipeGenerateResponse response = recipeService.substituteIngredient(request).block();
-
-            if (response != null) {
-                // Flask 응답에서 대체 실패 여부 확인 (LLM 판단 결과)
-                if (response.isSubstituteFailure()) {
-                    // 대체 실패 시 명확한 오류 응답 반환
-                    String errorMessage = response.getDescription();
-                    if (errorMessage == null || errorMessage.isEmpty()) {
-                        errorMessage = String.format(
-                                "%s를 %s로 대체할 수 없습니다. 자세한 이유는 제공되지 않았습니다.",
-                                request.getOriginalIngredient(),
-                                request.getSubstituteIngredient()
-                        );
-                    }
+            log.info("대체 재료 실패(LLM 판단): {}", errorMessage);
+
+            return ResponseEntity.ok().body(Map.of(
+                    "success", false,
+                    "message", errorMessage,
+                    "description", errorMessage,
+                    "substituteFailure", true,
+                    "originalIngredient", request.getOriginalIngredient(),
+                    "substituteIngredient", request.getSubstituteIngredient(),
+                    "error", "SUBSTITUTE_NOT_POSSIBLE_LLM"
+            ));
+        }
 
-                    log.info("대체 재료 실패(LLM 판단): {}", errorMessage);
-
-                    return ResponseEntity.ok().body(Map.of(
-                            "success", false,
-                            "message", errorMessage,
-                            "description", errorMessage,
-                            "substituteFailure", true,
-                            "originalIngredient", request.getOriginalIngredient(),
-                            "substituteIngredient", request.getSubstituteIngredient(),
-                            "error", "SUBSTITUTE_NOT_POSSIBLE_LLM"
-                    ));
-                }
+        // 성공한 경우 WebSocket 알림 전송
+        try {
+            sendSubstituteRecipeNotification(
+                    username,
+                    request.getOriginalIngredient(),
+                    request.getSubstituteIngredient(),
+                    response.getName()
+            );
+        } catch (Exception e) {
+            log.warn("WebSocket 알림 전송 실패 (무시됨): {}", e.getMessage());
+        }
 
-                // 성공한 경우 WebSocket 알림 전송
-                try {
-                    sendSubstituteRecipeNotification(
-                            userDetails.getUsername(),
-                            request.getOriginalIngredient(),
-                            request.getSubstituteIngredient(),
-                            response.getName()
-                    );
-                } catch (Exception e) {
-                    log.warn("WebSocket 알림 전송 실패 (무시됨): {}", e.getMessage());
-                }
+        // 성공 응답에 추가 정보 포함
+        response.setSubstituteFailure(false);
+        log.info("대체 재료 성공(LLM 판단): {} -> {}, 새 레시피: {}",
+                request.getOriginalIngredient(),
+                request.getSubstituteIngredient(),
+                response.getName());
+
+        // 성공 응답에 메타데이터 추가
+        Map<String, Object> successResponse = new HashMap<>();
+        successResponse.put("success", true);
+        successResponse.put("id", response.getId());
+        successResponse.put("name", response.getName());
+        successResponse.put("description", response.getDescription());
+        successResponse.put("ingredients", response.getIngredients());
+        successResponse.put("instructions", response.getInstructions());
+        successResponse.put("userId", response.getUserId());
+        successResponse.put("substituteFailure", false);
+
+        // 기존 레시피 변경 내역
+        if (response.getUpdateResult() != null) {
+            successResponse.put("updateResult", response.getUpdateResult());
+        }
 
-                // 성공 응답에 추가 정보 포함
-                response.setSubstituteFailure(false);
-                log.info("대체 재료 성공(LLM 판단): {} -> {}, 새 레시피: {}",
-                        request.getOriginalIngredient(),
-                        request.getSubstituteIngredient(),
-                        response.getName());
-
-                // 성공 응답에 메타데이터 추가
-                Map<String, Object> successResponse = new HashMap<>();
-                successResponse.put("success", true);
-                successResponse.put("id", response.getId());
-                successResponse.put("name", response.getName());
-                successResponse.put("description", response.getDescription());
-                successResponse.put("ingredients", response.getIngredients());
-                successResponse.put("instructions", response.getInstructions());
-                successResponse.put("userId", response.getUserId());
-                successResponse.put("substituteFailure", false);
-
-                // 대체 정보 추가
-                if (response.getSubstitutionInfo() != null) {
-                    successResponse.put("substitutionInfo", response.getSubstitutionInfo());
-                } else {
-                    // 기본 대체 정보 생성
-                    Map<String, Object> substitutionInfo = new HashMap<>();
-                    substitutionInfo.put("original", request.getOriginalIngredient());
-                    substitutionInfo.put("substitute", request.getSubstituteIngredient());
-                    successResponse.put("substitutionInfo", substitutionInfo);
-                }
+        // 대체 정보 추가
+        if (response.getSubstitutionInfo() != null) {
+            successResponse.put("substitutionInfo", response.getSubstitutionInfo());
+        } else {
+            // 기본 대체 정보 생성
+            Map<String, Object> substitutionInfo = new HashMap<>();
+            substitutionInfo.put("original", request.getOriginalIngredient());
+            substitutionInfo.put("substitute", request.getSubstituteIngredient());
+            successResponse.put("substitutionInfo", substitutionInfo);
+        }
 
-                return ResponseEntity.ok(successResponse);
-            } else {
-                log.error("Flask 서버로부터 null 응답 수신");
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                        .body(Map.of(
-                                "success", false,
-                                "message", "AI 서버에서 응답을 받지 못했습니다. 잠시 후 다시 시도해주세요.",
-                                "substituteFailure", true,
-                                "error", "NO_RESPONSE_FROM_AI"
-                        ));
-            }
-        } catch (Exception e) {
-            log.error("대체 재료 요청 중 오류 발생: {}", e.getMessage(), e);
+        return ResponseEntity.ok(successResponse);
+    }
 
-            // 예외 타입에 따른 구체적인 오류 메시지
-            String errorMessage = buildExceptionErrorMessage(e);
-            String errorCode = getErrorCodeFromException(e);
+    /**
+     * 일괄 대체 재료 요청 API - 여러 (원재료, 대체재료) 쌍을 한 번의 LLM 호출과 한 번의 업데이트로 처리
+     * 쌍별 처리 결과(실패 사유 포함)는 results에 요청 순서대로 담김
+     */
+    @PostMapping("/api/recipe/{recipeId}/substitutions")
+    public Mono<ResponseEntity<?>> substituteIngredients(
+            @PathVariable Long recipeId,
+            @RequestBody BatchSubstituteRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of(
-                            "success", false,
-                            "message", errorMessage,
-                            "error", errorCode,
-                            "substituteFailure", true,
-                            "details", e.getMessage() != null ? e.getMessage() : "알 수 없는 오류"
-                    ));
+        int pairCount = request.getSubstitutions() != null ? request.getSubstitutions().size() : 0;
+        log.info("일괄 대체 재료 요청 처리 - 사용자: {}, 레시피 ID: {}, 재료 쌍: {}개",
+                userDetails != null ? userDetails.getUsername() : "인증되지 않음", recipeId, pairCount);
+
+        if (pairCount == 0) {
+            return Mono.just(ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", "대체할 재료를 입력해주세요.",
+                    "substituteFailure", true,
+                    "error", "MISSING_REQUIRED_FIELDS"
+            )));
+        }
+        if (pairCount > MAX_BATCH_SUBSTITUTIONS) {
+            return Mono.just(ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", String.format("한 번에 최대 %d개 재료까지 대체할 수 있습니다.", MAX_BATCH_SUBSTITUTIONS),
+                    "substituteFailure", true,
+                    "error", "TOO_MANY_SUBSTITUTIONS"
+            )));
         }
+
+        String username = userDetails != null ? userDetails.getUsername() : null;
+
+        // 레시피 없음, 소유자 아님 등 CustomException은 전역 예외 처리기로 전달
+        return recipeService.substituteIngredients(recipeId, request, userDetails)
+                .<ResponseEntity<?>>map(response -> toBatchSubstituteResponse(username, response))
+                .onErrorResume(Exception.class, e -> {
+                    if (e instanceof CustomException) {
+                        return Mono.<ResponseEntity<?>>error(e);
+                    }
+                    log.error("일괄 대체 재료 요청 중 오류 발생: {}", e.getMessage(), e);
+                    return Mono.<ResponseEntity<?>>just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(Map.of(
+                                    "success", false,
+                                    "message", buildExceptionErrorMessage(e),
+                                    "error", getErrorCodeFromException(e),
+                                    "substituteFailure", true,
+                                    "details", e.getMessage() != null ? e.getMessage() : "알 수 없는 오류"
+                            )));
+                });
+    }
+
+    /**
+     * 일괄 대체 결과를 응답 본문으로 변환하고 알림은 한 번만 전송
+     */
+    private ResponseEntity<?> toBatchSubstituteResponse(String username, BatchSubstituteResponse response) {
+        List<BatchSubstituteResponse.PairResult> applied = response.getResults().stream()
+                .filter(result -> !result.isSubstituteFailure())
+                .toList();
+        RecipeGenerateResponse recipe = response.getRecipe();
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", recipe != null && !applied.isEmpty());
+        body.put("substituteFailure", recipe == null || applied.isEmpty());
+        body.put("results", response.getResults());
+        body.put("appliedCount", applied.size());
+        body.put("failedCount", response.getResults().size() - applied.size());
+
+        if (recipe == null || applied.isEmpty()) {
+            body.put("message", "적용할 수 있는 대체 재료가 없습니다.");
+            body.put("error", "SUBSTITUTE_NOT_POSSIBLE");
+            return ResponseEntity.ok(body);
+        }
+
+        body.put("id", recipe.getId());
+        body.put("name", recipe.getName());
+        body.put("description", recipe.getDescription());
+        body.put("ingredients", recipe.getIngredients());
+        body.put("instructions", recipe.getInstructions());
+        body.put("userId", recipe.getUserId());
+        if (recipe.getUpdateResult() != null) {
+            body.put("updateResult", recipe.getUpdateResult());
+        }
+
+        sendBatchSubstituteNotification(username, applied, recipe.getName());
+        return ResponseEntity.ok(body);
     }
 
     /**
@@ -421,7 +554,7 @@ public class RecipeController {
 
             // 위의 generateRecipeFromImage 메서드와 동일한 기능이므로
             // 해당 메서드를 호출하여 중복 코드 제거
-            return generateRecipeFromImage(image, instructions, userDetails);
+            return generateRecipeFromImage(image, instructions, false, userDetails);
         } catch (Exception e) {
             log.error("이미지 업로드 처리 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -448,20 +581,8 @@ public class RecipeController {
         } catch (Exception e) {
             log.error("영양 정보 갱신 처리 중 오류 발생: {}", e.getMessage(), e);
 
-            // 오류 발생 시에도 클라이언트에는 기본 영양 정보 반환 (사용자 경험 유지)
-            NutritionDTO defaultNutrition = NutritionDTO.builder()
-                    .calories(500.0)
-                    .carbohydrate(30.0)
-                    .protein(25.0)
-                    .fat(15.0)
-                    .sugar(5.0)
-                    .sodium(400.0)
-                    .saturatedFat(3.0)
-                    .transFat(0.0)
-                    .cholesterol(50.0)
-                    .build();
-
-            return ResponseEntity.ok(defaultNutrition);
+            // 오류 발생 시에도 클라이언트에는 마지막 저장 값(stale) 또는 기본값(estimated) 반환 (사용자 경험 유지)
+            return ResponseEntity.ok(nutritionService.lastKnownOrDefault(recipeId));
         }
     }
 
@@ -469,11 +590,19 @@ public class RecipeController {
      * 레시피 생성 알림을 WebSocket으로 전송
      */
     private void sendRecipeNotification(String username, String recipeName) {
+        sendRecipeNotification(username, recipeName, null, null);
+    }
+
+    private void sendRecipeNotification(String username, String recipeName, String jobId, Long recipeId) {
         try {
             Map<String, Object> notification = new HashMap<>();
             notification.put("type", "recipe_generated");
             notification.put("message", "새로운 레시피가 생성되었습니다: " + recipeName);
             notification.put("username", "시스템");
+            if (jobId != null) {
+                notification.put("jobId", jobId);
+                notification.put("recipeId", recipeId);
+            }
 
             messagingTemplate.convertAndSendToUser(
                     username,
@@ -487,6 +616,65 @@ public class RecipeController {
         }
     }
 
+    /**
+     * 비동기 레시피 생성 작업 결과를 WebSocket으로 전송
+     */
+    private void sendRecipeJobNotification(String username, RecipeJobResponse job) {
+        if (RecipeGenerationJobService.COMPLETED.equals(job.getStatus())) {
+            sendRecipeNotification(username, job.getRecipe().getName(), job.getJobId(), job.getRecipe().getId());
+            return;
+        }
+
+        try {
+            Map<String, Object> notification = new HashMap<>();
+            notification.put("type", "recipe_failed");
+            notification.put("message", "레시피 생성에 실패했습니다. 다시 시도해주세요.");
+            notification.put("username", "시스템");
+            notification.put("jobId", job.getJobId());
+
+            messagingTemplate.convertAndSendToUser(
+                    username,
+                    "/queue/messages",
+                    notification
+            );
+
+            log.debug("레시피 생성 실패 알림 전송 완료: {} -> {}", username, job.getJobId());
+        } catch (Exception e) {
+            log.warn("레시피 생성 실패 알림 전송 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 일괄 대체 레시피 알림을 WebSocket으로 한 번만 전송
+     */
+    private void sendBatchSubstituteNotification(String username, List<BatchSubstituteResponse.PairResult> applied,
+                                                 String recipeName) {
+        if (username == null) {
+            return;
+        }
+        try {
+            String pairs = applied.stream()
+                    .map(result -> result.getOriginalIngredient() + "→" + result.getSubstituteIngredient())
+                    .collect(Collectors.joining(", "));
+
+            Map<String, Object> notification = new HashMap<>();
+            notification.put("type", "recipe_substituted");
+            notification.put("message", String.format("%s 대체한 레시피가 생성되었습니다: %s", pairs, recipeName));
+            notification.put("username", "시스템");
+            notification.put("success", true);
+            notification.put("substitutions", applied.stream()
+                    .map(result -> Map.of(
+                            "originalIngredient", result.getOriginalIngredient(),
+                            "substituteIngredient", result.getSubstituteIngredient()))
+                    .toList());
+
+            messagingTemplate.convertAndSendToUser(username, "/queue/messages", notification);
+            log.debug("일괄 대체 레시피 알림 전송 완료: {}", pairs);
+        } catch (Exception e) {
+            log.warn("일괄 대체 레시피 알림 전송 실패: {}", e.getMessage());
+        }
+    }
+
     /**
      * 대체 레시피 생성 알림을 WebSocket으로 전송
      */
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.example.capstone.global.jpa.TimeOrderedId;
 
 
 @Entity
@@ -15,8 +16,9 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class Instruction {
 
+    // 배치 INSERT를 위해 애플리케이션에서 ID 생성
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(columnDefinition = "TEXT")
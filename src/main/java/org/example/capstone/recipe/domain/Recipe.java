@@ -24,10 +24,13 @@ public class Recipe {
     private String name;
     private String description;
 
+    // 행 단위 변경(RecipeRowDiff)이 위치로 짝을 맞추므로 저장 순서(시간순 ID)대로 로딩
     @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id")
     private List<Ingredient> ingredients;
 
     @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id")
     private List<Instruction> instructions;
 
     @ManyToOne
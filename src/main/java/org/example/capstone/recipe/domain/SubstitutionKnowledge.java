@@ -0,0 +1,48 @@
+package org.example.capstone.recipe.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재료 쌍별 대체 판단 누적 기록
+ * Flask(LLM) 응답의 SubstitutionInfo를 재료 쌍 단위로 모아 로컬 판단 근거로 사용
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"original_ingredient", "substitute_ingredient"}))
+public class SubstitutionKnowledge {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 정규화된 재료명 (공백 제거, 소문자)
+    @Column(name = "original_ingredient", nullable = false)
+    private String originalIngredient;
+
+    @Column(name = "substitute_ingredient", nullable = false)
+    private String substituteIngredient;
+
+    private int successCount;       // 대체 가능 판단 횟수
+    private int failureCount;       // 대체 불가 판단 횟수
+
+    private Double similarityScore; // 유사도 평균
+    private Double amountRatio;     // 대체 재료 양 / 원재료 양 평균
+    private int ratioSamples;       // 비율 평균에 사용된 표본 수
+
+    @Column(columnDefinition = "TEXT")
+    private String reason;          // 최근 판단 사유
+
+    @Column(columnDefinition = "TEXT")
+    private String cookingTips;     // 조리 팁 (줄바꿈 구분)
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package org.example.capstone.recipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+public class BatchSubstituteRequest {
+    private List<SubstitutionPair> substitutions;   // (원재료, 대체재료) 목록
+    private String recipeName;                      // 없으면 기존 레시피 이름 사용
+    private String sessionId;
+
+    private boolean includeOriginalRecipe = true;
+    private boolean autoAdjustAmount = true;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SubstitutionPair {
+        private String originalIngredient;
+        private String substituteIngredient;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.capstone.recipe.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 대체 재료 응답 (Flask 응답 형식 겸용)
+ * - recipe: 적용 가능한 쌍이 모두 반영된 레시피 (적용된 쌍이 없으면 null)
+ * - results: 요청한 쌍별 처리 결과 (요청 순서 유지)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchSubstituteResponse {
+    private RecipeGenerateResponse recipe;
+    private List<PairResult> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PairResult {
+        @JsonAlias("ori")
+        private String originalIngredient;
+        @JsonAlias("sub")
+        private String substituteIngredient;
+        private boolean substituteFailure;
+        private String error;           // 실패 코드 (성공 시 null)
+        @JsonAlias("description")
+        private String reason;          // 실패 사유 또는 대체 이유
+        private RecipeGenerateResponse.SubstitutionInfo substitutionInfo;
+    }
+}
@@ -1,11 +1,14 @@
 package org.example.capstone.recipe.dto;
 
 import lombok.Data;
+import org.example.capstone.global.util.SpooledImage;
 import org.springframework.web.multipart.MultipartFile;
 
 @Data
 public class RecipeGenerateRequest {
     private MultipartFile image;
+    // 디스크에 임시 저장된 업로드 이미지 (Flask로 스트리밍 전송)
+    private SpooledImage spooledImage;
     private String instructions;
     private String username;
     private String sessionId;
@@ -23,6 +23,9 @@ public class RecipeGenerateResponse {
     // 추가: 대체 재료 관련 정보
     private SubstitutionInfo substitutionInfo;
 
+    // 대체 재료 적용 시 기존 레시피 변경 내역
+    private RecipeUpdateResult updateResult;
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -0,0 +1,21 @@
+package org.example.capstone.recipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeJobResponse {
+    private String jobId;
+    private String status;          // PENDING, RUNNING, COMPLETED, FAILED
+    private RecipeGenerateResponse recipe;  // 완료 시 생성된 레시피
+    private String error;           // 실패 시 오류 메시지
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+}
@@ -14,10 +14,21 @@ import java.util.List;
 public class RecipeUpdateResult {
     private Long recipeId;
     private String recipeName;
+    private Long userId;            // 레시피 소유자 ID
     private boolean success;
     private String message;
     private LocalDateTime updatedAt;
 
+    // 실제로 변경된 행 수 (변경 없는 행은 건드리지 않음)
+    private int ingredientsInserted;
+    private int ingredientsUpdated;
+    private int ingredientsDeleted;
+    private int ingredientsUnchanged;
+    private int instructionsInserted;
+    private int instructionsUpdated;
+    private int instructionsDeleted;
+    private int instructionsUnchanged;
+
     // 변경된 재료 정보
     private List<IngredientChange> ingredientChanges;
 
@@ -2,11 +2,44 @@ package org.example.capstone.recipe.repository;
 
 import org.example.capstone.recipe.domain.Recipe;
 import org.example.capstone.user.domain.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface RecipeRepository extends JpaRepository<Recipe, Long> {
 
     List<Recipe> findByUser(User user);
+
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    /**
+     * 재료까지 함께 조회 (영속성 컨텍스트가 없는 백그라운드 스레드에서도 재료 접근 가능)
+     * @param recipeId 레시피 ID
+     * @return 재료가 채워진 레시피 (있는 경우)
+     */
+    @Query("SELECT DISTINCT r FROM Recipe r LEFT JOIN FETCH r.ingredients LEFT JOIN FETCH r.user WHERE r.id = :recipeId")
+    Optional<Recipe> findWithIngredientsById(@Param("recipeId") Long recipeId);
+
+    /**
+     * 여러 레시피를 재료까지 한 번의 쿼리로 조회
+     * @param recipeIds 레시피 ID 목록
+     * @return 재료가 채워진 레시피 목록 (없는 ID는 제외)
+     */
+    @Query("SELECT DISTINCT r FROM Recipe r LEFT JOIN FETCH r.ingredients LEFT JOIN FETCH r.user WHERE r.id IN :recipeIds")
+    List<Recipe> findWithIngredientsByIdIn(@Param("recipeIds") Collection<Long> recipeIds);
+
+    /**
+     * 레시피 행 잠금 조회 (SELECT ... FOR UPDATE) - 같은 레시피에 딸린 데이터를 여러 트랜잭션이 동시에 고치지 않도록 함
+     * @param recipeId 레시피 ID
+     * @return 잠근 레시피 (있는 경우)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Recipe r WHERE r.id = :recipeId")
+    Optional<Recipe> findByIdForUpdate(@Param("recipeId") Long recipeId);
 }
@@ -0,0 +1,12 @@
+package org.example.capstone.recipe.repository;
+
+import org.example.capstone.recipe.domain.SubstitutionKnowledge;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface SubstitutionKnowledgeRepository extends JpaRepository<SubstitutionKnowledge, Long> {
+
+    Optional<SubstitutionKnowledge> findByOriginalIngredientAndSubstituteIngredient(String originalIngredient,
+                                                                                   String substituteIngredient);
+}
@@ -7,22 +7,20 @@ import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpEntity;
-import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.mime.HttpMultipartMode;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.util.EntityUtils;
+import org.example.capstone.global.client.FileChannelBody;
+import org.example.capstone.global.client.FlaskCircuitBreaker;
+import org.example.capstone.global.client.FlaskGateway;
 import org.example.capstone.global.exception.CustomException;
 import org.example.capstone.global.exception.ErrorCode;
+import org.example.capstone.global.util.SpooledImage;
+import org.example.capstone.nutrition.service.NutritionPrecomputeService;
 import org.example.capstone.recipe.domain.Ingredient;
 import org.example.capstone.recipe.domain.Instruction;
 import org.example.capstone.recipe.domain.Recipe;
 import org.example.capstone.recipe.dto.*;
-import org.example.capstone.recipe.repository.IngredientRepository;
-import org.example.capstone.recipe.repository.InstructionRepository;
 import org.example.capstone.recipe.repository.RecipeRepository;
 import org.example.capstone.statisfaction.domain.Satisfaction;
 import org.example.capstone.statisfaction.repository.SatisfactionRepository;
@@ -30,23 +28,28 @@ import org.example.capstone.user.domain.User;
 import org.example.capstone.user.login.dto.CustomUserDetails;
 import org.example.capstone.user.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.regex.Matcher;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.regex.Pattern;
 
 import static org.example.capstone.global.exception.ErrorCode.*;
 
@@ -59,23 +62,23 @@ public class FlaskRecipeService {
     @Value("${flask.api.base-url}")
     private String flaskBaseUrl;
 
-    @Value("${flask.api.endpoints.chat}")
-    private String chatEndpoint;
-
     @Value("${flask.api.endpoints.recipe-generate}")
     private String recipeGenerateEndpoint;
 
-    @Value("${flask.api.endpoints.substitute}")
-    private String substituteEndpoint;
-
-    // 웹 클라이언트 및 Repository 관련 필드
-    private final WebClient webClient;
+    // Flask 게이트웨이 및 Repository 관련 필드
+    private final FlaskGateway flaskGateway;
+    private final RecipeImageStorage recipeImageStorage;
+    private final RecipeImagePreprocessor recipeImagePreprocessor;
+    private final RecipeResultCache recipeResultCache;
+    private final SubstitutionResultCache substitutionResultCache;
+    private final SubstitutionKnowledgeService substitutionKnowledgeService;
     private final ObjectMapper objectMapper;
     private final RecipeRepository recipeRepository;
-    private final IngredientRepository ingredientRepository;
-    private final InstructionRepository instructionRepository;
     private final UserRepository userRepository;
     private final SatisfactionRepository satisfactionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Scheduler recipePersistenceScheduler;
+    private final NutritionPrecomputeService nutritionPrecomputeService;
 
     @PostConstruct
     public void init() {
@@ -97,7 +100,7 @@ public class FlaskRecipeService {
     }
 
     /**
-     * 사용자 정보를 Flask로 전송
+     * 사용자 정보를 Flask로 전송 (채팅 엔드포인트와 같은 서킷 브레이커를 거침)
      */
     public Mono<Void> sendUserInfoToFlask(CustomUserDetails userDetails) {
         log.debug("Flask API로 유저 정보 전송: {}", userDetails);
@@ -112,21 +115,30 @@ public class FlaskRecipeService {
                 .satisfactions(satisfactions)
                 .build();
 
-        return webClient.post()
-                .uri(chatEndpoint)
-                .bodyValue(info)
-                .retrieve()
-                .bodyToMono(Void.class)
+        return Mono.fromCallable(() -> flaskGateway.userInfo(info))
+                .subscribeOn(Schedulers.boundedElastic())
                 .doOnSuccess(v -> log.debug("Flask API로 유저 정보 전송 성공"))
-                .doOnError(e -> log.error("Flask API로 유저 정보 전송 실패: {}", e.getMessage()));
+                .doOnError(e -> log.error("Flask API로 유저 정보 전송 실패: {}", e.getMessage()))
+                .then();
     }
 
     /**
      * 이미지 분석 및 레시피 생성 요청을 Flask 서버로 전송
+     * - 트랜잭션 없이 사용자 조회 및 요청 구성
+     * - Flask 호출 중에는 DB 커넥션을 점유하지 않음
+     * - 응답 저장만 짧은 별도 트랜잭션으로 수행
      */
-    @Transactional
     public RecipeGenerateResponse generateRecipeFromImage(RecipeGenerateRequest request) throws IOException {
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
+        // 업로드 이미지를 디스크로 옮김 (비동기 작업은 이미 옮겨진 상태로 전달됨)
+        boolean spooledHere = false;
+        if (request.getSpooledImage() == null && request.getImage() != null && !request.getImage().isEmpty()) {
+            request.setSpooledImage(recipeImageStorage.spool(request.getImage()));
+            spooledHere = true;
+        }
+        SpooledImage spooledImage = request.getSpooledImage();
+        SpooledImage uploadImage = spooledImage;
+
+        try {
             // 전체 URL 구성
             String fullUrl = flaskBaseUrl + recipeGenerateEndpoint;
             log.info("Requesting to Flask URL: {}", fullUrl);
@@ -153,8 +165,13 @@ public class FlaskRecipeService {
                 throw new CustomException(USER_NOT_FOUND);
             }
 
-            // 이 부분에서 fullUrl을 사용하도록 수정
-            HttpPost uploadFile = new HttpPost(fullUrl);
+            // 같은 사진/조건의 재요청이면 Flask 호출 없이 캐시 결과 사용
+            String cacheKey = recipeResultCache.keyOf(spooledImage, request.getInstructions(), user);
+            RecipeResultCache.CachedRecipe cached = recipeResultCache.get(cacheKey);
+            if (cached != null) {
+                log.info("레시피 생성 캐시 적중 - 사용자: {}", user.getUsername());
+                return respondFromCache(cached, user);
+            }
 
             // UTF-8 인코딩 명시적 설정
             MultipartEntityBuilder builder = MultipartEntityBuilder.create();
@@ -181,9 +198,12 @@ public class FlaskRecipeService {
                 log.debug("사용자 선호도 추가: {}", user.getPreference());
             }
 
-            if (request.getImage() != null && !request.getImage().isEmpty()) {
+            if (spooledImage != null) {
+                // 축소 및 JPEG 재인코딩 (처리할 수 없는 형식이면 원본 그대로)
+                uploadImage = recipeImagePreprocessor.process(spooledImage);
+
                 // 파일 이름에서 비ASCII 문자 제거
-                String originalFilename = request.getImage().getOriginalFilename();
+                String originalFilename = uploadImage.getOriginalFilename();
                 String safeFilename = originalFilename != null ?
                         originalFilename.replaceAll("[^a-zA-Z0-9.\\-]", "_") :
                         "image.jpg";
@@ -199,47 +219,71 @@ public class FlaskRecipeService {
                     safeFilename += fileExt;
                 }
 
-                log.info("이미지 파일명: {}, 확장자: {}", safeFilename, fileExt);
+                log.info("이미지 파일명: {}, 확장자: {}, 크기: {} bytes", safeFilename, fileExt, uploadImage.getSize());
 
-                builder.addBinaryBody(
-                        "image",
-                        request.getImage().getInputStream(),
+                // 임시 파일을 FileChannel로 직접 스트리밍 (힙에 이미지 전체를 올리지 않음)
+                builder.addPart("image", new FileChannelBody(
+                        uploadImage.getPath(),
                         ContentType.MULTIPART_FORM_DATA,
                         safeFilename // 안전한 파일 이름 사용
-                );
+                ));
             }
 
             HttpEntity multipart = builder.build();
-            uploadFile.setEntity(multipart);
-
-            // 인코딩 헤더 추가
-            uploadFile.setHeader("Accept-Charset", "UTF-8");
-
-            try (CloseableHttpResponse response = httpClient.execute(uploadFile)) {
-                HttpEntity responseEntity = response.getEntity();
-                String responseString = EntityUtils.toString(responseEntity, StandardCharsets.UTF_8);
-                log.info("Flask API Response for Recipe Generate: {}", responseString);
 
-                RecipeGenerateResponse flaskResponse = objectMapper.readValue(responseString, RecipeGenerateResponse.class);
+            // 공유 커넥션 풀을 사용하는 게이트웨이로 요청 전송
+            RecipeGenerateResponse flaskResponse = flaskGateway.generateRecipe(multipart);
 
-                // 현재 요청 사용자의 정보로 레시피 저장
-                // 이미 위에서 user 변수를 정의했으므로 다시 정의하지 않고 그대로 사용
-                // User user = null; 이 부분을 제거하고 기존 user 변수 사용
+            // 현재 요청 사용자의 정보로 레시피 저장 (짧은 트랜잭션)
+            final User owner = user;
+            Recipe savedRecipe = transactionTemplate.execute(status -> saveRecipeFromResponse(flaskResponse, owner));
+            flaskResponse.setId(savedRecipe.getId());
 
-                Recipe savedRecipe = saveRecipeFromResponse(flaskResponse, user);
-                flaskResponse.setId(savedRecipe.getId());
+            // 응답에 사용자 ID 설정 (클라이언트에서 확인용)
+            flaskResponse.setUserId(user.getId());
 
-                // 응답에 사용자 ID 설정 (클라이언트에서 확인용)
-                flaskResponse.setUserId(user.getId());
+            recipeResultCache.put(cacheKey, flaskResponse, user.getId(), savedRecipe.getId());
 
-                return flaskResponse;
-            }
+            return flaskResponse;
+        } catch (FlaskCircuitBreaker.CircuitOpenException e) {
+            log.warn("Flask 레시피 생성 호출 차단: {}", e.getMessage());
+            throw new CustomException(ErrorCode.FLASK_UNAVAILABLE);
         } catch (Exception e) {
             log.error("Flask Recipe API 통신 중 오류 발생: {}", e.getMessage(), e);
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } finally {
+            // 전처리 결과 파일은 항상 여기서 정리
+            if (uploadImage != spooledImage) {
+                uploadImage.close();
+            }
+            if (spooledHere) {
+                spooledImage.close();
+            }
         }
     }
 
+    /**
+     * 캐시된 생성 결과로 응답
+     * - 캐시 키에 사용자 ID가 포함되므로 항목은 항상 요청 사용자의 것
+     * - 레시피가 남아 있고 소유자가 같으면 새로 저장하지 않고 기존 레시피 ID 반환
+     * - 레시피가 삭제되었거나 소유자가 다르면 복사본을 요청 사용자의 레시피로 저장
+     */
+    private RecipeGenerateResponse respondFromCache(RecipeResultCache.CachedRecipe cached, User user) {
+        RecipeGenerateResponse response = cached.getResponse();
+
+        if (user.getId().equals(cached.getUserId())
+                && cached.getRecipeId() != null
+                && recipeRepository.existsByIdAndUserId(cached.getRecipeId(), user.getId())) {
+            response.setId(cached.getRecipeId());
+        } else {
+            Recipe savedRecipe = transactionTemplate.execute(status -> saveRecipeFromResponse(response, user));
+            response.setId(savedRecipe.getId());
+        }
+
+        response.setUserId(user.getId());
+        return response;
+    }
+
     /**
      * RecipeGenerateResponse로부터 레시피 저장 (사용자 객체 직접 전달)
      */
@@ -295,129 +339,422 @@ public class FlaskRecipeService {
         log.info("레시피 저장 완료 - ID: {}, 소유자: {}, 소유자 ID: {}",
                 savedRecipe.getId(), savedRecipe.getUser().getUsername(), savedRecipe.getUser().getId());
 
+        // 커밋 후 영양 정보를 백그라운드에서 미리 계산
+        nutritionPrecomputeService.scheduleAfterCommit(savedRecipe.getId());
+
         return savedRecipe;
     }
 
     /**
      * 대체 재료 요청 처리 - LLM 기반 판단 적용
+     * - 기존 레시피 조회/저장은 전용 스레드 풀(recipePersistenceScheduler)에서 실행
+     * - Flask 호출은 boundedElastic에서 실행
+     * - 호출 스레드(요청/이벤트 루프)에서는 블로킹 작업을 하지 않음
      */
     public Mono<RecipeGenerateResponse> substituteIngredient(SubstituteIngredientRequest request) {
         log.debug("대체 재료 요청: 원재료={}, 대체재료={}, 레시피={}, 레시피ID={}",
                 request.getOriginalIngredient(), request.getSubstituteIngredient(),
                 request.getRecipeName(), request.getRecipeId());
 
-        // 기존 레시피 데이터 조회
-        Recipe originalRecipe = null;
-        if (request.getRecipeId() != null) {
-            try {
-                originalRecipe = recipeRepository.findById(request.getRecipeId())
-                        .orElse(null);
+        return Mono.fromCallable(() -> buildSubstituteRequestBody(request))
+                .subscribeOn(recipePersistenceScheduler)
+                .flatMap(call -> requestSubstitution(call)
+                        .publishOn(recipePersistenceScheduler)
+                        .map(response -> applySubstituteResponse(request, call.recipeId(), response)))
+                .doOnError(e -> log.error("대체 재료 요청 실패: {}", e.getMessage()));
+    }
+
+    /**
+     * 대체 결과 조회 - 같은 레시피 내용/재료 쌍의 이전 결과(대체 불가 포함)가 있으면 재사용
+     */
+    private Mono<RecipeGenerateResponse> requestSubstitution(SubstituteCall call) {
+        // 근거가 충분한 재료 쌍은 지식 베이스에서 바로 결정
+        RecipeGenerateResponse local = substitutionKnowledgeService.answerLocally(call.body());
+        if (local != null) {
+            return Mono.just(local);
+        }
 
-                if (originalRecipe != null) {
-                    log.info("기존 레시피 발견 - ID: {}, 이름: {}", originalRecipe.getId(), originalRecipe.getName());
+        String cacheKey = substitutionResultCache.keyOf(call.body());
+        RecipeGenerateResponse cached = substitutionResultCache.get(cacheKey);
+        if (cached != null) {
+            log.info("대체 재료 캐시 적중 - {} -> {}, 대체 불가: {}",
+                    call.body().get("ori"), call.body().get("sub"), cached.isSubstituteFailure());
+            return Mono.just(cached);
+        }
+
+        // 게이트웨이 호출은 블로킹 I/O이므로 boundedElastic 스케줄러에서 실행
+        return Mono.fromCallable(() -> flaskGateway.substitute(call.body()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(response -> substitutionResultCache.put(cacheKey, response))
+                .publishOn(recipePersistenceScheduler)
+                .doOnNext(response -> learnSubstitution(call.body(), response));
+    }
+
+    /**
+     * LLM 판단 결과를 지식 베이스에 누적 (실패해도 응답에는 영향 없음)
+     */
+    private void learnSubstitution(Map<String, Object> requestBody, RecipeGenerateResponse response) {
+        try {
+            substitutionKnowledgeService.learn(requestBody, response);
+        } catch (Exception e) {
+            log.warn("대체 재료 판단 결과 누적 실패 (무시됨): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Flask 요청 본문 구성 (기존 레시피가 있으면 재료/조리법 포함)
+     * 지연 로딩 컬렉션을 읽으므로 짧은 트랜잭션 안에서 실행
+     */
+    private SubstituteCall buildSubstituteRequestBody(SubstituteIngredientRequest request) {
+        return transactionTemplate.execute(status -> {
+            // 기존 레시피 데이터 조회
+            Recipe originalRecipe = null;
+            if (request.getRecipeId() != null) {
+                try {
+                    originalRecipe = recipeRepository.findById(request.getRecipeId())
+                            .orElse(null);
+
+                    if (originalRecipe != null) {
+                        log.info("기존 레시피 발견 - ID: {}, 이름: {}", originalRecipe.getId(), originalRecipe.getName());
+                    }
+                } catch (Exception e) {
+                    log.warn("레시피 조회 중 오류: {}", e.getMessage());
                 }
-            } catch (Exception e) {
-                log.warn("레시피 조회 중 오류: {}", e.getMessage());
+            }
+
+            // 요청 본문 구성
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("ori", request.getOriginalIngredient());
+            requestBody.put("sub", request.getSubstituteIngredient());
+            requestBody.put("recipe", request.getRecipeName());
+
+            // 기존 레시피 데이터 추가 (LLM이 대체 가능성을 더 정확히 판단할 수 있도록)
+            if (originalRecipe != null) {
+                requestBody.put("originalRecipe", toOriginalRecipeData(originalRecipe));
+            }
+
+            // 자동 수량 조정 옵션 포함
+            requestBody.put("autoAdjustAmount", request.isAutoAdjustAmount());
+
+            // 원본 레시피 포함 옵션 포함
+            requestBody.put("includeOriginalRecipe", request.isIncludeOriginalRecipe());
+
+            return new SubstituteCall(originalRecipe != null ? originalRecipe.getId() : null, requestBody);
+        });
+    }
+
+    /**
+     * Flask 요청용 기존 레시피 데이터 (재료/조리법) - 트랜잭션 안에서 호출
+     */
+    private Map<String, Object> toOriginalRecipeData(Recipe originalRecipe) {
+        Map<String, Object> originalRecipeData = new HashMap<>();
+
+        // 기존 재료 정보
+        List<Map<String, String>> ingredientsList = new ArrayList<>();
+        if (originalRecipe.getIngredients() != null) {
+            for (Ingredient ingredient : originalRecipe.getIngredients()) {
+                Map<String, String> ingredientMap = new HashMap<>();
+                ingredientMap.put("name", ingredient.getName());
+                ingredientMap.put("amount", ingredient.getAmount() != null ? ingredient.getAmount() : "적당량");
+                ingredientsList.add(ingredientMap);
+            }
+        }
+        originalRecipeData.put("ingredients", ingredientsList);
+
+        // 기존 조리법 정보
+        List<Map<String, Object>> instructionsList = new ArrayList<>();
+        if (originalRecipe.getInstructions() != null) {
+            for (Instruction instruction : originalRecipe.getInstructions()) {
+                Map<String, Object> instructionMap = new HashMap<>();
+                instructionMap.put("instruction", instruction.getInstruction());
+                instructionMap.put("cookingTime", instruction.getCookingTime());
+                instructionMap.put("cookingTimeSeconds", instruction.getCookingTimeSeconds());
+                instructionMap.put("stepNumber", instructionsList.size() + 1);
+                instructionsList.add(instructionMap);
             }
         }
+        originalRecipeData.put("instructions", instructionsList);
+
+        log.debug("기존 레시피 데이터 포함됨 - 재료: {}개, 조리법: {}개",
+                ingredientsList.size(), instructionsList.size());
+        return originalRecipeData;
+    }
 
-        // 요청 본문 구성
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("ori", request.getOriginalIngredient());
-        requestBody.put("sub", request.getSubstituteIngredient());
-        requestBody.put("recipe", request.getRecipeName());
-
-        // 기존 레시피 데이터 추가 (LLM이 대체 가능성을 더 정확히 판단할 수 있도록)
-        if (originalRecipe != null) {
-            Map<String, Object> originalRecipeData = new HashMap<>();
-
-            // 기존 재료 정보
-            List<Map<String, String>> ingredientsList = new ArrayList<>();
-            if (originalRecipe.getIngredients() != null) {
-                for (Ingredient ingredient : originalRecipe.getIngredients()) {
-                    Map<String, String> ingredientMap = new HashMap<>();
-                    ingredientMap.put("name", ingredient.getName());
-                    ingredientMap.put("amount", ingredient.getAmount() != null ? ingredient.getAmount() : "적당량");
-                    ingredientsList.add(ingredientMap);
+    /**
+     * Flask 응답을 기존 레시피에 반영
+     */
+    private RecipeGenerateResponse applySubstituteResponse(SubstituteIngredientRequest request, Long recipeId,
+                                                           RecipeGenerateResponse response) {
+        log.debug("대체 재료 요청 응답: {}", response.getName());
+
+        // 대체 불가능 여부는 Flask 응답 그대로 사용 (LLM 판단 결과)
+        if (response.isSubstituteFailure()) {
+            log.info("대체 재료 사용 불가(LLM 판단): {} -> {}, 사유: {}",
+                    request.getOriginalIngredient(),
+                    request.getSubstituteIngredient(),
+                    response.getDescription());
+
+            return response;
+        }
+
+        // LLM이 조리법에 원재료명을 남긴 경우 로컬에서 교체
+        rewriteRemainingIngredients(
+                IngredientRewriter.of(request.getOriginalIngredient(), request.getSubstituteIngredient()), response);
+
+        try {
+            // 성공한 경우 기존 레시피 업데이트
+            if (recipeId != null) {
+                RecipeUpdateResult updateResult = recipeUpdateService.updateExistingRecipe(
+                        recipeId,
+                        response,
+                        request.getOriginalIngredient(),
+                        request.getSubstituteIngredient()
+                );
+                response.setId(updateResult.getRecipeId());
+                response.setUserId(updateResult.getUserId());
+                response.setUpdateResult(updateResult);
+
+                log.info("기존 레시피 업데이트 완료 - ID: {}, 새 이름: {}",
+                        updateResult.getRecipeId(), updateResult.getRecipeName());
+            } else {
+                // 새 레시피로 저장
+                log.warn("기존 레시피를 찾을 수 없어 새 레시피로 저장");
+                // 여기에 새 레시피 저장 로직을 추가할 수 있음
+            }
+        } catch (Exception e) {
+            log.error("대체 레시피 저장 중 오류: {}", e.getMessage());
+        }
+        return response;
+    }
+
+    /**
+     * 응답 조리법에 원재료명이 남아 있으면 대체재료명으로 교체
+     * 교체기는 요청마다 한 번만 만들고, 원재료명이 남아 있는 단계만 교체
+     * (대체재료가 이미 함께 적힌 단계는 교체기가 그대로 둠)
+     */
+    private void rewriteRemainingIngredients(IngredientRewriter rewriter, RecipeGenerateResponse response) {
+        if (response.getInstructions() == null || response.getInstructions().isEmpty()) {
+            return;
+        }
+        int rewritten = 0;
+        for (InstructionDTO instruction : response.getInstructions()) {
+            String text = instruction.getInstruction();
+            if (!rewriter.needsRewrite(text)) {
+                continue;
+            }
+            instruction.setInstruction(rewriter.rewrite(text));
+            rewritten++;
+        }
+        if (rewritten > 0) {
+            log.info("조리법에 남은 원재료명 교체 - {}개 단계", rewritten);
+        }
+    }
+
+    /**
+     * 일괄 대체 재료 요청 처리
+     * - 모든 쌍을 먼저 로컬에서 검증 (필수값, 동일 재료, 중복/연쇄 요청, 레시피에 없는 재료, 지식 베이스 거절)
+     * - 통과한 쌍만 모아 Flask에 한 번만 요청
+     * - 적용된 쌍은 한 번의 업데이트 트랜잭션으로 반영
+     * - 레시피 소유자가 아니면 INVALID_USER
+     */
+    public Mono<BatchSubstituteResponse> substituteIngredients(Long recipeId, BatchSubstituteRequest request,
+                                                               CustomUserDetails userDetails) {
+        return Mono.fromCallable(() -> buildBatchSubstituteCall(recipeId, request, userDetails))
+                .subscribeOn(recipePersistenceScheduler)
+                .flatMap(call -> {
+                    if (call.accepted().isEmpty()) {
+                        log.info("일괄 대체 재료 - 레시피 ID: {}, 검증을 통과한 재료 쌍 없음 (Flask 호출 생략)", recipeId);
+                        return Mono.just(BatchSubstituteResponse.builder().results(call.results()).build());
+                    }
+                    // 게이트웨이 호출은 블로킹 I/O이므로 boundedElastic 스케줄러에서 실행
+                    return Mono.fromCallable(() -> flaskGateway.substituteBatch(call.body()))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .publishOn(recipePersistenceScheduler)
+                            .map(response -> applyBatchSubstituteResponse(call, response));
+                })
+                .doOnError(e -> log.error("일괄 대체 재료 요청 실패 - 레시피 ID: {}, {}", recipeId, e.getMessage()));
+    }
+
+    /**
+     * 일괄 대체 요청 검증 및 Flask 요청 본문 구성 (짧은 트랜잭션)
+     */
+    private BatchSubstituteCall buildBatchSubstituteCall(Long recipeId, BatchSubstituteRequest request,
+                                                         CustomUserDetails userDetails) {
+        return transactionTemplate.execute(status -> {
+            Recipe recipe = recipeRepository.findById(recipeId)
+                    .orElseThrow(() -> new CustomException(RECIPE_NOT_FOUND));
+            checkOwner(recipe, userDetails);
+
+            List<String> recipeIngredients = new ArrayList<>();
+            if (recipe.getIngredients() != null) {
+                for (Ingredient ingredient : recipe.getIngredients()) {
+                    recipeIngredients.add(normalizeIngredient(ingredient.getName()));
                 }
             }
-            originalRecipeData.put("ingredients", ingredientsList);
-
-            // 기존 조리법 정보
-            List<Map<String, Object>> instructionsList = new ArrayList<>();
-            if (originalRecipe.getInstructions() != null) {
-                for (Instruction instruction : originalRecipe.getInstructions()) {
-                    Map<String, Object> instructionMap = new HashMap<>();
-                    instructionMap.put("instruction", instruction.getInstruction());
-                    instructionMap.put("cookingTime", instruction.getCookingTime());
-                    instructionMap.put("cookingTimeSeconds", instruction.getCookingTimeSeconds());
-                    instructionMap.put("stepNumber", instructionsList.size() + 1);
-                    instructionsList.add(instructionMap);
+
+            List<BatchSubstituteResponse.PairResult> results = new ArrayList<>();
+            List<BatchSubstituteResponse.PairResult> accepted = new ArrayList<>();
+            Set<String> originals = new HashSet<>();
+            Set<String> substitutes = new HashSet<>();
+
+            for (BatchSubstituteRequest.SubstitutionPair pair : request.getSubstitutions()) {
+                String ori = pair != null && pair.getOriginalIngredient() != null ? pair.getOriginalIngredient().trim() : null;
+                String sub = pair != null && pair.getSubstituteIngredient() != null ? pair.getSubstituteIngredient().trim() : null;
+                BatchSubstituteResponse.PairResult result = BatchSubstituteResponse.PairResult.builder()
+                        .originalIngredient(ori)
+                        .substituteIngredient(sub)
+                        .build();
+                results.add(result);
+
+                if (ori == null || ori.isEmpty() || sub == null || sub.isEmpty()) {
+                    rejectPair(result, "MISSING_REQUIRED_FIELDS", "원재료와 대체재료를 모두 입력해주세요.");
+                    continue;
+                }
+                String normalizedOri = normalizeIngredient(ori);
+                String normalizedSub = normalizeIngredient(sub);
+                if (normalizedOri.equals(normalizedSub)) {
+                    rejectPair(result, "SAME_INGREDIENT", "같은 재료로는 대체할 수 없습니다.");
+                } else if (originals.contains(normalizedOri)) {
+                    rejectPair(result, "DUPLICATE_INGREDIENT",
+                            String.format("%s는 이미 다른 재료로 대체 요청되었습니다.", ori));
+                } else if (substitutes.contains(normalizedOri) || originals.contains(normalizedSub)) {
+                    // A→B, B→C처럼 연쇄되는 쌍은 적용 순서에 따라 결과가 달라지므로 함께 처리하지 않음
+                    rejectPair(result, "CONFLICTING_SUBSTITUTION",
+                            String.format("%s → %s는 다른 대체 요청과 연쇄되어 함께 적용할 수 없습니다.", ori, sub));
+                } else if (recipeIngredients.stream().noneMatch(name -> name.contains(normalizedOri))) {
+                    rejectPair(result, "INGREDIENT_NOT_IN_RECIPE",
+                            String.format("레시피에 %s가 없습니다.", ori));
+                } else {
+                    String knownReason = substitutionKnowledgeService.rejectionReason(ori, sub);
+                    if (knownReason != null) {
+                        rejectPair(result, "SUBSTITUTE_NOT_POSSIBLE_KNOWN", knownReason);
+                        continue;
+                    }
+                    originals.add(normalizedOri);
+                    substitutes.add(normalizedSub);
+                    accepted.add(result);
                 }
             }
-            originalRecipeData.put("instructions", instructionsList);
 
-            requestBody.put("originalRecipe", originalRecipeData);
-            log.debug("기존 레시피 데이터 포함됨 - 재료: {}개, 조리법: {}개",
-                    ingredientsList.size(), instructionsList.size());
+            String recipeName = request.getRecipeName() != null && !request.getRecipeName().isBlank()
+                    ? request.getRecipeName()
+                    : recipe.getName();
+
+            Map<String, Object> originalRecipe = request.isIncludeOriginalRecipe()
+                    ? toOriginalRecipeData(recipe)
+                    : null;
+
+            List<Map<String, String>> pairs = new ArrayList<>();
+            for (BatchSubstituteResponse.PairResult result : accepted) {
+                pairs.add(Map.of("ori", result.getOriginalIngredient(), "sub", result.getSubstituteIngredient()));
+            }
+
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("recipe", recipeName);
+            requestBody.put("substitutions", pairs);
+            requestBody.put("autoAdjustAmount", request.isAutoAdjustAmount());
+            requestBody.put("includeOriginalRecipe", request.isIncludeOriginalRecipe());
+            if (originalRecipe != null) {
+                requestBody.put("originalRecipe", originalRecipe);
+            }
+
+            log.info("일괄 대체 재료 검증 - 레시피 ID: {}, 요청 {}개, Flask 요청 {}개",
+                    recipeId, results.size(), accepted.size());
+            return new BatchSubstituteCall(recipe.getId(), requestBody, originalRecipe, results, accepted);
+        });
+    }
+
+    /**
+     * Flask 일괄 대체 응답을 쌍별 결과에 반영하고, 적용된 쌍이 있으면 레시피를 한 번만 업데이트
+     */
+    private BatchSubstituteResponse applyBatchSubstituteResponse(BatchSubstituteCall call, BatchSubstituteResponse response) {
+        RecipeGenerateResponse recipe = response != null ? response.getRecipe() : null;
+
+        Map<String, BatchSubstituteResponse.PairResult> verdicts = new HashMap<>();
+        if (response != null && response.getResults() != null) {
+            for (BatchSubstituteResponse.PairResult verdict : response.getResults()) {
+                verdicts.put(normalizeIngredient(verdict.getOriginalIngredient()), verdict);
+            }
         }
 
-        // 자동 수량 조정 옵션 포함
-        requestBody.put("autoAdjustAmount", request.isAutoAdjustAmount());
-
-        // 원본 레시피 포함 옵션 포함
-        requestBody.put("includeOriginalRecipe", request.isIncludeOriginalRecipe());
-
-        // RecipeUpdateService 사용 (final 변수로 전달)
-        final Recipe finalOriginalRecipe = originalRecipe;
-
-        return webClient.post()
-                .uri(substituteEndpoint)
-                .contentType(MediaType.APPLICATION_JSON)
-                .acceptCharset(StandardCharsets.UTF_8)
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(RecipeGenerateResponse.class)
-                .map(response -> {
-                    if (response != null) {
-                        log.debug("대체 재료 요청 응답: {}", response.getName());
-
-                        // 대체 불가능 여부는 Flask 응답 그대로 사용 (LLM 판단 결과)
-                        if (response.isSubstituteFailure()) {
-                            log.info("대체 재료 사용 불가(LLM 판단): {} -> {}, 사유: {}",
-                                    request.getOriginalIngredient(),
-                                    request.getSubstituteIngredient(),
-                                    response.getDescription());
-
-                            return response;
-                        }
-
-                        try {
-                            // 성공한 경우 기존 레시피 업데이트
-                            if (finalOriginalRecipe != null) {
-                                Recipe updatedRecipe = recipeUpdateService.updateExistingRecipe(
-                                        finalOriginalRecipe,
-                                        response,
-                                        request.getOriginalIngredient(),
-                                        request.getSubstituteIngredient()
-                                );
-                                response.setId(updatedRecipe.getId());
-                                response.setUserId(updatedRecipe.getUser().getId());
-
-                                log.info("기존 레시피 업데이트 완료 - ID: {}, 새 이름: {}",
-                                        updatedRecipe.getId(), updatedRecipe.getName());
-                            } else {
-                                // 새 레시피로 저장
-                                log.warn("기존 레시피를 찾을 수 없어 새 레시피로 저장");
-                                // 여기에 새 레시피 저장 로직을 추가할 수 있음
-                            }
-                        } catch (Exception e) {
-                            log.error("대체 레시피 저장 중 오류: {}", e.getMessage());
-                        }
-                    }
-                    return response;
-                })
-                .doOnError(e -> log.error("대체 재료 요청 실패: {}", e.getMessage()));
+        Map<String, String> applied = new LinkedHashMap<>();
+        for (BatchSubstituteResponse.PairResult result : call.accepted()) {
+            BatchSubstituteResponse.PairResult verdict = verdicts.get(normalizeIngredient(result.getOriginalIngredient()));
+            if (verdict == null || (recipe == null && !verdict.isSubstituteFailure())) {
+                rejectPair(result, "NO_RESULT_FROM_AI", "AI 서버에서 이 재료에 대한 결과를 받지 못했습니다.");
+                continue;
+            }
+
+            if (verdict.isSubstituteFailure()) {
+                rejectPair(result, "SUBSTITUTE_NOT_POSSIBLE_LLM", verdict.getReason() != null
+                        ? verdict.getReason()
+                        : String.format("%s를 %s로 대체할 수 없습니다.",
+                                result.getOriginalIngredient(), result.getSubstituteIngredient()));
+            } else {
+                result.setReason(verdict.getReason());
+                result.setSubstitutionInfo(verdict.getSubstitutionInfo());
+                applied.put(result.getOriginalIngredient(), result.getSubstituteIngredient());
+            }
+
+            // 쌍별 LLM 판단 결과를 지식 베이스에 누적
+            Map<String, Object> pairBody = new HashMap<>();
+            pairBody.put("ori", result.getOriginalIngredient());
+            pairBody.put("sub", result.getSubstituteIngredient());
+            if (call.originalRecipe() != null) {
+                pairBody.put("originalRecipe", call.originalRecipe());
+            }
+            learnSubstitution(pairBody, RecipeGenerateResponse.builder()
+                    .substituteFailure(result.isSubstituteFailure())
+                    .description(result.isSubstituteFailure() ? result.getReason() : null)
+                    .substitutionInfo(result.getSubstitutionInfo())
+                    .build());
+        }
+
+        if (applied.isEmpty()) {
+            log.info("일괄 대체 재료 - 레시피 ID: {}, 적용된 재료 쌍 없음", call.recipeId());
+            return BatchSubstituteResponse.builder().results(call.results()).build();
+        }
+
+        // LLM이 조리법에 원재료명을 남긴 경우 적용된 쌍 전체를 한 번에 교체
+        rewriteRemainingIngredients(IngredientRewriter.of(applied), recipe);
+
+        RecipeUpdateResult updateResult = recipeUpdateService.applySubstitutions(call.recipeId(), recipe, applied);
+        recipe.setId(updateResult.getRecipeId());
+        recipe.setUserId(updateResult.getUserId());
+        recipe.setUpdateResult(updateResult);
+        recipe.setSubstituteFailure(false);
+
+        log.info("일괄 대체 재료 적용 완료 - 레시피 ID: {}, 적용 {}개 / 요청 {}개",
+                call.recipeId(), applied.size(), call.results().size());
+        return BatchSubstituteResponse.builder()
+                .recipe(recipe)
+                .results(call.results())
+                .build();
+    }
+
+    private void rejectPair(BatchSubstituteResponse.PairResult result, String error, String reason) {
+        result.setSubstituteFailure(true);
+        result.setError(error);
+        result.setReason(reason);
+    }
+
+    private String normalizeIngredient(String name) {
+        return name == null ? "" : name.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Flask 대체 재료 요청 (기존 레시피 ID, 요청 본문)
+     */
+    private record SubstituteCall(Long recipeId, Map<String, Object> body) {
+    }
+
+    /**
+     * Flask 일괄 대체 요청 (쌍별 결과는 요청 순서, accepted는 Flask로 보낸 쌍)
+     */
+    private record BatchSubstituteCall(Long recipeId, Map<String, Object> body,
+                                       Map<String, Object> originalRecipe,
+                                       List<BatchSubstituteResponse.PairResult> results,
+                                       List<BatchSubstituteResponse.PairResult> accepted) {
     }
 
     // 별도 서비스 클래스로 분리 - 재료명 교체 로직 추가
@@ -428,84 +765,77 @@ public class FlaskRecipeService {
     public static class RecipeUpdateService {
 
         private final RecipeRepository recipeRepository;
-        private final IngredientRepository ingredientRepository;
-        private final InstructionRepository instructionRepository;
+        private final NutritionPrecomputeService nutritionPrecomputeService;
+        private final RecipeResultCache recipeResultCache;
 
         /**
          * 기존 레시피를 대체 재료 응답으로 업데이트 (LLM 판단 결과 활용)
+         * - 트랜잭션 안에서 레시피를 다시 조회한 뒤 기존 행과 새 행을 위치/내용 기준으로 비교
+         * - 바뀐 행만 UPDATE, 늘어난 행만 INSERT, 줄어든 행만 DELETE
+         */
+        @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.READ_COMMITTED)
+        public RecipeUpdateResult updateExistingRecipe(Long recipeId, RecipeGenerateResponse response,
+                                                       String originalIngredient, String substituteIngredient) {
+            return update(recipeId, response, originalIngredient + " → " + substituteIngredient + " 대체");
+        }
+
+        /**
+         * 여러 재료 쌍이 함께 반영된 응답으로 기존 레시피를 한 번에 업데이트 (원재료 → 대체재료)
          */
         @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.READ_COMMITTED)
-        public Recipe updateExistingRecipe(Recipe originalRecipe, RecipeGenerateResponse response,
-                                           String originalIngredient, String substituteIngredient) {
+        public RecipeUpdateResult applySubstitutions(Long recipeId, RecipeGenerateResponse response,
+                                                     Map<String, String> substitutions) {
+            String changeReason = substitutions.entrySet().stream()
+                    .map(entry -> entry.getKey() + " → " + entry.getValue())
+                    .collect(Collectors.joining(", ")) + " 대체";
+            return update(recipeId, response, changeReason);
+        }
+
+        private RecipeUpdateResult update(Long recipeId, RecipeGenerateResponse response, String changeReason) {
             try {
-                log.info("레시피 업데이트 트랜잭션 시작 - 레시피 ID: {}, 재료 교체: {} -> {}",
-                        originalRecipe.getId(), originalIngredient, substituteIngredient);
-
-                // 레시피 기본 정보 업데이트
-                originalRecipe.setName(response.getName());
-                originalRecipe.setDescription(response.getDescription());
-
-                // 기존 재료 삭제
-                if (originalRecipe.getIngredients() != null && !originalRecipe.getIngredients().isEmpty()) {
-                    List<Ingredient> ingredientsToDelete = new ArrayList<>(originalRecipe.getIngredients());
-                    originalRecipe.getIngredients().clear();
-                    ingredientRepository.deleteAll(ingredientsToDelete);
-                    log.debug("기존 재료 {}개 삭제 완료", ingredientsToDelete.size());
-                }
+                log.info("레시피 업데이트 트랜잭션 시작 - 레시피 ID: {}, 재료 교체: {}", recipeId, changeReason);
 
-                // 새 재료 추가
-                List<Ingredient> newIngredients = new ArrayList<>();
-                if (response.getIngredients() != null) {
-                    for (IngredientDTO dto : response.getIngredients()) {
-                        Ingredient ingredient = Ingredient.builder()
-                                .name(dto.getName())
-                                .amount(dto.getAmount() != null ? dto.getAmount() : "적당량")
-                                .recipe(originalRecipe)
-                                .build();
-                        newIngredients.add(ingredient);
-                    }
+                Recipe recipe = recipeRepository.findById(recipeId)
+                        .orElseThrow(() -> new CustomException(RECIPE_NOT_FOUND));
+
+                // 레시피 기본 정보 업데이트 (값이 같으면 더티 체킹에서 제외됨, 없는 값은 유지)
+                if (response.getName() != null) {
+                    recipe.setName(response.getName());
                 }
-                originalRecipe.setIngredients(newIngredients);
-                log.debug("새 재료 {}개 추가 완료", newIngredients.size());
-
-                // 기존 조리법 삭제
-                if (originalRecipe.getInstructions() != null && !originalRecipe.getInstructions().isEmpty()) {
-                    List<Instruction> instructionsToDelete = new ArrayList<>(originalRecipe.getInstructions());
-                    originalRecipe.getInstructions().clear();
-                    instructionRepository.deleteAll(instructionsToDelete);
-                    log.debug("기존 조리법 {}개 삭제 완료", instructionsToDelete.size());
+                if (response.getDescription() != null) {
+                    recipe.setDescription(response.getDescription());
                 }
 
-                // 새 조리법 추가 (LLM이 생성한 조리법 사용)
-                List<Instruction> newInstructions = new ArrayList<>();
-                if (response.getInstructions() != null) {
-                    for (InstructionDTO dto : response.getInstructions()) {
-                        Integer cookingTimeSeconds = dto.getCookingTimeSeconds();
-                        if (cookingTimeSeconds == null) {
-                            cookingTimeSeconds = dto.getCookingTime() * 60;
-                        }
-
-                        // LLM이 이미 재료명을 업데이트했으므로 추가적인 교체는 필요 없음
-                        String instructionText = dto.getInstruction();
-
-                        Instruction instruction = Instruction.builder()
-                                .instruction(instructionText)
-                                .cookingTime(dto.getCookingTime())
-                                .cookingTimeSeconds(cookingTimeSeconds)
-                                .recipe(originalRecipe)
-                                .build();
-                        newInstructions.add(instruction);
-                    }
-                }
-                originalRecipe.setInstructions(newInstructions);
-                log.debug("새 조리법 {}개 추가 완료 (LLM 생성)", newInstructions.size());
+                RecipeUpdateResult result = RecipeUpdateResult.builder()
+                        .recipeId(recipe.getId())
+                        .recipeName(recipe.getName())
+                        .userId(recipe.getUser() != null ? recipe.getUser().getId() : null)
+                        .ingredientChanges(new ArrayList<>())
+                        .instructionChanges(new ArrayList<>())
+                        .build();
 
-                // 업데이트된 레시피 저장
-                Recipe savedRecipe = recipeRepository.save(originalRecipe);
-                log.info("레시피 업데이트 완료 - ID: {}, 이름: {}", savedRecipe.getId(), savedRecipe.getName());
+                applyIngredientChanges(recipe, response, changeReason, result);
+                applyInstructionChanges(recipe, response, result);
 
-                return savedRecipe;
+                result.setSuccess(true);
+                result.setUpdatedAt(LocalDateTime.now());
+                result.setMessage(String.format("재료 %d개 추가, %d개 수정, %d개 삭제 / 조리 단계 %d개 추가, %d개 수정, %d개 삭제",
+                        result.getIngredientsInserted(), result.getIngredientsUpdated(), result.getIngredientsDeleted(),
+                        result.getInstructionsInserted(), result.getInstructionsUpdated(), result.getInstructionsDeleted()));
 
+                log.info("레시피 업데이트 완료 - ID: {}, 이름: {}, {}", recipe.getId(), recipe.getName(), result.getMessage());
+
+                // 수정 전 생성 결과가 이 레시피 ID로 다시 응답되지 않도록 캐시에서 제거
+                recipeResultCache.evictRecipe(recipe.getId());
+
+                // 재료가 바뀌었으면 커밋 후 영양 정보를 백그라운드에서 다시 계산
+                if (result.getIngredientsInserted() + result.getIngredientsUpdated() + result.getIngredientsDeleted() > 0) {
+                    nutritionPrecomputeService.scheduleRefreshAfterCommit(recipe.getId());
+                }
+                return result;
+
+            } catch (CustomException e) {
+                throw e;
             } catch (Exception e) {
                 log.error("레시피 업데이트 중 오류 발생: {}", e.getMessage(), e);
                 throw new RuntimeException("레시피 업데이트 실패", e);
@@ -513,94 +843,129 @@ public class FlaskRecipeService {
         }
 
         /**
-         * 조리법 텍스트에서 재료명 교체 (강화된 로직)
+         * 재료 변경 적용 - 관리 상태 컬렉션을 직접 수정하여 바뀐 행만 반영
          */
-        private String replaceIngredientInText(String instructionText, String originalIngredient, String substituteIngredient) {
-            if (instructionText == null || instructionText.trim().isEmpty() ||
-                    originalIngredient == null || substituteIngredient == null) {
-                return instructionText;
+        private void applyIngredientChanges(Recipe recipe, RecipeGenerateResponse response, String changeReason,
+                                            RecipeUpdateResult result) {
+            if (recipe.getIngredients() == null) {
+                recipe.setIngredients(new ArrayList<>());
             }
-
-            String updatedText = instructionText;
-
-            try {
-                // 1. 정확히 일치하는 경우 (단어 경계 사용)
-                String exactPattern = "(?i)\\b" + Pattern.quote(originalIngredient) + "\\b";
-                updatedText = updatedText.replaceAll(exactPattern, substituteIngredient);
-
-                // 2. 부분 일치 고려 (여러 변형 처리)
-                // 예: "무염버터" -> "무염마가린"
-                if (!originalIngredient.equals(substituteIngredient)) {
-                    // 원재료가 다른 단어의 일부인 경우 처리
-                    String partialPattern = "(?i)" + Pattern.quote(originalIngredient);
-
-                    // 원재료가 포함되지만 대체재료는 포함되지 않은 경우에만 교체
-                    if (updatedText.toLowerCase().contains(originalIngredient.toLowerCase()) &&
-                            !updatedText.toLowerCase().contains(substituteIngredient.toLowerCase())) {
-                        updatedText = Pattern.compile(partialPattern, Pattern.CASE_INSENSITIVE)
-                                .matcher(updatedText)
-                                .replaceAll(substituteIngredient);
+            List<Ingredient> current = recipe.getIngredients();
+            List<IngredientDTO> target = response.getIngredients() != null ? response.getIngredients() : List.of();
+
+            List<RecipeRowDiff.Op<Ingredient, IngredientDTO>> ops = RecipeRowDiff.compute(
+                    new ArrayList<>(current), target,
+                    (ingredient, dto) -> Objects.equals(ingredient.getName(), dto.getName())
+                            && Objects.equals(ingredient.getAmount(), amountOf(dto)));
+
+            for (RecipeRowDiff.Op<Ingredient, IngredientDTO> op : ops) {
+                switch (op.type) {
+                    case KEEP -> result.setIngredientsUnchanged(result.getIngredientsUnchanged() + 1);
+                    case UPDATE -> {
+                        result.getIngredientChanges().add(RecipeUpdateResult.IngredientChange.builder()
+                                .originalName(op.oldRow.getName())
+                                .originalAmount(op.oldRow.getAmount())
+                                .newName(op.newRow.getName())
+                                .newAmount(amountOf(op.newRow))
+                                .changeReason(changeReason)
+                                .build());
+                        op.oldRow.setName(op.newRow.getName());
+                        op.oldRow.setAmount(amountOf(op.newRow));
+                        result.setIngredientsUpdated(result.getIngredientsUpdated() + 1);
                     }
-
-                    // 다른 형태의 변형도 고려 (공백, 하이픈, 언더스코어 등이 제거된 형태)
-                    String originalNoSpace = originalIngredient.replace(" ", "");
-                    String originalNoHyphen = originalIngredient.replace("-", "");
-                    String originalNoUnderscore = originalIngredient.replace("_", "");
-
-                    String[] originalVariants = {
-                            originalNoSpace,
-                            originalNoHyphen,
-                            originalNoUnderscore
-                    };
-
-                    for (String variant : originalVariants) {
-                        if (!variant.equals(originalIngredient) &&
-                                updatedText.toLowerCase().contains(variant.toLowerCase())) {
-                            String variantPattern = "(?i)\\b" + Pattern.quote(variant) + "\\b";
-                            updatedText = updatedText.replaceAll(variantPattern, substituteIngredient);
-                        }
+                    case INSERT -> {
+                        current.add(Ingredient.builder()
+                                .name(op.newRow.getName())
+                                .amount(amountOf(op.newRow))
+                                .recipe(recipe)
+                                .build());
+                        result.getIngredientChanges().add(RecipeUpdateResult.IngredientChange.builder()
+                                .newName(op.newRow.getName())
+                                .newAmount(amountOf(op.newRow))
+                                .changeReason(changeReason)
+                                .build());
+                        result.setIngredientsInserted(result.getIngredientsInserted() + 1);
                     }
-
-                    // 3. 복합어 처리 (예: "쇠고기국물" -> "닭고기국물")
-                    // 원재료가 다른 단어의 접두사나 접미사로 사용되는 경우
-                    if (originalIngredient.length() >= 2) {
-                        // 2글자 이상인 경우에만 적용 (너무 짧은 단어는 위험함)
-                        String compoundPattern = "(?i)([가-힣a-z]+)?" + Pattern.quote(originalIngredient) + "([가-힣a-z]+)?";
-
-                        Pattern pattern = Pattern.compile(compoundPattern, Pattern.CASE_INSENSITIVE);
-                        Matcher matcher = pattern.matcher(updatedText);
-
-                        StringBuffer sb = new StringBuffer();
-                        while (matcher.find()) {
-                            String prefix = matcher.group(1) != null ? matcher.group(1) : "";
-                            String suffix = matcher.group(2) != null ? matcher.group(2) : "";
-
-                            // 접두사나 접미사가 있는 경우 (복합어)
-                            if (!prefix.isEmpty() || !suffix.isEmpty()) {
-                                matcher.appendReplacement(sb, prefix + substituteIngredient + suffix);
-                            } else {
-                                // 정확히 일치하는 경우는 이미 처리했으므로 여기서는 건너뜀
-                                matcher.appendReplacement(sb, matcher.group(0));
-                            }
-                        }
-                        matcher.appendTail(sb);
-                        updatedText = sb.toString();
+                    case DELETE -> {
+                        // orphanRemoval로 삭제됨
+                        current.remove(op.oldRow);
+                        result.getIngredientChanges().add(RecipeUpdateResult.IngredientChange.builder()
+                                .originalName(op.oldRow.getName())
+                                .originalAmount(op.oldRow.getAmount())
+                                .changeReason(changeReason)
+                                .build());
+                        result.setIngredientsDeleted(result.getIngredientsDeleted() + 1);
                     }
                 }
+            }
+        }
 
-                // 변경 로깅
-                if (!updatedText.equals(instructionText)) {
-                    log.debug("조리법 텍스트 교체됨: '{}' -> '{}'",
-                            instructionText.substring(0, Math.min(50, instructionText.length())),
-                            updatedText.substring(0, Math.min(50, updatedText.length())));
+        /**
+         * 조리 단계 변경 적용 - 단계 순서는 ID 순서이므로 새 단계는 항상 끝에 추가됨
+         */
+        private void applyInstructionChanges(Recipe recipe, RecipeGenerateResponse response, RecipeUpdateResult result) {
+            if (recipe.getInstructions() == null) {
+                recipe.setInstructions(new ArrayList<>());
+            }
+            List<Instruction> current = recipe.getInstructions();
+            List<InstructionDTO> target = response.getInstructions() != null ? response.getInstructions() : List.of();
+
+            // LLM이 이미 재료명을 업데이트했으므로 추가적인 텍스트 교체는 필요 없음
+            List<RecipeRowDiff.Op<Instruction, InstructionDTO>> ops = RecipeRowDiff.compute(
+                    new ArrayList<>(current), target,
+                    (instruction, dto) -> Objects.equals(instruction.getInstruction(), dto.getInstruction())
+                            && instruction.getCookingTime() == dto.getCookingTime()
+                            && Objects.equals(instruction.getCookingTimeSeconds(), cookingTimeSecondsOf(dto)));
+
+            for (RecipeRowDiff.Op<Instruction, InstructionDTO> op : ops) {
+                switch (op.type) {
+                    case KEEP -> result.setInstructionsUnchanged(result.getInstructionsUnchanged() + 1);
+                    case UPDATE -> {
+                        result.getInstructionChanges().add(RecipeUpdateResult.InstructionChange.builder()
+                                .stepNumber(op.newIndex + 1)
+                                .originalInstruction(op.oldRow.getInstruction())
+                                .newInstruction(op.newRow.getInstruction())
+                                .build());
+                        op.oldRow.setInstruction(op.newRow.getInstruction());
+                        op.oldRow.setCookingTime(op.newRow.getCookingTime());
+                        op.oldRow.setCookingTimeSeconds(cookingTimeSecondsOf(op.newRow));
+                        result.setInstructionsUpdated(result.getInstructionsUpdated() + 1);
+                    }
+                    case INSERT -> {
+                        current.add(Instruction.builder()
+                                .instruction(op.newRow.getInstruction())
+                                .cookingTime(op.newRow.getCookingTime())
+                                .cookingTimeSeconds(cookingTimeSecondsOf(op.newRow))
+                                .recipe(recipe)
+                                .build());
+                        result.getInstructionChanges().add(RecipeUpdateResult.InstructionChange.builder()
+                                .stepNumber(op.newIndex + 1)
+                                .newInstruction(op.newRow.getInstruction())
+                                .build());
+                        result.setInstructionsInserted(result.getInstructionsInserted() + 1);
+                    }
+                    case DELETE -> {
+                        current.remove(op.oldRow);
+                        result.getInstructionChanges().add(RecipeUpdateResult.InstructionChange.builder()
+                                .originalInstruction(op.oldRow.getInstruction())
+                                .build());
+                        result.setInstructionsDeleted(result.getInstructionsDeleted() + 1);
+                    }
                 }
-
-            } catch (Exception e) {
-                log.warn("조리법 텍스트 교체 중 오류 (원본 유지): {}", e.getMessage());
-                return instructionText; // 오류 시 원본 반환
             }
+        }
 
-            return updatedText;
+        private String amountOf(IngredientDTO dto) {
+            return dto.getAmount() != null ? dto.getAmount() : "적당량";
+        }
+
+        private Integer cookingTimeSecondsOf(InstructionDTO dto) {
+            Integer cookingTimeSeconds = dto.getCookingTimeSeconds();
+            if (cookingTimeSeconds == null) {
+                // 초 단위 값이 없는 경우 분 단위에서 변환
+                cookingTimeSeconds = dto.getCookingTime() * 60;
+            }
+            return cookingTimeSeconds;
         }
     }
 
@@ -614,13 +979,18 @@ public class FlaskRecipeService {
 
         // 사용자 권한 검증 부분은 일단 유지
         // 필요시 이 부분을 수정하여 모든 인증된 사용자가 레시피를 볼 수 있도록 할 수 있음
+        checkOwner(recipe, userDetails);
+
+        return recipe;
+    }
+
+    // 레시피 소유자 검증
+    private void checkOwner(Recipe recipe, CustomUserDetails userDetails) {
         if (userDetails != null && !recipe.getUser().getId().equals(userDetails.getUserId())) {
             log.warn("레시피 접근 권한 오류 - 레시피 ID: {}, 소유자 ID: {}, 요청자 ID: {}",
-                    recipeId, recipe.getUser().getId(), userDetails.getUserId());
+                    recipe.getId(), recipe.getUser().getId(), userDetails.getUserId());
             throw new CustomException(INVALID_USER);
         }
-
-        return recipe;
     }
 
     // 어시스턴스 응답 생성
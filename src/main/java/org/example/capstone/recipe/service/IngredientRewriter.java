@@ -0,0 +1,348 @@
+package org.example.capstone.recipe.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 조리법 텍스트의 재료명 일괄 교체기
+ * - 교체 목록(원재료 → 대체재료)으로 Aho-Corasick 오토마톤을 한 번만 구성
+ * - 텍스트 하나를 한 번 훑으면서 가장 왼쪽/가장 긴 일치부터 교체
+ * - 원재료의 띄어쓰기/하이픈/밑줄 변형도 함께 인식
+ * - 대체재료 자체는 보호 구간으로 등록하여 다시 교체되지 않음 (예: 고기 → 돼지고기)
+ * - 텍스트에 대체재료가 이미 있으면 그 원재료는 교체하지 않음 ("버터 대신 마가린" → "마가린 대신 마가린" 방지)
+ * - 교체된 재료명 뒤 조사는 받침에 맞게 보정 (을/를, 이/가, 은/는, 과/와, 으로/로, 이랑/랑)
+ *
+ * 경계 규칙
+ * - 영문/숫자로 시작하거나 끝나는 패턴은 앞뒤에 영문/숫자가 붙어 있으면 교체하지 않음 (ham ≠ hamburger)
+ * - 두 글자 이상 한글 패턴은 복합어 안에서도 교체 (쇠고기국물 → 닭고기국물, 버터를 → 마가린을)
+ * - 한 글자 한글 패턴은 독립된 단어이거나 조사가 붙은 경우에만 교체 (파를 → 쪽파를, 파스타는 유지)
+ *
+ * 생성 후에는 불변이므로 여러 스레드에서 공유 가능
+ */
+public final class IngredientRewriter {
+
+    // 한 글자 재료 뒤에 붙을 수 있는 조사 (긴 것부터 검사)
+    private static final String[] PARTICLES = {
+            "으로", "에서", "까지", "부터", "이랑", "처럼", "보다",
+            "을", "를", "이", "가", "은", "는", "에", "와", "과", "도", "로", "의", "만", "랑"
+    };
+
+    // 받침 유무에 따라 바뀌는 조사 (받침 있음, 받침 없음) - 긴 것부터 검사
+    private static final String[][] PARTICLE_PAIRS = {
+            {"으로", "로"}, {"이랑", "랑"}, {"을", "를"}, {"이", "가"}, {"은", "는"}, {"과", "와"}
+    };
+
+    private static final String[] SEPARATORS = {"", " ", "-", "_"};
+
+    private final String[] patterns;        // 소문자로 정규화된 패턴
+    private final String[] replacements;    // null이면 보호 구간 (원문 유지)
+    private final int[] substituteOf;       // 교체 패턴별 대체재료의 보호 구간 패턴 번호 (없으면 -1)
+    private final int[][] gotoKeys;         // 노드별 전이 문자 (정렬됨)
+    private final int[][] gotoTargets;
+    private final int[] fail;
+    private final int[][] outputs;          // 노드에서 끝나는 패턴 번호들
+
+    private IngredientRewriter(List<String> patternList, List<String> replacementList) {
+        this.patterns = patternList.toArray(new String[0]);
+        this.replacements = replacementList.toArray(new String[0]);
+        this.substituteOf = new int[patterns.length];
+        for (int p = 0; p < patterns.length; p++) {
+            substituteOf[p] = replacements[p] == null ? -1 : patternList.indexOf(replacements[p].toLowerCase(Locale.ROOT));
+            if (substituteOf[p] >= 0 && replacements[substituteOf[p]] != null) {
+                substituteOf[p] = -1;
+            }
+        }
+
+        // 1. 트라이 구성
+        List<Map<Integer, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> nodeOutputs = new ArrayList<>();
+        trie.add(new HashMap<>());
+        nodeOutputs.add(new ArrayList<>());
+        for (int p = 0; p < patterns.length; p++) {
+            int node = 0;
+            String pattern = patterns[p];
+            for (int i = 0; i < pattern.length(); i++) {
+                int c = pattern.charAt(i);
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(node).put(c, next);
+                    trie.add(new HashMap<>());
+                    nodeOutputs.add(new ArrayList<>());
+                }
+                node = next;
+            }
+            nodeOutputs.get(node).add(p);
+        }
+
+        // 2. 실패 링크 (BFS) 및 출력 병합
+        int size = trie.size();
+        int[] failLinks = new int[size];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : trie.get(0).values()) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (Map.Entry<Integer, Integer> edge : trie.get(node).entrySet()) {
+                int c = edge.getKey();
+                int child = edge.getValue();
+                int f = failLinks[node];
+                while (f != 0 && !trie.get(f).containsKey(c)) {
+                    f = failLinks[f];
+                }
+                Integer target = trie.get(f).get(c);
+                failLinks[child] = target != null && target != child ? target : 0;
+                nodeOutputs.get(child).addAll(nodeOutputs.get(failLinks[child]));
+                queue.add(child);
+            }
+        }
+
+        // 3. 조회용 배열로 변환
+        this.fail = failLinks;
+        this.gotoKeys = new int[size][];
+        this.gotoTargets = new int[size][];
+        this.outputs = new int[size][];
+        for (int node = 0; node < size; node++) {
+            int[] keys = trie.get(node).keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            int[] targets = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                targets[i] = trie.get(node).get(keys[i]);
+            }
+            gotoKeys[node] = keys;
+            gotoTargets[node] = targets;
+            outputs[node] = nodeOutputs.get(node).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * 재료 하나를 교체하는 교체기
+     */
+    public static IngredientRewriter of(String originalIngredient, String substituteIngredient) {
+        if (originalIngredient == null || substituteIngredient == null) {
+            return of(Map.of());
+        }
+        return of(Map.of(originalIngredient, substituteIngredient));
+    }
+
+    /**
+     * 여러 재료를 동시에 교체하는 교체기 (원재료 → 대체재료)
+     */
+    public static IngredientRewriter of(Map<String, String> substitutions) {
+        Map<String, String> entries = new LinkedHashMap<>();
+
+        // 대체재료는 보호 구간으로 먼저 등록 (원재료 변형과 겹치면 원재료 교체가 우선)
+        for (String substitute : substitutions.values()) {
+            if (substitute != null && !substitute.isBlank()) {
+                entries.put(substitute.trim().toLowerCase(Locale.ROOT), null);
+            }
+        }
+        for (Map.Entry<String, String> substitution : substitutions.entrySet()) {
+            String original = substitution.getKey();
+            String substitute = substitution.getValue();
+            if (original == null || original.isBlank() || substitute == null
+                    || original.trim().equalsIgnoreCase(substitute.trim())) {
+                continue;
+            }
+            for (String variant : variantsOf(original.trim())) {
+                entries.put(variant.toLowerCase(Locale.ROOT), substitute.trim());
+            }
+        }
+
+        return new IngredientRewriter(new ArrayList<>(entries.keySet()), new ArrayList<>(entries.values()));
+    }
+
+    /**
+     * 텍스트의 재료명 교체 (교체할 부분이 없으면 원본 객체 그대로 반환)
+     */
+    public String rewrite(String text) {
+        if (text == null || text.isEmpty() || patterns.length == 0) {
+            return text;
+        }
+
+        int length = text.length();
+        int[] bestAtStart = null;   // 시작 위치별 (패턴 번호 + 1), 가장 긴 것
+
+        int node = 0;
+        for (int i = 0; i < length; i++) {
+            int c = Character.toLowerCase(text.charAt(i));
+            int next;
+            while ((next = transition(node, c)) < 0 && node != 0) {
+                node = fail[node];
+            }
+            node = Math.max(next, 0);
+
+            for (int p : outputs[node]) {
+                int start = i + 1 - patterns[p].length();
+                if (!accepts(text, start, i + 1, p)) {
+                    continue;
+                }
+                if (bestAtStart == null) {
+                    bestAtStart = new int[length];
+                }
+                int current = bestAtStart[start] - 1;
+                if (current < 0 || patterns[p].length() > patterns[current].length()) {
+                    bestAtStart[start] = p + 1;
+                }
+            }
+        }
+
+        if (bestAtStart == null) {
+            return text;
+        }
+
+        // 가장 왼쪽부터 겹치지 않게 고른 일치 중 대체재료(보호 구간)가 이미 있는지 확인
+        boolean[] present = new boolean[patterns.length];
+        for (int i = 0; i < length; ) {
+            int p = bestAtStart[i] - 1;
+            if (p < 0) {
+                i++;
+                continue;
+            }
+            if (replacements[p] == null) {
+                present[p] = true;
+            }
+            i += patterns[p].length();
+        }
+
+        StringBuilder result = new StringBuilder(length + 16);
+        boolean changed = false;
+        int i = 0;
+        while (i < length) {
+            int p = bestAtStart[i] - 1;
+            if (p < 0) {
+                result.append(text.charAt(i));
+                i++;
+                continue;
+            }
+            int end = i + patterns[p].length();
+            if (replacements[p] == null || (substituteOf[p] >= 0 && present[substituteOf[p]])) {
+                result.append(text, i, end);
+            } else {
+                result.append(replacements[p]);
+                changed = true;
+                end = appendParticle(text, end, replacements[p], result);
+            }
+            i = end;
+        }
+        return changed ? result.toString() : text;
+    }
+
+    /**
+     * 여러 텍스트 일괄 교체
+     */
+    public List<String> rewriteAll(List<String> texts) {
+        List<String> rewritten = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            rewritten.add(rewrite(text));
+        }
+        return rewritten;
+    }
+
+    /**
+     * 교체 대상 재료명이 남아 있는지 확인
+     */
+    public boolean needsRewrite(String text) {
+        String rewritten = rewrite(text);
+        return rewritten != null && !rewritten.equals(text);
+    }
+
+    /**
+     * 교체된 재료명 뒤 조사를 받침에 맞게 보정 (버터를 → 마가린을)
+     * 조사를 덧붙였으면 조사 뒤 위치, 아니면 그대로 반환
+     */
+    private static int appendParticle(String text, int end, String replacement, StringBuilder result) {
+        char last = replacement.charAt(replacement.length() - 1);
+        if (!isHangul(last)) {
+            return end;
+        }
+        for (String[] pair : PARTICLE_PAIRS) {
+            for (String particle : pair) {
+                int afterParticle = end + particle.length();
+                if (text.startsWith(particle, end)
+                        && (afterParticle >= text.length() || !isHangul(text.charAt(afterParticle)))) {
+                    int batchim = (last - '가') % 28;
+                    // 으로/로는 ㄹ 받침 뒤에도 '로'
+                    boolean consonant = pair[0].equals("으로") ? batchim != 0 && batchim != 8 : batchim != 0;
+                    result.append(consonant ? pair[0] : pair[1]);
+                    return afterParticle;
+                }
+            }
+        }
+        return end;
+    }
+
+    private int transition(int node, int c) {
+        int index = Arrays.binarySearch(gotoKeys[node], c);
+        return index >= 0 ? gotoTargets[node][index] : -1;
+    }
+
+    private boolean accepts(String text, int start, int end, int p) {
+        if (replacements[p] == null) {
+            return true;
+        }
+        String pattern = patterns[p];
+        char before = start > 0 ? text.charAt(start - 1) : 0;
+        char after = end < text.length() ? text.charAt(end) : 0;
+
+        if (isLatinOrDigit(pattern.charAt(0)) && isLatinOrDigit(before)) {
+            return false;
+        }
+        if (isLatinOrDigit(pattern.charAt(pattern.length() - 1)) && isLatinOrDigit(after)) {
+            return false;
+        }
+
+        // 한 글자 한글 재료는 독립된 단어(+조사)일 때만
+        if (pattern.length() == 1 && isHangul(pattern.charAt(0))) {
+            if (isHangul(before)) {
+                return false;
+            }
+            if (!isHangul(after)) {
+                return true;
+            }
+            for (String particle : PARTICLES) {
+                if (text.startsWith(particle, end)) {
+                    int afterParticle = end + particle.length();
+                    if (afterParticle >= text.length() || !isHangul(text.charAt(afterParticle))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 원재료 표기 변형 (띄어쓰기/하이픈/밑줄 유무)
+     */
+    private static List<String> variantsOf(String original) {
+        String[] tokens = original.split("[\\s\\-_]+");
+        List<String> variants = new ArrayList<>();
+        variants.add(original);
+        if (tokens.length > 1) {
+            for (String separator : SEPARATORS) {
+                String variant = String.join(separator, tokens);
+                if (!variants.contains(variant)) {
+                    variants.add(variant);
+                }
+            }
+        }
+        return variants;
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static boolean isLatinOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
@@ -0,0 +1,166 @@
+package org.example.capstone.recipe.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.capstone.global.exception.CustomException;
+import org.example.capstone.global.util.SpooledImage;
+import org.example.capstone.recipe.dto.RecipeGenerateRequest;
+import org.example.capstone.recipe.dto.RecipeGenerateResponse;
+import org.example.capstone.recipe.dto.RecipeJobResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static org.example.capstone.global.exception.ErrorCode.*;
+
+/**
+ * 비동기 레시피 생성 작업 관리
+ * - 업로드 이미지를 임시 파일로 옮긴 뒤 전용 스레드 풀에서 생성 수행
+ * - 작업 상태는 메모리에 보관하며 완료 후 일정 시간이 지나면 제거
+ * - 작업 상태가 서버별이므로 여러 서버 운영 시 상태 조회가 작업을 등록한 서버로 가도록 사용자 고정 라우팅 필요
+ */
+@Service
+@Slf4j
+public class RecipeGenerationJobService {
+
+    public static final String PENDING = "PENDING";
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    private final FlaskRecipeService recipeService;
+    private final RecipeImageStorage recipeImageStorage;
+    private final ThreadPoolTaskExecutor executor;
+    private final Map<String, RecipeGenerationJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${recipe.generation.job-ttl-minutes:30}")
+    private long jobTtlMinutes;
+
+    public RecipeGenerationJobService(FlaskRecipeService recipeService,
+                                      RecipeImageStorage recipeImageStorage,
+                                      @Qualifier("recipeGenerationExecutor") ThreadPoolTaskExecutor executor) {
+        this.recipeService = recipeService;
+        this.recipeImageStorage = recipeImageStorage;
+        this.executor = executor;
+    }
+
+    /**
+     * 레시피 생성 작업 등록
+     *
+     * @param request    생성 요청 (이미지는 임시 파일로 옮겨짐)
+     * @param onFinished 작업 완료/실패 시 호출되는 콜백
+     */
+    public RecipeJobResponse submit(RecipeGenerateRequest request, Consumer<RecipeJobResponse> onFinished) throws IOException {
+        removeExpiredJobs();
+
+        // 요청이 끝나면 멀티파트 임시 파일이 삭제되므로 작업용 파일로 옮겨둠
+        MultipartFile image = request.getImage();
+        if (image != null && !image.isEmpty()) {
+            request.setSpooledImage(recipeImageStorage.spool(image));
+        }
+        request.setImage(null);
+
+        RecipeGenerationJob job = new RecipeGenerationJob(UUID.randomUUID().toString(), request.getUsername());
+        jobs.put(job.jobId, job);
+
+        try {
+            executor.execute(() -> run(job, request, onFinished));
+        } catch (TaskRejectedException e) {
+            log.warn("레시피 생성 작업 거절 - 대기열 초과: {}", e.getMessage());
+            jobs.remove(job.jobId);
+            closeSpooledImage(request);
+            throw new CustomException(RECIPE_GENERATION_BUSY);
+        }
+
+        log.info("레시피 생성 작업 등록 - 작업 ID: {}, 사용자: {}", job.jobId, request.getUsername());
+        return job.toResponse();
+    }
+
+    /**
+     * 작업 상태 조회 (본인 작업만 조회 가능)
+     */
+    public RecipeJobResponse getJob(String jobId, String username) {
+        RecipeGenerationJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new CustomException(RECIPE_JOB_NOT_FOUND);
+        }
+        if (!job.username.equals(username)) {
+            log.warn("작업 접근 권한 오류 - 작업 ID: {}, 소유자: {}, 요청자: {}", jobId, job.username, username);
+            throw new CustomException(INVALID_USER);
+        }
+        return job.toResponse();
+    }
+
+    private void run(RecipeGenerationJob job, RecipeGenerateRequest request, Consumer<RecipeJobResponse> onFinished) {
+        job.status = RUNNING;
+        try {
+            RecipeGenerateResponse response = recipeService.generateRecipeFromImage(request);
+            job.recipe = response;
+            job.status = COMPLETED;
+            log.info("레시피 생성 작업 완료 - 작업 ID: {}, 레시피 ID: {}", job.jobId, response.getId());
+        } catch (Exception e) {
+            job.error = e.getMessage();
+            job.status = FAILED;
+            log.error("레시피 생성 작업 실패 - 작업 ID: {}, 오류: {}", job.jobId, e.getMessage(), e);
+        } finally {
+            job.completedAt = LocalDateTime.now();
+            closeSpooledImage(request);
+        }
+
+        try {
+            onFinished.accept(job.toResponse());
+        } catch (Exception e) {
+            log.warn("작업 완료 콜백 처리 실패 (무시됨): {}", e.getMessage());
+        }
+    }
+
+    private void removeExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(Duration.ofMinutes(jobTtlMinutes));
+        jobs.values().removeIf(job -> job.completedAt != null && job.completedAt.isBefore(threshold));
+    }
+
+    private void closeSpooledImage(RecipeGenerateRequest request) {
+        if (request.getSpooledImage() != null) {
+            request.getSpooledImage().close();
+        }
+    }
+
+    /**
+     * 작업 상태 보관 객체
+     */
+    private static class RecipeGenerationJob {
+        private final String jobId;
+        private final String username;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile String status = PENDING;
+        private volatile RecipeGenerateResponse recipe;
+        private volatile String error;
+        private volatile LocalDateTime completedAt;
+
+        private RecipeGenerationJob(String jobId, String username) {
+            this.jobId = jobId;
+            this.username = username;
+        }
+
+        private RecipeJobResponse toResponse() {
+            return RecipeJobResponse.builder()
+                    .jobId(jobId)
+                    .status(status)
+                    .recipe(recipe)
+                    .error(error)
+                    .createdAt(createdAt)
+                    .completedAt(completedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package org.example.capstone.recipe.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.capstone.global.util.SpooledImage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * Flask 업로드 전 이미지 전처리
+ * - EXIF 방향 적용
+ * - 긴 변 기준으로 축소 (서브샘플링 디코딩 후 단계적 축소)
+ * - 지정 품질의 JPEG로 재인코딩
+ */
+@Component
+@Slf4j
+public class RecipeImagePreprocessor {
+
+    @Value("${recipe.image.preprocess-enabled:true}")
+    private boolean enabled;
+
+    @Value("${recipe.image.max-edge:1024}")
+    private int maxEdge;
+
+    @Value("${recipe.image.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    private final Timer preprocessTimer;
+    private final DistributionSummary bytesSaved;
+
+    public RecipeImagePreprocessor(MeterRegistry meterRegistry) {
+        this.preprocessTimer = Timer.builder("recipe.image.preprocess.time")
+                .description("레시피 생성 이미지 전처리 시간")
+                .register(meterRegistry);
+        this.bytesSaved = DistributionSummary.builder("recipe.image.preprocess.bytes.saved")
+                .description("전처리로 줄어든 업로드 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미지 전처리
+     * 디코딩할 수 없는 형식이거나 처리 이득이 없으면 원본을 그대로 반환
+     *
+     * @return 전처리된 새 임시 이미지 또는 원본
+     */
+    public SpooledImage process(SpooledImage input) {
+        if (!enabled || input == null) {
+            return input;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            SpooledImage result = doProcess(input);
+            if (result != input) {
+                long saved = input.getSize() - result.getSize();
+                bytesSaved.record(Math.max(saved, 0));
+                log.info("이미지 전처리 완료 - {} bytes -> {} bytes", input.getSize(), result.getSize());
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("이미지 전처리 실패 (원본 사용): {}", e.getMessage());
+            return input;
+        } finally {
+            preprocessTimer.record(System.nanoTime() - startedAt, java.util.concurrent.TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private SpooledImage doProcess(SpooledImage input) throws IOException {
+        int orientation = readExifOrientation(input.getPath());
+        BufferedImage image;
+        boolean jpegSource;
+
+        try (ImageInputStream iis = ImageIO.createImageInputStream(input.getPath().toFile())) {
+            if (iis == null) {
+                return input;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                // HEIC 등 JDK가 읽을 수 없는 형식은 그대로 전송
+                log.debug("지원하지 않는 이미지 형식 - 전처리 생략");
+                return input;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                jpegSource = "jpeg".equalsIgnoreCase(reader.getFormatName());
+
+                int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                if (longEdge <= maxEdge && orientation == 1 && jpegSource) {
+                    return input;
+                }
+
+                // 목표 크기의 2배 이상이면 디코딩 단계에서 서브샘플링하여 원본 해상도 비트맵을 만들지 않음
+                int subsampling = Math.max(1, longEdge / (maxEdge * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                image = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        image = downscale(image);
+        image = applyOrientation(image, orientation);
+
+        Path output = input.getPath().resolveSibling(input.getPath().getFileName() + ".jpg");
+        writeJpeg(image, output);
+        long outputSize = Files.size(output);
+
+        // 회전/축소가 필요 없는 JPEG인데 오히려 커졌다면 원본 사용
+        if (outputSize >= input.getSize() && orientation == 1 && jpegSource) {
+            Files.deleteIfExists(output);
+            return input;
+        }
+
+        return new SpooledImage(output, toJpegFilename(input.getOriginalFilename()), "image/jpeg", outputSize);
+    }
+
+    /**
+     * 단계적 축소 - 절반씩 줄이다가 마지막 단계에서 바이큐빅 보간
+     * 항상 TYPE_INT_RGB 이미지를 반환 (JPEG 인코딩용)
+     */
+    private BufferedImage downscale(BufferedImage source) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(width / 2, targetWidth);
+            height = Math.max(height / 2, targetHeight);
+            boolean lastStep = width == targetWidth && height == targetHeight;
+
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, lastStep
+                        ? RenderingHints.VALUE_INTERPOLATION_BICUBIC
+                        : RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                // 투명 배경은 흰색으로
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, width, height);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            // 이전 단계 비트맵은 여기서 참조가 끊김
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    /**
+     * EXIF 방향값(1~8)에 따라 이미지 회전/반전
+     */
+    private BufferedImage applyOrientation(BufferedImage source, int orientation) {
+        if (orientation <= 1 || orientation > 8) {
+            return source;
+        }
+
+        int w = source.getWidth();
+        int h = source.getHeight();
+        boolean swap = orientation >= 5;
+
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 전치
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 역전치
+            default -> new AffineTransform(0, -1, 1, 0, 0, w);  // 반시계 방향 90도 (8)
+        };
+
+        BufferedImage rotated = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rotated.createGraphics();
+        try {
+            g.drawImage(source, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return rotated;
+    }
+
+    private void writeJpeg(BufferedImage image, Path output) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(output.toFile())) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private String toJpegFilename(String originalFilename) {
+        if (originalFilename == null || originalFilename.isEmpty()) {
+            return "image.jpg";
+        }
+        int lastDotIndex = originalFilename.lastIndexOf('.');
+        String baseName = lastDotIndex > 0 ? originalFilename.substring(0, lastDotIndex) : originalFilename;
+        return baseName + ".jpg";
+    }
+
+    /**
+     * JPEG APP1(Exif) 세그먼트에서 방향 태그(0x0112) 읽기
+     * 값이 없거나 JPEG가 아니면 1(정방향) 반환
+     */
+    static int readExifOrientation(Path path) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readUnsignedShort() != 0xFFD8) {
+                return 1;
+            }
+            while (true) {
+                if (in.readUnsignedByte() != 0xFF) {
+                    return 1;
+                }
+                int marker = in.readUnsignedByte();
+                while (marker == 0xFF) {
+                    marker = in.readUnsignedByte();
+                }
+                // 이미지 데이터 시작(SOS) 또는 끝(EOI)이면 중단
+                if (marker == 0xDA || marker == 0xD9) {
+                    return 1;
+                }
+                int length = in.readUnsignedShort() - 2;
+                if (length < 0) {
+                    return 1;
+                }
+                if (marker == 0xE1) {
+                    byte[] segment = new byte[length];
+                    in.readFully(segment);
+                    int orientation = parseExifOrientation(segment);
+                    if (orientation > 0) {
+                        return orientation;
+                    }
+                } else {
+                    in.skipNBytes(length);
+                }
+            }
+        } catch (IOException e) {
+            return 1;
+        }
+    }
+
+    private static int parseExifOrientation(byte[] segment) {
+        if (segment.length < 14 || segment[0] != 'E' || segment[1] != 'x' || segment[2] != 'i'
+                || segment[3] != 'f' || segment[4] != 0 || segment[5] != 0) {
+            return 0;
+        }
+
+        int tiff = 6;
+        boolean littleEndian;
+        if (segment[tiff] == 'I' && segment[tiff + 1] == 'I') {
+            littleEndian = true;
+        } else if (segment[tiff] == 'M' && segment[tiff + 1] == 'M') {
+            littleEndian = false;
+        } else {
+            return 0;
+        }
+
+        long ifdOffset = readUnsignedInt(segment, tiff + 4, littleEndian);
+        if (ifdOffset < 8 || tiff + ifdOffset + 2 > segment.length) {
+            return 0;
+        }
+        int ifd = (int) (tiff + ifdOffset);
+        int entryCount = readUnsignedShort(segment, ifd, littleEndian);
+
+        for (int i = 0; i < entryCount; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > segment.length) {
+                return 0;
+            }
+            if (readUnsignedShort(segment, entry, littleEndian) == 0x0112) {
+                int value = readUnsignedShort(segment, entry + 8, littleEndian);
+                return value >= 1 && value <= 8 ? value : 0;
+            }
+        }
+        return 0;
+    }
+
+    private static int readUnsignedShort(byte[] b, int offset, boolean littleEndian) {
+        int b0 = b[offset] & 0xFF;
+        int b1 = b[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static long readUnsignedInt(byte[] b, int offset, boolean littleEndian) {
+        long value = 0;
+        for (int i = 0; i < 4; i++) {
+            int shift = littleEndian ? i * 8 : (3 - i) * 8;
+            value |= (long) (b[offset + i] & 0xFF) << shift;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.capstone.recipe.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.capstone.global.util.SpooledImage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+/**
+ * 업로드 이미지를 작업용 임시 파일로 옮기는 컴포넌트
+ * 멀티파트 임시 파일이 이미 디스크에 있으면 복사 없이 이동(rename)됨
+ */
+@Component
+@Slf4j
+public class RecipeImageStorage {
+
+    @Value("${recipe.upload.spool-dir:${java.io.tmpdir}/capstone-uploads}")
+    private String spoolDir;
+
+    private Path spoolDirectory;
+
+    @PostConstruct
+    public void init() throws IOException {
+        spoolDirectory = Files.createDirectories(Paths.get(spoolDir));
+        log.info("업로드 이미지 임시 저장 경로: {}", spoolDirectory);
+    }
+
+    public SpooledImage spool(MultipartFile image) throws IOException {
+        Path target = spoolDirectory.resolve("upload-" + UUID.randomUUID() + ".tmp");
+        // transferTo(File)는 서블릿 Part.write를 사용하므로 디스크 파일은 rename으로 처리됨
+        image.transferTo(new File(target.toAbsolutePath().toString()));
+        return new SpooledImage(target, image.getOriginalFilename(), image.getContentType(), Files.size(target));
+    }
+}
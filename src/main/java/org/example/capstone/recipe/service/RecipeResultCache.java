@@ -0,0 +1,228 @@
+package org.example.capstone.recipe.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.capstone.global.cache.LruTtlCache;
+import org.example.capstone.global.util.SpooledImage;
+import org.example.capstone.recipe.dto.RecipeGenerateResponse;
+import org.example.capstone.user.domain.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Locale;
+
+/**
+ * 레시피 생성 결과 캐시
+ * - 키: 사용자 ID + 이미지 지각 해시(dHash) + 정규화된 지시사항 + 사용자 식습관/선호도
+ * - 같은 사용자가 같은 사진을 같은 조건으로 다시 보내면 Flask 호출 없이 이전 결과를 재사용
+ *   (비슷한 사진이 다른 사용자의 레시피 ID로 이어지지 않도록 사용자별로 분리)
+ * - 레시피가 수정되면 evictRecipe로 해당 레시피를 가리키는 항목 제거
+ * - 저장/조회 시 항상 복사본을 사용하므로 호출자가 결과를 수정해도 캐시에 영향 없음
+ */
+@Component
+@Slf4j
+public class RecipeResultCache {
+
+    // dHash 계산용 축소 크기 (가로 9 x 세로 8 → 64비트)
+    private static final int HASH_WIDTH = 9;
+    private static final int HASH_HEIGHT = 8;
+
+    private final ObjectMapper objectMapper;
+    private final LruTtlCache<String, CachedRecipe> cache;
+    private final boolean enabled;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public RecipeResultCache(ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${recipe.cache.enabled:true}") boolean enabled,
+                             @Value("${recipe.cache.max-size:500}") int maxSize,
+                             @Value("${recipe.cache.ttl-minutes:30}") long ttlMinutes) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.cache = new LruTtlCache<>(maxSize, Duration.ofMinutes(ttlMinutes));
+        this.hitCounter = Counter.builder("recipe.generate.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("recipe.generate.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        meterRegistry.gauge("recipe.generate.cache.size", cache, LruTtlCache::size);
+    }
+
+    /**
+     * 캐시 키 생성 (캐시 비활성화 또는 키 생성 실패 시 null)
+     */
+    public String keyOf(SpooledImage image, String instructions, User user) {
+        if (!enabled || image == null) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(user.getId()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(imageFingerprint(image).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalize(instructions).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalize(user.getHabit()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalize(user.getPreference()).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (Exception e) {
+            log.warn("레시피 캐시 키 생성 실패 (캐시 사용 안 함): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 캐시 조회 - 결과의 복사본 반환 (없으면 null)
+     */
+    public CachedRecipe get(String key) {
+        if (key == null) {
+            return null;
+        }
+        CachedRecipe cached = cache.get(key);
+        if (cached == null) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return new CachedRecipe(copyOf(cached.response), cached.userId, cached.recipeId);
+    }
+
+    /**
+     * 생성 결과 저장
+     *
+     * @param userId   결과를 저장한 사용자 ID
+     * @param recipeId 저장된 레시피 ID
+     */
+    public void put(String key, RecipeGenerateResponse response, Long userId, Long recipeId) {
+        if (key == null || response == null) {
+            return;
+        }
+        cache.put(key, new CachedRecipe(copyOf(response), userId, recipeId));
+    }
+
+    /**
+     * 레시피가 수정/삭제되었을 때 그 레시피를 가리키는 결과 제거
+     * (수정 전 생성 결과와 수정된 레시피 ID를 함께 돌려주지 않도록)
+     */
+    public void evictRecipe(Long recipeId) {
+        if (recipeId == null) {
+            return;
+        }
+        cache.invalidateIf(cached -> recipeId.equals(cached.recipeId));
+    }
+
+    private RecipeGenerateResponse copyOf(RecipeGenerateResponse response) {
+        return objectMapper.convertValue(response, RecipeGenerateResponse.class);
+    }
+
+    /**
+     * 이미지 지문 - 디코딩 가능하면 dHash, 아니면 파일 내용의 SHA-256
+     * dHash는 재인코딩/리사이즈된 같은 사진에도 동일하게 나오는 경우가 많음
+     */
+    private String imageFingerprint(SpooledImage image) throws IOException, NoSuchAlgorithmException {
+        Long hash = differenceHash(image);
+        if (hash != null) {
+            return "d:" + Long.toHexString(hash);
+        }
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        try (InputStream in = Files.newInputStream(image.getPath())) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return "s:" + HexFormat.of().formatHex(digest.digest());
+    }
+
+    private Long differenceHash(SpooledImage image) throws IOException {
+        BufferedImage decoded;
+        try (ImageInputStream iis = ImageIO.createImageInputStream(image.getPath().toFile())) {
+            if (iis == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                // 해시에는 작은 이미지면 충분하므로 디코딩 단계에서 크게 줄임
+                int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longEdge / 256);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                decoded = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        BufferedImage gray = new BufferedImage(HASH_WIDTH, HASH_HEIGHT, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = gray.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(decoded, 0, 0, HASH_WIDTH, HASH_HEIGHT, null);
+        } finally {
+            g.dispose();
+        }
+
+        // 인접한 두 픽셀의 밝기 비교 결과를 비트로 기록
+        long hash = 0;
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH - 1; x++) {
+                int left = gray.getRaster().getSample(x, y, 0);
+                int right = gray.getRaster().getSample(x + 1, y, 0);
+                hash = (hash << 1) | (left > right ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    private String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 캐시 항목 - 생성 결과와 처음 저장한 사용자/레시피 정보
+     */
+    @Getter
+    public static class CachedRecipe {
+        private final RecipeGenerateResponse response;
+        private final Long userId;
+        private final Long recipeId;
+
+        private CachedRecipe(RecipeGenerateResponse response, Long userId, Long recipeId) {
+            this.response = response;
+            this.userId = userId;
+            this.recipeId = recipeId;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.capstone.recipe.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+/**
+ * 기존 행 목록과 새 목록을 비교하여 최소한의 변경 작업을 계산
+ * - 내용이 같은 행은 최장 공통 부분열(LCS)로 먼저 짝지음 (KEEP)
+ * - 남은 구간은 위치 순서대로 짝지어 내용만 수정 (UPDATE)
+ * - 남는 기존 행은 삭제 (DELETE), 남는 새 행은 추가 (INSERT)
+ *
+ * 재료/조리 단계는 ID 순서로 정렬되고 새 행의 ID는 항상 기존 행보다 크므로
+ * INSERT는 목록 끝에만 올 수 있음. 중간 삽입이 필요해지는 지점부터는 위치 기준으로만 짝지음
+ */
+final class RecipeRowDiff {
+
+    enum Type { KEEP, UPDATE, INSERT, DELETE }
+
+    static final class Op<O, N> {
+        final Type type;
+        final O oldRow;
+        final N newRow;
+        final int newIndex;     // 새 목록 기준 위치 (DELETE는 -1)
+
+        private Op(Type type, O oldRow, N newRow, int newIndex) {
+            this.type = type;
+            this.oldRow = oldRow;
+            this.newRow = newRow;
+            this.newIndex = newIndex;
+        }
+    }
+
+    private RecipeRowDiff() {
+    }
+
+    static <O, N> List<Op<O, N>> compute(List<O> oldRows, List<N> newRows, BiPredicate<O, N> sameContent) {
+        List<int[]> anchors = longestCommonSubsequence(oldRows, newRows, sameContent);
+        List<Op<O, N>> ops = new ArrayList<>();
+
+        int oi = 0;
+        int ni = 0;
+        for (int a = 0; a <= anchors.size(); a++) {
+            boolean last = a == anchors.size();
+            int oEnd = last ? oldRows.size() : anchors.get(a)[0];
+            int nEnd = last ? newRows.size() : anchors.get(a)[1];
+
+            if (!last && nEnd - ni > oEnd - oi) {
+                // 구간 중간에 INSERT가 필요 → 이후는 위치 기준으로 처리
+                break;
+            }
+
+            pairByPosition(oldRows, newRows, oi, oEnd, ni, nEnd, sameContent, ops);
+            if (last) {
+                return ops;
+            }
+            ops.add(new Op<>(Type.KEEP, oldRows.get(oEnd), newRows.get(nEnd), nEnd));
+            oi = oEnd + 1;
+            ni = nEnd + 1;
+        }
+
+        pairByPosition(oldRows, newRows, oi, oldRows.size(), ni, newRows.size(), sameContent, ops);
+        return ops;
+    }
+
+    /**
+     * 구간 내 행을 위치 순서대로 짝짓기
+     */
+    private static <O, N> void pairByPosition(List<O> oldRows, List<N> newRows,
+                                              int oStart, int oEnd, int nStart, int nEnd,
+                                              BiPredicate<O, N> sameContent, List<Op<O, N>> ops) {
+        int o = oStart;
+        int n = nStart;
+        while (o < oEnd && n < nEnd) {
+            // 위치 기준 구간에서도 우연히 같은 내용이면 수정하지 않음
+            Type type = sameContent.test(oldRows.get(o), newRows.get(n)) ? Type.KEEP : Type.UPDATE;
+            ops.add(new Op<>(type, oldRows.get(o), newRows.get(n), n));
+            o++;
+            n++;
+        }
+        while (o < oEnd) {
+            ops.add(new Op<>(Type.DELETE, oldRows.get(o), null, -1));
+            o++;
+        }
+        while (n < nEnd) {
+            ops.add(new Op<>(Type.INSERT, null, newRows.get(n), n));
+            n++;
+        }
+    }
+
+    /**
+     * 내용이 같은 행의 (기존 위치, 새 위치) 쌍을 순서대로 반환
+     * 레시피 하나의 행 수는 수십 개 수준이므로 O(n*m) 테이블로 충분
+     */
+    private static <O, N> List<int[]> longestCommonSubsequence(List<O> oldRows, List<N> newRows,
+                                                               BiPredicate<O, N> sameContent) {
+        int n = oldRows.size();
+        int m = newRows.size();
+        int[][] lengths = new int[n + 1][m + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = m - 1; j >= 0; j--) {
+                lengths[i][j] = sameContent.test(oldRows.get(i), newRows.get(j))
+                        ? lengths[i + 1][j + 1] + 1
+                        : Math.max(lengths[i + 1][j], lengths[i][j + 1]);
+            }
+        }
+
+        List<int[]> pairs = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < n && j < m) {
+            if (sameContent.test(oldRows.get(i), newRows.get(j))) {
+                pairs.add(new int[]{i, j});
+                i++;
+                j++;
+            } else if (lengths[i + 1][j] >= lengths[i][j + 1]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return pairs;
+    }
+}
@@ -0,0 +1,535 @@
+package org.example.capstone.recipe.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.capstone.recipe.domain.SubstitutionKnowledge;
+import org.example.capstone.recipe.dto.IngredientDTO;
+import org.example.capstone.recipe.dto.InstructionDTO;
+import org.example.capstone.recipe.dto.RecipeGenerateResponse;
+import org.example.capstone.recipe.repository.SubstitutionKnowledgeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 재료 대체 지식 베이스
+ * - 기본 데이터(recipe/substitution-seed.csv)와 DB에 누적된 Flask 판단 결과를 메모리에 보관
+ * - 근거가 충분한 재료 쌍은 Flask 호출 없이 로컬에서 거절/적용
+ *   - 기본 데이터의 대체 가능 여부(Y/N)는 최소 근거 수만큼의 판단으로 취급
+ *   - 누적된 판단 결과가 최소 근거 수 이상이면 누적 결과만으로 판단 (기본 데이터보다 우선)
+ * - 근거가 부족하거나 판단이 엇갈리는 쌍만 LLM으로 보냄
+ */
+@Service
+@Slf4j
+public class SubstitutionKnowledgeService {
+
+    private static final String SEED_LOCATION = "recipe/substitution-seed.csv";
+
+    // "2~3", "2-3" 형태의 범위 (평균값 사용)
+    private static final Pattern AMOUNT_RANGE = Pattern.compile("^(\\d+(?:\\.\\d+)?)\\s*[~\\-]\\s*(\\d+(?:\\.\\d+)?)");
+
+    // "100", "1/2", "1.5", "1과 1/2", "1 1/2" 형태의 수량
+    private static final Pattern AMOUNT_NUMBER = Pattern.compile(
+            "^(?:(\\d+(?:\\.\\d+)?)\\s*(?:과|와|\\s)\\s*(?=\\d+\\s*/))?(\\d+(?:\\.\\d+)?)(?:\\s*/\\s*(\\d+))?");
+
+    private final SubstitutionKnowledgeRepository repository;
+    private final Map<String, Knowledge> knowledge = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final int minEvidence;
+    private final double applyThreshold;
+    private final double rejectThreshold;
+
+    private final Counter rejectCounter;
+    private final Counter applyCounter;
+    private final Counter escalateCounter;
+
+    public SubstitutionKnowledgeService(SubstitutionKnowledgeRepository repository,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${recipe.substitute-knowledge.enabled:true}") boolean enabled,
+                                        @Value("${recipe.substitute-knowledge.min-evidence:3}") int minEvidence,
+                                        @Value("${recipe.substitute-knowledge.apply-threshold:0.9}") double applyThreshold,
+                                        @Value("${recipe.substitute-knowledge.reject-threshold:0.1}") double rejectThreshold) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.minEvidence = minEvidence;
+        this.applyThreshold = applyThreshold;
+        this.rejectThreshold = rejectThreshold;
+        this.rejectCounter = Counter.builder("recipe.substitute.knowledge").tag("decision", "reject").register(meterRegistry);
+        this.applyCounter = Counter.builder("recipe.substitute.knowledge").tag("decision", "apply").register(meterRegistry);
+        this.escalateCounter = Counter.builder("recipe.substitute.knowledge").tag("decision", "escalate").register(meterRegistry);
+    }
+
+    /**
+     * 기본 데이터와 누적 기록 로딩
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        int seeded = loadSeed();
+        int learned = 0;
+        try {
+            for (SubstitutionKnowledge row : repository.findAll()) {
+                String key = pairKey(row.getOriginalIngredient(), row.getSubstituteIngredient());
+                knowledge.compute(key, (k, current) -> (current != null ? current : Knowledge.EMPTY).withLearned(row));
+                learned++;
+            }
+        } catch (Exception e) {
+            log.warn("대체 재료 누적 기록 로딩 실패 (기본 데이터만 사용): {}", e.getMessage());
+        }
+        log.info("대체 재료 지식 베이스 로딩 완료 - 기본 {}건, 누적 {}건", seeded, learned);
+    }
+
+    /**
+     * 로컬 판단 시도
+     *
+     * @param requestBody Flask 대체 요청 본문 (ori, sub, recipe, originalRecipe)
+     * @return 로컬에서 결정한 응답, 근거가 부족하면 null (Flask로 전달)
+     */
+    public RecipeGenerateResponse answerLocally(Map<String, Object> requestBody) {
+        if (!enabled) {
+            return null;
+        }
+        String ori = asText(requestBody.get("ori"));
+        String sub = asText(requestBody.get("sub"));
+        Knowledge entry = knowledge.get(pairKey(ori, sub));
+        if (entry == null) {
+            escalateCounter.increment();
+            return null;
+        }
+
+        int successes = entry.successes(minEvidence);
+        int failures = entry.failures(minEvidence);
+        int total = successes + failures;
+        if (total < minEvidence) {
+            escalateCounter.increment();
+            return null;
+        }
+
+        double successRate = (double) successes / total;
+        if (successRate <= rejectThreshold) {
+            rejectCounter.increment();
+            log.info("대체 재료 로컬 거절 - {} -> {} (가능 {}회, 불가 {}회)", ori, sub, successes, failures);
+            return rejection(requestBody, ori, sub, entry);
+        }
+        if (successRate >= applyThreshold) {
+            RecipeGenerateResponse applied = application(requestBody, ori, sub, entry);
+            if (applied != null) {
+                applyCounter.increment();
+                log.info("대체 재료 로컬 적용 - {} -> {} (가능 {}회, 불가 {}회)", ori, sub, successes, failures);
+                return applied;
+            }
+        }
+
+        escalateCounter.increment();
+        return null;
+    }
+
+    /**
+     * 근거가 충분히 쌓인 거절 쌍인지 확인 (일괄 대체 요청의 사전 검증용)
+     *
+     * @return 거절 사유, 근거가 부족하거나 대체 가능한 쌍이면 null
+     */
+    public String rejectionReason(String ori, String sub) {
+        if (!enabled) {
+            return null;
+        }
+        Knowledge entry = knowledge.get(pairKey(ori, sub));
+        if (entry == null) {
+            return null;
+        }
+        int successes = entry.successes(minEvidence);
+        int failures = entry.failures(minEvidence);
+        int total = successes + failures;
+        if (total < minEvidence || (double) successes / total > rejectThreshold) {
+            return null;
+        }
+        rejectCounter.increment();
+        log.info("대체 재료 로컬 거절 - {} -> {} (가능 {}회, 불가 {}회)", ori, sub, successes, failures);
+        return reasonOf(ori, sub, entry);
+    }
+
+    /**
+     * Flask 판단 결과 누적 (실패해도 대체 요청 처리에는 영향 없음)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void learn(Map<String, Object> requestBody, RecipeGenerateResponse response) {
+        if (!enabled || response == null) {
+            return;
+        }
+        try {
+            String ori = normalize(asText(requestBody.get("ori")));
+            String sub = normalize(asText(requestBody.get("sub")));
+            if (ori.isEmpty() || sub.isEmpty()) {
+                return;
+            }
+
+            RecipeGenerateResponse.SubstitutionInfo info = response.getSubstitutionInfo();
+            Double ratio = info != null ? amountRatio(findAmount(requestBody, ori), info.getEstimatedAmount()) : null;
+
+            SubstitutionKnowledge row = repository.findByOriginalIngredientAndSubstituteIngredient(ori, sub)
+                    .orElseGet(() -> SubstitutionKnowledge.builder()
+                            .originalIngredient(ori)
+                            .substituteIngredient(sub)
+                            .build());
+
+            int samples = row.getSuccessCount() + row.getFailureCount();
+            if (response.isSubstituteFailure()) {
+                row.setFailureCount(row.getFailureCount() + 1);
+                row.setReason(response.getDescription());
+            } else {
+                row.setSuccessCount(row.getSuccessCount() + 1);
+                if (info != null && info.getSubstitutionReason() != null) {
+                    row.setReason(info.getSubstitutionReason());
+                }
+            }
+            if (info != null && info.getSimilarityScore() != null) {
+                row.setSimilarityScore(runningAverage(row.getSimilarityScore(), samples, info.getSimilarityScore()));
+            }
+            if (ratio != null) {
+                row.setAmountRatio(runningAverage(row.getAmountRatio(), row.getRatioSamples(), ratio));
+                row.setRatioSamples(row.getRatioSamples() + 1);
+            }
+            if (info != null && info.getCookingTips() != null && !info.getCookingTips().isEmpty()) {
+                row.setCookingTips(String.join("\n", info.getCookingTips()));
+            }
+            row.setUpdatedAt(LocalDateTime.now());
+
+            SubstitutionKnowledge saved = repository.save(row);
+            knowledge.compute(pairKey(ori, sub), (k, current) -> (current != null ? current : Knowledge.EMPTY).withLearned(saved));
+        } catch (Exception e) {
+            log.warn("대체 재료 판단 결과 저장 실패 (무시됨): {}", e.getMessage());
+        }
+    }
+
+    private RecipeGenerateResponse rejection(Map<String, Object> requestBody, String ori, String sub, Knowledge entry) {
+        return RecipeGenerateResponse.builder()
+                .name(asText(requestBody.get("recipe")))
+                .description(reasonOf(ori, sub, entry))
+                .substituteFailure(true)
+                .substitutionInfo(substitutionInfo(ori, sub, entry, null))
+                .build();
+    }
+
+    private String reasonOf(String ori, String sub, Knowledge entry) {
+        return entry.reason != null && !entry.reason.isBlank()
+                ? entry.reason
+                : String.format("%s를 %s로 대체할 수 없습니다.", ori, sub);
+    }
+
+    /**
+     * 기존 레시피에 대체 재료를 직접 적용한 응답 생성
+     * 원본 레시피 정보가 없거나 원재료가 재료 목록에 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    private RecipeGenerateResponse application(Map<String, Object> requestBody, String ori, String sub, Knowledge entry) {
+        if (!(requestBody.get("originalRecipe") instanceof Map<?, ?> originalRecipe)
+                || !(originalRecipe.get("ingredients") instanceof List<?>)
+                || !(originalRecipe.get("instructions") instanceof List<?>)) {
+            return null;
+        }
+        boolean autoAdjustAmount = !Boolean.FALSE.equals(requestBody.get("autoAdjustAmount"));
+        Double ratio = autoAdjustAmount ? entry.ratio() : null;
+
+        List<IngredientDTO> ingredients = new ArrayList<>();
+        String estimatedAmount = null;
+        for (Map<String, Object> item : (List<Map<String, Object>>) originalRecipe.get("ingredients")) {
+            String name = asText(item.get("name"));
+            String amount = asText(item.get("amount"));
+            if (normalize(name).equals(normalize(ori))) {
+                estimatedAmount = scaleAmount(amount, ratio);
+                ingredients.add(IngredientDTO.builder().name(sub).amount(estimatedAmount).build());
+            } else {
+                ingredients.add(IngredientDTO.builder().name(name).amount(amount).build());
+            }
+        }
+        if (estimatedAmount == null) {
+            return null;
+        }
+
+        IngredientRewriter rewriter = IngredientRewriter.of(ori, sub);
+        List<InstructionDTO> instructions = new ArrayList<>();
+        for (Map<String, Object> item : (List<Map<String, Object>>) originalRecipe.get("instructions")) {
+            int cookingTime = item.get("cookingTime") instanceof Number n ? n.intValue() : 0;
+            int cookingTimeSeconds = item.get("cookingTimeSeconds") instanceof Number n ? n.intValue() : cookingTime * 60;
+            instructions.add(InstructionDTO.builder()
+                    .instruction(rewriter.rewrite(asText(item.get("instruction"))))
+                    .cookingTime(cookingTime)
+                    .cookingTimeSeconds(cookingTimeSeconds)
+                    .stepNumber(instructions.size() + 1)
+                    .build());
+        }
+
+        // 설명은 원본 레시피 값을 유지 (null이면 업데이트하지 않음)
+        return RecipeGenerateResponse.builder()
+                .name(rewriter.rewrite(asText(requestBody.get("recipe"))))
+                .ingredients(ingredients)
+                .instructions(instructions)
+                .substituteFailure(false)
+                .substitutionInfo(substitutionInfo(ori, sub, entry, estimatedAmount))
+                .build();
+    }
+
+    private RecipeGenerateResponse.SubstitutionInfo substitutionInfo(String ori, String sub, Knowledge entry,
+                                                                     String estimatedAmount) {
+        return RecipeGenerateResponse.SubstitutionInfo.builder()
+                .originalIngredient(ori)
+                .substituteIngredient(sub)
+                .similarityScore(entry.similarity)
+                .estimatedAmount(estimatedAmount)
+                .substitutionReason(entry.reason)
+                .cookingTips(entry.tips)
+                .build();
+    }
+
+    private int loadSeed() {
+        ClassPathResource resource = new ClassPathResource(SEED_LOCATION);
+        if (!resource.exists()) {
+            return 0;
+        }
+        int count = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(",", -1);
+                if (columns.length < 3) {
+                    continue;
+                }
+                Knowledge seed = Knowledge.seed(
+                        parseVerdict(column(columns, 2)),
+                        parseDouble(column(columns, 3)),
+                        parseDouble(column(columns, 4)),
+                        column(columns, 5),
+                        column(columns, 6).isEmpty() ? null : Arrays.asList(column(columns, 6).split("\\|")));
+                knowledge.merge(pairKey(columns[0], columns[1]), seed, (current, ignored) -> current.withSeed(seed));
+                count++;
+            }
+        } catch (IOException e) {
+            log.warn("대체 재료 기본 데이터 로딩 실패: {}", e.getMessage());
+        }
+        return count;
+    }
+
+    private String findAmount(Map<String, Object> requestBody, String normalizedOri) {
+        if (requestBody.get("originalRecipe") instanceof Map<?, ?> originalRecipe
+                && originalRecipe.get("ingredients") instanceof List<?> ingredients) {
+            for (Object item : ingredients) {
+                if (item instanceof Map<?, ?> ingredient && normalize(asText(ingredient.get("name"))).equals(normalizedOri)) {
+                    return asText(ingredient.get("amount"));
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 대체 재료 양 / 원재료 양 (단위가 같을 때만)
+     */
+    static Double amountRatio(String originalAmount, String estimatedAmount) {
+        Amount original = parseAmount(originalAmount);
+        Amount estimated = parseAmount(estimatedAmount);
+        if (original == null || estimated == null || original.value() <= 0
+                || !original.unit().equals(estimated.unit())) {
+            return null;
+        }
+        return estimated.value() / original.value();
+    }
+
+    /**
+     * 양에 비율을 곱한 표기 ("200g(1컵)" → "160g", 괄호 안의 다른 단위 표기는 맞지 않게 되므로 버림)
+     */
+    static String scaleAmount(String amount, Double ratio) {
+        Amount parsed = parseAmount(amount);
+        if (ratio == null || parsed == null) {
+            return amount;
+        }
+        double scaled = parsed.value() * ratio;
+        String number = scaled == Math.rint(scaled)
+                ? String.valueOf((long) scaled)
+                : String.format(Locale.ROOT, "%.1f", scaled);
+        return number + parsed.unit();
+    }
+
+    /**
+     * 양 표기 해석 ("100g", "1/2컵", "1과 1/2컵", "2-3개", "200g(1컵)", "1큰술 반")
+     * - 범위는 평균값, 괄호 안의 부가 표기는 무시, 단위 뒤의 "반"은 0.5를 더함
+     *
+     * @return 수량과 단위 (공백 제거), 숫자로 시작하지 않으면 null
+     */
+    static Amount parseAmount(String amount) {
+        if (amount == null) {
+            return null;
+        }
+        String text = amount.trim().replaceFirst("^(약|대략)\\s*", "");
+
+        double value;
+        String rest;
+        Matcher range = AMOUNT_RANGE.matcher(text);
+        Matcher number = AMOUNT_NUMBER.matcher(text);
+        if (range.find()) {
+            value = (Double.parseDouble(range.group(1)) + Double.parseDouble(range.group(2))) / 2;
+            rest = text.substring(range.end());
+        } else if (number.find()) {
+            value = Double.parseDouble(number.group(2));
+            if (number.group(3) != null) {
+                double denominator = Double.parseDouble(number.group(3));
+                if (denominator == 0) {
+                    return null;
+                }
+                value /= denominator;
+            }
+            if (number.group(1) != null) {
+                value += Double.parseDouble(number.group(1));
+            }
+            rest = text.substring(number.end());
+        } else {
+            return null;
+        }
+
+        rest = rest.replaceAll("\\(.*?\\)", "").replaceAll("\\s+", "");
+        if (rest.endsWith("반") && rest.length() > 1) {
+            value += 0.5;
+            rest = rest.substring(0, rest.length() - 1);
+        }
+        return new Amount(value, rest);
+    }
+
+    private static double runningAverage(Double average, int samples, double value) {
+        if (average == null || samples <= 0) {
+            return value;
+        }
+        return (average * samples + value) / (samples + 1);
+    }
+
+    private static String pairKey(String ori, String sub) {
+        return normalize(ori) + "\u0000" + normalize(sub);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static String asText(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private static String column(String[] columns, int index) {
+        return index < columns.length ? columns[index].trim() : "";
+    }
+
+    /**
+     * 대체 가능 여부 열 (Y/N, 그 밖의 값은 판단 없음)
+     */
+    private static Boolean parseVerdict(String value) {
+        if ("Y".equalsIgnoreCase(value)) {
+            return Boolean.TRUE;
+        }
+        if ("N".equalsIgnoreCase(value)) {
+            return Boolean.FALSE;
+        }
+        return null;
+    }
+
+    private static Double parseDouble(String value) {
+        try {
+            return value.isEmpty() ? null : Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    record Amount(double value, String unit) {
+    }
+
+    /**
+     * 재료 쌍 하나의 판단 근거 (불변)
+     * 기본 데이터의 판단은 누적 결과가 최소 근거 수에 못 미칠 때만 최소 근거 수만큼으로 셈
+     */
+    private static final class Knowledge {
+
+        private static final Knowledge EMPTY = new Knowledge(null, null, 0, 0, null, null, null, null);
+
+        private final Boolean seedPossible;
+        private final Double seedRatio;
+        private final int learnedSuccesses;
+        private final int learnedFailures;
+        private final Double learnedRatio;
+        private final Double similarity;
+        private final String reason;
+        private final List<String> tips;
+
+        private Knowledge(Boolean seedPossible, Double seedRatio, int learnedSuccesses, int learnedFailures,
+                          Double learnedRatio, Double similarity, String reason, List<String> tips) {
+            this.seedPossible = seedPossible;
+            this.seedRatio = seedRatio;
+            this.learnedSuccesses = learnedSuccesses;
+            this.learnedFailures = learnedFailures;
+            this.learnedRatio = learnedRatio;
+            this.similarity = similarity;
+            this.reason = reason;
+            this.tips = tips;
+        }
+
+        private static Knowledge seed(Boolean possible, Double ratio, Double similarity, String reason, List<String> tips) {
+            return new Knowledge(possible, ratio, 0, 0, null, similarity, reason.isEmpty() ? null : reason, tips);
+        }
+
+        private Knowledge withSeed(Knowledge seed) {
+            return new Knowledge(seed.seedPossible, seed.seedRatio, learnedSuccesses, learnedFailures, learnedRatio,
+                    similarity != null ? similarity : seed.similarity,
+                    reason != null ? reason : seed.reason,
+                    tips != null ? tips : seed.tips);
+        }
+
+        private Knowledge withLearned(SubstitutionKnowledge row) {
+            return new Knowledge(seedPossible, seedRatio, row.getSuccessCount(), row.getFailureCount(),
+                    row.getRatioSamples() > 0 ? row.getAmountRatio() : null,
+                    row.getSimilarityScore() != null ? row.getSimilarityScore() : similarity,
+                    row.getReason() != null ? row.getReason() : reason,
+                    row.getCookingTips() != null ? List.of(row.getCookingTips().split("\n")) : tips);
+        }
+
+        /**
+         * 대체 가능 판단 수 (누적 결과가 부족하면 기본 데이터의 Y를 seedWeight회로 더함)
+         */
+        private int successes(int seedWeight) {
+            return learnedSuccesses + (useSeed(seedWeight) && Boolean.TRUE.equals(seedPossible) ? seedWeight : 0);
+        }
+
+        /**
+         * 대체 불가 판단 수 (누적 결과가 부족하면 기본 데이터의 N을 seedWeight회로 더함)
+         */
+        private int failures(int seedWeight) {
+            return learnedFailures + (useSeed(seedWeight) && Boolean.FALSE.equals(seedPossible) ? seedWeight : 0);
+        }
+
+        private boolean useSeed(int seedWeight) {
+            return learnedSuccesses + learnedFailures < seedWeight;
+        }
+
+        private Double ratio() {
+            return learnedRatio != null ? learnedRatio : seedRatio;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.capstone.recipe.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.capstone.global.cache.LruTtlCache;
+import org.example.capstone.recipe.dto.RecipeGenerateResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 대체 재료 결과 캐시
+ * - 키: 정규화된 원본 레시피 내용 해시 + (원재료, 대체재료, 수량 자동 조정 여부)
+ * - 성공 응답뿐 아니라 대체 불가(substituteFailure) 응답도 저장하여 같은 요청을 LLM에 다시 보내지 않음
+ * - 레시피 ID/소유자/변경 내역은 요청마다 다르므로 제거한 복사본을 저장
+ */
+@Component
+@Slf4j
+public class SubstitutionResultCache {
+
+    private final ObjectMapper objectMapper;
+    private final LruTtlCache<String, RecipeGenerateResponse> cache;
+    private final boolean enabled;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public SubstitutionResultCache(ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${recipe.substitute-cache.enabled:true}") boolean enabled,
+                                   @Value("${recipe.substitute-cache.max-size:1000}") int maxSize,
+                                   @Value("${recipe.substitute-cache.ttl-minutes:60}") long ttlMinutes) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.cache = new LruTtlCache<>(maxSize, Duration.ofMinutes(ttlMinutes));
+        this.hitCounter = Counter.builder("recipe.substitute.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("recipe.substitute.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("recipe.substitute.cache.hit.ratio", this, SubstitutionResultCache::hitRatio)
+                .description("대체 재료 캐시 적중률 (기동 이후 누적)")
+                .register(meterRegistry);
+        Gauge.builder("recipe.substitute.cache.size", cache, LruTtlCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Flask 요청 본문으로 캐시 키 생성 (비활성화 시 null)
+     */
+    public String keyOf(Map<String, Object> requestBody) {
+        if (!enabled || requestBody == null) {
+            return null;
+        }
+
+        StringBuilder content = new StringBuilder();
+        append(content, "ori", requestBody.get("ori"));
+        append(content, "sub", requestBody.get("sub"));
+        append(content, "auto", requestBody.get("autoAdjustAmount"));
+        append(content, "include", requestBody.get("includeOriginalRecipe"));
+        append(content, "recipe", requestBody.get("recipe"));
+
+        // 원본 레시피 내용 (재료/조리법 순서 유지)
+        if (requestBody.get("originalRecipe") instanceof Map<?, ?> originalRecipe) {
+            if (originalRecipe.get("ingredients") instanceof List<?> ingredients) {
+                for (Object item : ingredients) {
+                    if (item instanceof Map<?, ?> ingredient) {
+                        append(content, "i", ingredient.get("name"));
+                        append(content, "a", ingredient.get("amount"));
+                    }
+                }
+            }
+            if (originalRecipe.get("instructions") instanceof List<?> instructions) {
+                for (Object item : instructions) {
+                    if (item instanceof Map<?, ?> instruction) {
+                        append(content, "s", instruction.get("instruction"));
+                        append(content, "t", instruction.get("cookingTimeSeconds"));
+                    }
+                }
+            }
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            log.warn("대체 재료 캐시 키 생성 실패 (캐시 사용 안 함): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 캐시 조회 - 복사본 반환 (없으면 null)
+     */
+    public RecipeGenerateResponse get(String key) {
+        if (key == null) {
+            return null;
+        }
+        RecipeGenerateResponse cached = cache.get(key);
+        if (cached == null) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return copyOf(cached);
+    }
+
+    /**
+     * Flask 응답 저장 (성공/실패 모두)
+     */
+    public void put(String key, RecipeGenerateResponse response) {
+        if (key == null || response == null) {
+            return;
+        }
+        RecipeGenerateResponse copy = copyOf(response);
+        copy.setId(null);
+        copy.setUserId(null);
+        copy.setUpdateResult(null);
+        cache.put(key, copy);
+    }
+
+    private RecipeGenerateResponse copyOf(RecipeGenerateResponse response) {
+        return objectMapper.convertValue(response, RecipeGenerateResponse.class);
+    }
+
+    private double hitRatio() {
+        double total = hitCounter.count() + missCounter.count();
+        return total == 0 ? 0.0 : hitCounter.count() / total;
+    }
+
+    private void append(StringBuilder content, String label, Object value) {
+        String normalized = value == null ? "" : value.toString().trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        content.append(label).append('=').append(normalized).append('\n');
+    }
+}
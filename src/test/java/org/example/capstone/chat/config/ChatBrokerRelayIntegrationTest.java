@@ -0,0 +1,183 @@
+package org.example.capstone.chat.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.config.AbstractMessageBrokerConfiguration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.simp.user.DefaultSimpUserRegistry;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.tcp.TcpOperations;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 외부 브로커 중계 모드에서 한 서버가 보낸 사용자 메시지가 다른 서버에 연결된 세션까지 전달되는지 검증
+ * - 서버 두 대를 애플리케이션 컨텍스트 두 개로, 외부 브로커를 InMemoryStompBroker로 대신함
+ * - WebSocket 전송 없이 clientInboundChannel/clientOutboundChannel로 클라이언트 프레임을 주고받음
+ */
+class ChatBrokerRelayIntegrationTest {
+
+    private static final long TIMEOUT_MS = 5000;
+
+    private static InMemoryStompBroker broker;
+
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        broker = new InMemoryStompBroker();
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+        awaitBrokerAvailable(nodeA);
+        awaitBrokerAvailable(nodeB);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.close();
+        nodeB.close();
+        broker.shutdown();
+    }
+
+    @Test
+    void userMessageSentFromOneNodeReachesSessionOnAnotherNode() throws Exception {
+        Principal alice = () -> "alice";
+        BlockingQueue<Message<?>> outboundB = new LinkedBlockingQueue<>();
+        nodeB.getBean("clientOutboundChannel", AbstractSubscribableChannel.class).subscribe(outboundB::add);
+        AbstractSubscribableChannel inboundB = nodeB.getBean("clientInboundChannel", AbstractSubscribableChannel.class);
+
+        // 노드 B에 alice 연결 + 사용자 목록 등록 (WebSocket 핸들러가 하는 일)
+        inboundB.send(stompFrame(StompCommand.CONNECT, "sess-b", alice, accessor -> {
+            accessor.setAcceptVersion("1.2");
+            accessor.setHeartbeat(0, 0);
+        }));
+        assertThat(awaitFrame(outboundB, StompCommand.CONNECTED).getHeaders())
+                .containsEntry(SimpMessageHeaderAccessor.SESSION_ID_HEADER, "sess-b");
+        nodeB.publishEvent(new SessionConnectedEvent(this, connectAck("sess-b", alice), alice));
+
+        inboundB.send(stompFrame(StompCommand.SUBSCRIBE, "sess-b", alice, accessor -> {
+            accessor.setSubscriptionId("sub-1");
+            accessor.setDestination("/user/queue/messages");
+        }));
+        awaitSubscribed("/queue/messages-usersess-b");
+
+        // 노드 A에는 alice 세션이 없음 - 브로커를 거쳐 노드 B로 전달되어야 함
+        nodeA.getBean("brokerMessagingTemplate", SimpMessagingTemplate.class)
+                .convertAndSendToUser("alice", "/queue/messages", "hello");
+
+        Message<?> delivered = awaitFrame(outboundB, StompCommand.MESSAGE);
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(delivered);
+        assertThat(accessor.getSessionId()).isEqualTo("sess-b");
+        assertThat(accessor.getSubscriptionId()).isEqualTo("sub-1");
+        assertThat(new String((byte[]) delivered.getPayload(), StandardCharsets.UTF_8)).contains("hello");
+    }
+
+    private static AnnotationConfigApplicationContext startNode(String name) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources()
+                .addFirst(new MapPropertySource(name, Map.of("chat.broker.mode", ChatBrokerConfig.MODE_RELAY)));
+        context.register(ChatBrokerConfig.class, NodeConfig.class);
+        context.refresh();
+        return context;
+    }
+
+    private static void awaitBrokerAvailable(AnnotationConfigApplicationContext node) throws InterruptedException {
+        AbstractBrokerMessageHandler relay =
+                node.getBean("stompBrokerRelayMessageHandler", AbstractBrokerMessageHandler.class);
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!relay.isBrokerAvailable()) {
+            assertThat(System.currentTimeMillis()).as("브로커 연결 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 구독 프레임은 브로커 스레드에서 비동기로 처리되므로, 등록될 때까지 대기
+     */
+    private static void awaitSubscribed(String destination) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!broker.hasSubscription(destination)) {
+            assertThat(System.currentTimeMillis()).as("구독 등록 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static Message<?> awaitFrame(BlockingQueue<Message<?>> frames, StompCommand command)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (true) {
+            Message<?> frame = frames.poll(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+            assertThat(frame).as(command + " 프레임 대기 시간 초과").isNotNull();
+            if (StompHeaderAccessor.wrap(frame).getCommand() == command) {
+                return frame;
+            }
+        }
+    }
+
+    private static Message<byte[]> stompFrame(StompCommand command, String sessionId, Principal user,
+                                              Consumer<StompHeaderAccessor> customizer) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setUser(user);
+        customizer.accept(accessor);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<byte[]> connectAck(String sessionId, Principal user) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT_ACK);
+        accessor.setSessionId(sessionId);
+        accessor.setUser(user);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    /**
+     * 서버 하나의 메시징 인프라 (WebSocket 엔드포인트 제외)
+     * 브로커 설정은 실제 ChatBrokerConfig를 그대로 사용
+     */
+    @Configuration
+    static class NodeConfig extends AbstractMessageBrokerConfiguration {
+
+        @Autowired
+        private ChatBrokerConfig chatBrokerConfig;
+
+        @Bean
+        public TcpOperations<byte[]> brokerTcpClient() {
+            return broker.newClient();
+        }
+
+        @Override
+        protected void configureMessageBroker(MessageBrokerRegistry registry) {
+            chatBrokerConfig.configureMessageBroker(registry);
+        }
+
+        @Override
+        protected SimpUserRegistry createLocalUserRegistry(Integer order) {
+            return new DefaultSimpUserRegistry();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.capstone.chat.config;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.tcp.ReconnectStrategy;
+import org.springframework.messaging.tcp.TcpConnection;
+import org.springframework.messaging.tcp.TcpConnectionHandler;
+import org.springframework.messaging.tcp.TcpOperations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테스트용 JVM 내 STOMP 브로커
+ * - 외부 브로커 대신 StompBrokerRelay의 TcpOperations로 연결 (여러 애플리케이션 컨텍스트가 하나의 브로커를 공유)
+ * - CONNECT/SUBSCRIBE/UNSUBSCRIBE/SEND/DISCONNECT만 지원, SEND는 같은 목적지의 모든 구독으로 전달
+ * - 프레임은 하나의 스레드에서 순서대로 처리 (하트비트 없음)
+ */
+class InMemoryStompBroker {
+
+    // STOMP 프레임 헤더 중 MESSAGE로 옮기지 않는 것
+    private static final Set<String> FRAME_HEADERS = Set.of(
+            "destination", "receipt", "content-length", "id", "subscription", "message-id");
+
+    private final Set<BrokerConnection> connections = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "in-memory-stomp-broker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 애플리케이션 컨텍스트(서버 하나)마다 하나씩 사용할 클라이언트
+     */
+    TcpOperations<byte[]> newClient() {
+        return new TcpOperations<>() {
+            @Override
+            public CompletableFuture<Void> connectAsync(TcpConnectionHandler<byte[]> handler) {
+                BrokerConnection connection = new BrokerConnection(handler);
+                connections.add(connection);
+                dispatcher.execute(() -> handler.afterConnected(connection));
+                return CompletableFuture.completedFuture(null);
+            }
+
+            @Override
+            public CompletableFuture<Void> connectAsync(TcpConnectionHandler<byte[]> handler,
+                                                        ReconnectStrategy reconnectStrategy) {
+                return connectAsync(handler);
+            }
+
+            @Override
+            public CompletableFuture<Void> shutdownAsync() {
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+    }
+
+    boolean hasSubscription(String destination) {
+        return connections.stream().anyMatch(connection -> connection.subscriptions.containsValue(destination));
+    }
+
+    void shutdown() throws InterruptedException {
+        dispatcher.shutdownNow();
+        dispatcher.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void receive(BrokerConnection connection, Message<byte[]> frame) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(frame);
+        StompCommand command = accessor.getCommand();
+        if (command == null) {
+            return; // 하트비트
+        }
+        switch (command) {
+            case CONNECT, STOMP -> {
+                StompHeaderAccessor connected = StompHeaderAccessor.create(StompCommand.CONNECTED);
+                connected.setVersion("1.2");
+                connected.setHeartbeat(0, 0);
+                connection.deliver(connected, new byte[0]);
+            }
+            case SUBSCRIBE -> connection.subscriptions.put(accessor.getSubscriptionId(), destinationOf(accessor));
+            case UNSUBSCRIBE -> connection.subscriptions.remove(accessor.getSubscriptionId());
+            case SEND -> publish(accessor, frame.getPayload());
+            case DISCONNECT -> connection.close();
+            default -> {
+            }
+        }
+    }
+
+    private void publish(StompHeaderAccessor send, byte[] payload) {
+        String destination = destinationOf(send);
+        for (BrokerConnection connection : connections) {
+            connection.subscriptions.forEach((subscriptionId, subscribed) -> {
+                if (!subscribed.equals(destination)) {
+                    return;
+                }
+                StompHeaderAccessor message = StompHeaderAccessor.create(StompCommand.MESSAGE);
+                // 사용자 정의 헤더(originalDestination 등)는 실제 브로커처럼 그대로 전달
+                for (Map.Entry<String, List<String>> header : send.toNativeHeaderMap().entrySet()) {
+                    if (!FRAME_HEADERS.contains(header.getKey())) {
+                        message.setNativeHeaderValues(header.getKey(), header.getValue());
+                    }
+                }
+                message.setDestination(destination);
+                message.setNativeHeader("destination", destination);
+                message.setSubscriptionId(subscriptionId);
+                message.setMessageId(UUID.randomUUID().toString());
+                connection.deliver(message, payload);
+            });
+        }
+    }
+
+    private static String destinationOf(StompHeaderAccessor accessor) {
+        return accessor.getDestination() != null ? accessor.getDestination() : accessor.getFirstNativeHeader("destination");
+    }
+
+    /**
+     * 서버 쪽 연결 하나 (StompBrokerRelay의 세션 하나)
+     */
+    private class BrokerConnection implements TcpConnection<byte[]> {
+
+        private final TcpConnectionHandler<byte[]> handler;
+        private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+
+        private BrokerConnection(TcpConnectionHandler<byte[]> handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public CompletableFuture<Void> sendAsync(Message<byte[]> message) {
+            dispatcher.execute(() -> receive(this, message));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        private void deliver(StompHeaderAccessor accessor, byte[] payload) {
+            accessor.setLeaveMutable(true);
+            handler.handleMessage(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        }
+
+        @Override
+        public void onReadInactivity(Runnable runnable, long duration) {
+        }
+
+        @Override
+        public void onWriteInactivity(Runnable runnable, long duration) {
+        }
+
+        @Override
+        public void close() {
+            if (connections.remove(this)) {
+                dispatcher.execute(handler::afterConnectionClosed);
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.capstone.chat.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import org.example.capstone.global.util.JwtUtil;
+import org.example.capstone.user.domain.User;
+import org.example.capstone.user.login.dto.CustomUserDetails;
+import org.example.capstone.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * CONNECT에서 한 번만 토큰을 검증하고, SEND는 캐시된 인증 정보와 만료 시각으로 처리하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StompAuthChannelInterceptorTest {
+
+    private static final String SESSION_ID = "sess-1";
+    private static final String TOKEN = "access-token";
+    private static final long EXPIRES_AT = 60_000;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final AtomicLong now = new AtomicLong();
+    private StompAuthChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new StompAuthChannelInterceptor(jwtUtil, userRepository, now::get);
+
+        Claims claims = Jwts.claims()
+                .add("username", "alice")
+                .add("userEmail", "alice@example.com")
+                .expiration(new Date(EXPIRES_AT))
+                .build();
+        when(jwtUtil.getClaims(TOKEN)).thenReturn(claims);
+        when(userRepository.findByEmail("alice@example.com")).thenReturn(User.builder()
+                .id(7L)
+                .username("alice")
+                .email("alice@example.com")
+                .build());
+    }
+
+    @Test
+    void connectResolvesUserWithIdAndSendReusesIt() {
+        StompHeaderAccessor connect = accessor(StompCommand.CONNECT, TOKEN);
+        interceptor.preSend(message(connect), null);
+
+        CustomUserDetails userDetails =
+                (CustomUserDetails) ((UsernamePasswordAuthenticationToken) connect.getUser()).getPrincipal();
+        assertThat(userDetails.getUserId()).isEqualTo(7L);
+
+        // 같은 토큰이 실린 SEND도 다시 파싱하지 않음
+        for (int i = 0; i < 3; i++) {
+            StompHeaderAccessor send = accessor(StompCommand.SEND, i == 0 ? TOKEN : null);
+            interceptor.preSend(message(send), null);
+            assertThat(send.getUser()).isSameAs(connect.getUser());
+        }
+        verify(jwtUtil, times(1)).getClaims(TOKEN);
+        verify(jwtUtil, never()).validateToken(any());
+        verify(userRepository, times(1)).findByEmail("alice@example.com");
+    }
+
+    @Test
+    void sendAfterTokenExpiryIsRejectedAndEvicted() {
+        interceptor.preSend(message(accessor(StompCommand.CONNECT, TOKEN)), null);
+        now.set(EXPIRES_AT);
+
+        assertThatThrownBy(() -> interceptor.preSend(message(accessor(StompCommand.SEND, null)), null))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThat(interceptor.getSessionCount()).isZero();
+    }
+
+    @Test
+    void sendWithInvalidReplacementTokenIsRejectedAndEvicted() {
+        when(jwtUtil.getClaims("junk")).thenThrow(new MalformedJwtException("형식 오류"));
+        StompHeaderAccessor connect = accessor(StompCommand.CONNECT, TOKEN);
+        interceptor.preSend(message(connect), null);
+        now.set(EXPIRES_AT);
+
+        assertThatThrownBy(() -> interceptor.preSend(message(accessor(StompCommand.SEND, "junk")), null))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThat(interceptor.getSessionCount()).isZero();
+
+        // 이후 프레임에는 Spring이 CONNECT 때 저장한 인증이 붙어 오지만, 캐시에서 제거되었으므로 거부
+        StompHeaderAccessor next = accessor(StompCommand.SEND, null);
+        next.setUser(connect.getUser());
+        assertThatThrownBy(() -> interceptor.preSend(message(next), null))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    void disconnectEvictsSession() {
+        interceptor.preSend(message(accessor(StompCommand.CONNECT, TOKEN)), null);
+        assertThat(interceptor.getSessionCount()).isEqualTo(1);
+
+        interceptor.preSend(message(accessor(StompCommand.DISCONNECT, null)), null);
+
+        assertThat(interceptor.getSessionCount()).isZero();
+    }
+
+    @Test
+    void invalidTokenLeavesSessionUnauthenticated() {
+        when(jwtUtil.getClaims("bad-token")).thenThrow(new MalformedJwtException("형식 오류"));
+
+        StompHeaderAccessor connect = accessor(StompCommand.CONNECT, "bad-token");
+        interceptor.preSend(message(connect), null);
+
+        assertThat(connect.getUser()).isNull();
+        assertThat(interceptor.getSessionCount()).isZero();
+    }
+
+    private static StompHeaderAccessor accessor(StompCommand command, String token) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(SESSION_ID);
+        if (token != null) {
+            accessor.setNativeHeader("Authorization", "Bearer " + token);
+        }
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
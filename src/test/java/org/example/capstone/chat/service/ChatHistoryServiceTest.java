@@ -0,0 +1,206 @@
+package org.example.capstone.chat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.capstone.chat.domain.Chat;
+import org.example.capstone.chat.dto.ChatHistoryResponse;
+import org.example.capstone.chat.dto.ChatMessageDTO;
+import org.example.capstone.chat.repository.ChatRepository;
+import org.example.capstone.global.exception.CustomException;
+import org.example.capstone.global.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 기록 페이지 조회(버퍼 → DB), Flask 맥락 구성(토큰 예산/요약), 세션 ID 검증, 버퍼 제거 조건 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChatHistoryServiceTest {
+
+    private static final String SESSION_ID = "session-1";
+    private static final String USERNAME = "user";
+
+    @Mock
+    private ChatRepository chatRepository;
+
+    @Mock
+    private ChatHistoryWriter chatHistoryWriter;
+
+    @Test
+    void pageIsServedFromBufferWhenItCoversTheRange() {
+        ChatHistoryService service = service(4, 30, 5000, 1500);
+        when(chatRepository.findRecent(eq(SESSION_ID), any())).thenReturn(rowsDesc(9, 6));
+
+        ChatHistoryResponse page = service.getHistory(SESSION_ID, USERNAME, null, 3);
+
+        assertThat(page.getMessages()).extracting(ChatMessageDTO::getSeq).containsExactly(7L, 8L, 9L);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(page.getNextBefore()).isEqualTo(7L);
+        verify(chatRepository, never()).findBefore(any(), anyLong(), any());
+    }
+
+    @Test
+    void olderPageContinuesFromDatabaseBelowBuffer() {
+        ChatHistoryService service = service(4, 30, 5000, 1500);
+        when(chatRepository.findRecent(eq(SESSION_ID), any())).thenReturn(rowsDesc(9, 6));
+        when(chatRepository.findBefore(eq(SESSION_ID), eq(6L), any())).thenReturn(rowsDesc(5, 3));
+
+        ChatHistoryResponse page = service.getHistory(SESSION_ID, USERNAME, 7L, 3);
+
+        ArgumentCaptor<PageRequest> pageable = ArgumentCaptor.forClass(PageRequest.class);
+        verify(chatRepository).findBefore(eq(SESSION_ID), eq(6L), pageable.capture());
+        // 버퍼에서 1개(6)를 채웠으므로 나머지 2개 + 다음 페이지 확인용 1개
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(3);
+        assertThat(page.getMessages()).extracting(ChatMessageDTO::getSeq).containsExactly(4L, 5L, 6L);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(page.getNextBefore()).isEqualTo(4L);
+    }
+
+    @Test
+    void lastPageHasNoMore() {
+        ChatHistoryService service = service(4, 30, 5000, 1500);
+        when(chatRepository.findRecent(eq(SESSION_ID), any())).thenReturn(rowsDesc(1, 0));
+
+        ChatHistoryResponse page = service.getHistory(SESSION_ID, USERNAME, null, 3);
+
+        assertThat(page.getMessages()).extracting(ChatMessageDTO::getSeq).containsExactly(0L, 1L);
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getNextBefore()).isNull();
+        verify(chatRepository, never()).findBefore(any(), anyLong(), any());
+    }
+
+    @Test
+    void historyOfUnknownOrForeignSessionIsNotFound() {
+        ChatHistoryService service = service(4, 30, 5000, 1500);
+        when(chatRepository.findRecent(eq("other"), any())).thenReturn(List.of());
+        when(chatRepository.findRecent(eq(SESSION_ID), any())).thenReturn(rowsDesc(1, 0));
+
+        assertErrorCode(() -> service.getHistory("other", USERNAME, null, 3), ErrorCode.CHAT_SESSION_NOT_FOUND);
+        assertErrorCode(() -> service.getHistory(SESSION_ID, "intruder", null, 3), ErrorCode.CHAT_SESSION_NOT_FOUND);
+    }
+
+    @Test
+    void contextKeepsRecentTurnsWithinBudgetAndSummarizesOlder() {
+        // 한글은 글자당 1토큰 - 턴마다 5토큰, 예산 10이면 최근 2턴만 그대로 포함
+        ChatHistoryService service = service(10, 30, 5000, 10);
+        when(chatRepository.findRecent(eq(SESSION_ID), any())).thenReturn(List.of(
+                row(2, Chat.ROLE_USER, "두번째질문"),
+                row(1, Chat.ROLE_ASSISTANT, "첫번째답변"),
+                row(0, Chat.ROLE_USER, "첫번째질문")));
+
+        ChatHistoryService.ChatContext context = service.contextFor(SESSION_ID, USERNAME);
+
+        assertThat(context.history()).containsExactly(
+                Map.of("role", Chat.ROLE_ASSISTANT, "content", "첫번째답변"),
+                Map.of("role", Chat.ROLE_USER, "content", "두번째질문"));
+        assertThat(context.summary()).isEqualTo("사용자: 첫번째질문");
+    }
+
+    @Test
+    void newSessionHasEmptyContextAndRecordedTurnsAreAppended() {
+        ChatHistoryService service = service(10, 30, 5000, 1500);
+        when(chatRepository.findRecent(eq(SESSION_ID), any())).thenReturn(List.of());
+
+        assertThat(service.contextFor(SESSION_ID, USERNAME).history()).isEmpty();
+        service.recordExchange(SESSION_ID, USERNAME, "질문", "답변");
+
+        ArgumentCaptor<Chat> appended = ArgumentCaptor.forClass(Chat.class);
+        verify(chatHistoryWriter, times(2)).append(appended.capture(), any());
+        assertThat(appended.getAllValues()).extracting(Chat::getSeq).containsExactly(0L, 1L);
+        assertThat(service.contextFor(SESSION_ID, USERNAME).history()).containsExactly(
+                Map.of("role", Chat.ROLE_USER, "content", "질문"),
+                Map.of("role", Chat.ROLE_ASSISTANT, "content", "답변"));
+    }
+
+    @Test
+    void malformedSessionIdIsRejectedBeforeQueueing() {
+        ChatHistoryService service = service(10, 30, 5000, 1500);
+
+        assertErrorCode(() -> service.recordExchange("a".repeat(65), USERNAME, "질문", "답변"),
+                ErrorCode.INVALID_CHAT_SESSION);
+        assertErrorCode(() -> service.contextFor("세션 1", USERNAME), ErrorCode.INVALID_CHAT_SESSION);
+        assertErrorCode(() -> service.getHistory("", USERNAME, null, 3), ErrorCode.INVALID_CHAT_SESSION);
+        verify(chatHistoryWriter, never()).append(any(), any());
+        verify(chatRepository, never()).findRecent(any(), any());
+    }
+
+    @Test
+    void sessionWithUnflushedTurnsIsNotEvictedSoSeqIsNotReused() {
+        // 비활성 시간 0분, 세션 한도 0 - 조회할 때마다 정리 대상
+        ChatHistoryService service = service(10, 0, 0, 1500);
+        when(chatRepository.findRecent(eq(SESSION_ID), any())).thenReturn(List.of());
+        List<Runnable> callbacks = new ArrayList<>();
+        doAnswer(invocation -> callbacks.add(invocation.getArgument(1)))
+                .when(chatHistoryWriter).append(any(), any());
+
+        service.recordExchange(SESSION_ID, USERNAME, "질문1", "답변1");
+        // 아직 저장되지 않았으므로 DB에서 다시 불러오지 않고 같은 버퍼에서 순번 이어감
+        service.recordExchange(SESSION_ID, USERNAME, "질문2", "답변2");
+
+        ArgumentCaptor<Chat> appended = ArgumentCaptor.forClass(Chat.class);
+        verify(chatHistoryWriter, times(4)).append(appended.capture(), any());
+        assertThat(appended.getAllValues()).extracting(Chat::getSeq).containsExactly(0L, 1L, 2L, 3L);
+        verify(chatRepository, times(1)).findRecent(eq(SESSION_ID), any());
+
+        // 모두 저장된 뒤에는 제거되고 다음 접근 시 DB에서 다시 불러옴
+        callbacks.forEach(Runnable::run);
+        service.contextFor(SESSION_ID, USERNAME);
+        verify(chatRepository, times(2)).findRecent(eq(SESSION_ID), any());
+    }
+
+    @Test
+    void estimatesAsciiAndKoreanTokens() {
+        assertThat(ChatHistoryService.estimateTokens(null)).isZero();
+        assertThat(ChatHistoryService.estimateTokens("abcd")).isEqualTo(1);
+        assertThat(ChatHistoryService.estimateTokens("abcde")).isEqualTo(2);
+        assertThat(ChatHistoryService.estimateTokens("김치")).isEqualTo(2);
+    }
+
+    private ChatHistoryService service(int bufferSize, long idleMinutes, int maxSessions, int contextMaxTokens) {
+        return new ChatHistoryService(chatRepository, chatHistoryWriter, new SimpleMeterRegistry(),
+                bufferSize, idleMinutes, maxSessions, contextMaxTokens, 300);
+    }
+
+    private static void assertErrorCode(Runnable call, ErrorCode errorCode) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(CustomException.class)
+                .satisfies(e -> assertThat(((CustomException) e).getErrorCode()).isEqualTo(errorCode));
+    }
+
+    private static List<Chat> rowsDesc(long fromSeq, long toSeq) {
+        List<Chat> rows = new ArrayList<>();
+        for (long seq = fromSeq; seq >= toSeq; seq--) {
+            rows.add(row(seq, seq % 2 == 0 ? Chat.ROLE_USER : Chat.ROLE_ASSISTANT, "메시지" + seq));
+        }
+        return rows;
+    }
+
+    private static Chat row(long seq, String role, String content) {
+        return Chat.builder()
+                .sessionId(SESSION_ID)
+                .username(USERNAME)
+                .seq(seq)
+                .role(role)
+                .content(content)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build();
+    }
+}
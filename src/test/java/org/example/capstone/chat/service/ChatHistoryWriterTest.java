@@ -0,0 +1,100 @@
+package org.example.capstone.chat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.capstone.chat.domain.Chat;
+import org.example.capstone.chat.repository.ChatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 배치 저장이 실패하면 한 건씩 저장해 문제 있는 행만 버리고, 저장 여부와 관계없이 완료 콜백을 호출하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChatHistoryWriterTest {
+
+    @Mock
+    private ChatRepository chatRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private final AtomicInteger settled = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void failedBatchFallsBackToSingleRowSaves() {
+        ChatHistoryWriter writer = writer(10);
+        when(chatRepository.saveAll(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(chatRepository.save(argThat(chat -> chat != null && chat.getSeq() == 1)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        for (long seq = 0; seq < 3; seq++) {
+            writer.append(chat(seq), settled::incrementAndGet);
+        }
+        // 쓰기 스레드 없이 종료 처리로 남은 대기열 저장
+        writer.stop();
+
+        verify(chatRepository).saveAll(any());
+        verify(chatRepository, times(3)).save(any());
+        assertThat(meterRegistry.get("chat.history.write.failed").counter().count()).isEqualTo(1.0);
+        assertThat(settled.get()).isEqualTo(3);
+    }
+
+    @Test
+    void successfulBatchIsSavedOnce() {
+        ChatHistoryWriter writer = writer(10);
+
+        writer.append(chat(0), settled::incrementAndGet);
+        writer.append(chat(1), settled::incrementAndGet);
+        writer.stop();
+
+        verify(chatRepository).saveAll(any());
+        verify(chatRepository, never()).save(any());
+        assertThat(settled.get()).isEqualTo(2);
+    }
+
+    @Test
+    void droppedRowIsSettledImmediately() {
+        ChatHistoryWriter writer = writer(1);
+
+        writer.append(chat(0), settled::incrementAndGet);
+        writer.append(chat(1), settled::incrementAndGet);
+
+        assertThat(settled.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.history.write.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    private ChatHistoryWriter writer(int queueCapacity) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        return new ChatHistoryWriter(chatRepository, transactionTemplate, meterRegistry, 200, 100, queueCapacity);
+    }
+
+    private static Chat chat(long seq) {
+        return Chat.builder()
+                .id(100 + seq)
+                .sessionId("session-1")
+                .username("user")
+                .seq(seq)
+                .role(Chat.ROLE_USER)
+                .content("메시지" + seq)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.capstone.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.client.HttpResponseException;
+import org.example.capstone.chat.dto.ChatRequest;
+import org.example.capstone.global.client.FlaskGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 스트리밍 엔드포인트가 없을 때 일반 요청으로 대체하고, 그 결과를 기억해 매번 404를 받지 않는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FlaskChatServiceStreamTest {
+
+    @Mock
+    private FlaskGateway flaskGateway;
+
+    @Mock
+    private ChatHistoryService chatHistoryService;
+
+    private FlaskChatService flaskChatService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        flaskChatService = new FlaskChatService(new ObjectMapper(), flaskGateway, chatHistoryService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(flaskChatService, "flaskBaseUrl", "http://localhost:5000");
+        ReflectionTestUtils.setField(flaskChatService, "flaskChatEndpoint", "/chat");
+        flaskChatService.init();
+        when(flaskGateway.chat(any())).thenReturn("{\"message\":\"답변\",\"username\":\"bot\"}");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamedDeltasAreRelayed() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<String> onDelta = invocation.getArgument(1);
+            onDelta.accept("안녕");
+            onDelta.accept("하세요");
+            return null;
+        }).when(flaskGateway).streamChat(any(), any(Consumer.class));
+        List<String> deltas = new ArrayList<>();
+
+        assertThat(flaskChatService.streamRequestToFlask(request(), deltas::add)).isEqualTo("안녕하세요");
+        assertThat(deltas).containsExactly("안녕", "하세요");
+        verify(flaskGateway, never()).chat(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void missingStreamEndpointIsRememberedAndNotRetried() throws Exception {
+        doThrow(new HttpResponseException(404, "없음")).when(flaskGateway).streamChat(any(), any(Consumer.class));
+
+        for (int i = 0; i < 3; i++) {
+            List<String> deltas = new ArrayList<>();
+            assertThat(flaskChatService.streamRequestToFlask(request(), deltas::add)).isEqualTo("답변");
+            assertThat(deltas).containsExactly("답변");
+        }
+
+        verify(flaskGateway, times(1)).streamChat(any(), any(Consumer.class));
+        verify(flaskGateway, times(3)).chat(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void otherStreamErrorsAreNotRemembered() throws Exception {
+        doThrow(new HttpResponseException(500, "서버 오류")).when(flaskGateway).streamChat(any(), any(Consumer.class));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> flaskChatService.streamRequestToFlask(request(), delta -> { }))
+                    .isInstanceOf(HttpResponseException.class);
+        }
+
+        verify(flaskGateway, times(2)).streamChat(any(), any(Consumer.class));
+        verify(flaskGateway, never()).chat(any());
+    }
+
+    private static ChatRequest request() {
+        ChatRequest request = new ChatRequest();
+        request.setMessage("안녕");
+        request.setUsername("user");
+        return request;
+    }
+}
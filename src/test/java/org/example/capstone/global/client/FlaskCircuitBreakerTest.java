@@ -0,0 +1,120 @@
+package org.example.capstone.global.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.client.HttpResponseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 연속 실패 시 서킷이 열려 호출 없이 바로 실패하고, 대기 시간 후 시험 호출로 복구되는지 검증
+ */
+class FlaskCircuitBreakerTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final long OPEN_MS = 1000;
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private FlaskCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        breaker = new FlaskCircuitBreaker("nutrition", FAILURE_THRESHOLD, OPEN_MS, meterRegistry, now::get);
+    }
+
+    @Test
+    void opensAfterConsecutiveFailuresAndRejectsWithoutCalling() {
+        failTimes(FAILURE_THRESHOLD);
+
+        assertThat(breaker.getState()).isEqualTo(FlaskCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breaker.execute(this::connectFailure))
+                .isInstanceOf(FlaskCircuitBreaker.CircuitOpenException.class);
+        assertThat(calls.get()).isEqualTo(FAILURE_THRESHOLD);
+        assertThat(meterRegistry.get("flask.circuit.state").tag("endpoint", "nutrition").gauge().value())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("flask.circuit.calls").tag("result", "rejected").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void successfulProbeClosesCircuit() throws Exception {
+        failTimes(FAILURE_THRESHOLD);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(OPEN_MS));
+
+        assertThat(breaker.execute(() -> "ok")).isEqualTo("ok");
+        assertThat(breaker.getState()).isEqualTo(FlaskCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void failedProbeReopensCircuit() {
+        failTimes(FAILURE_THRESHOLD);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(OPEN_MS));
+
+        failTimes(1);
+
+        assertThat(breaker.getState()).isEqualTo(FlaskCircuitBreaker.State.OPEN);
+        assertThat(calls.get()).isEqualTo(FAILURE_THRESHOLD + 1);
+    }
+
+    @Test
+    void clientErrorsDoNotOpenCircuit() {
+        for (int i = 0; i < FAILURE_THRESHOLD * 2; i++) {
+            assertThatThrownBy(() -> breaker.execute(() -> {
+                throw new HttpResponseException(400, "잘못된 요청");
+            })).isInstanceOf(HttpResponseException.class);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(FlaskCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void callerExceptionsAreNotCountedAsFailures() {
+        for (int i = 0; i < FAILURE_THRESHOLD * 2; i++) {
+            assertThatThrownBy(() -> breaker.execute(() -> {
+                // 응답 조각 전달 중 클라이언트 쪽 전송 실패
+                throw new IllegalStateException("세션 종료");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(FlaskCircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.get("flask.circuit.calls").tag("result", "failure").counter().count())
+                .isZero();
+    }
+
+    @Test
+    void callerExceptionDuringProbeAllowsNextProbe() throws Exception {
+        failTimes(FAILURE_THRESHOLD);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(OPEN_MS));
+
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            throw new IllegalStateException("세션 종료");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(breaker.getState()).isEqualTo(FlaskCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.execute(() -> "ok")).isEqualTo("ok");
+        assertThat(breaker.getState()).isEqualTo(FlaskCircuitBreaker.State.CLOSED);
+    }
+
+    private void failTimes(int times) {
+        for (int i = 0; i < times; i++) {
+            assertThatThrownBy(() -> breaker.execute(this::connectFailure))
+                    .isInstanceOf(ConnectException.class);
+        }
+    }
+
+    private String connectFailure() throws IOException {
+        calls.incrementAndGet();
+        throw new ConnectException("Connection refused");
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.capstone.global.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 채팅 스트림 응답(SSE / chunked 본문)을 조각으로 나눠 전달하는지 검증
+ */
+class FlaskGatewayStreamParserTest {
+
+    @Test
+    void eachEventDataIsDelivered() throws IOException {
+        assertThat(events("data: 안녕\n\ndata: 하세요\n\n")).containsExactly("안녕", "하세요");
+    }
+
+    @Test
+    void multipleDataLinesAreJoinedWithNewline() throws IOException {
+        assertThat(events("data: 첫 줄\ndata: 둘째 줄\n\n")).containsExactly("첫 줄\n둘째 줄");
+    }
+
+    @Test
+    void onlyOneLeadingSpaceIsStripped() throws IOException {
+        assertThat(events("data:  들여쓰기\n\ndata:붙임\n\n")).containsExactly(" 들여쓰기", "붙임");
+    }
+
+    @Test
+    void commentsAndIdRetryFieldsAreIgnored() throws IOException {
+        assertThat(events(": keep-alive\n\nid: 1\nretry: 3000\ndata: 조각\n\n:ping\n\n")).containsExactly("조각");
+    }
+
+    @Test
+    void doneMarkerEndsStream() throws IOException {
+        assertThat(events("data: 조각\n\ndata: [DONE]\n\ndata: 무시\n\n")).containsExactly("조각");
+        assertThat(events("data: 조각\n\nevent: done\ndata: {}\n\ndata: 무시\n\n")).containsExactly("조각");
+    }
+
+    @Test
+    void lastEventWithoutTrailingBlankLineIsDelivered() throws IOException {
+        assertThat(events("data: 조각\n\ndata: 끝")).containsExactly("조각", "끝");
+    }
+
+    @Test
+    void errorEventFails() {
+        List<String> received = new ArrayList<>();
+
+        assertThatThrownBy(() -> FlaskGateway.readEvents(reader("data: 조각\n\nevent: error\ndata: 모델 오류\n\n"), received::add))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("모델 오류");
+        assertThat(received).containsExactly("조각");
+    }
+
+    @Test
+    void plainBodyIsDeliveredAsRead() throws IOException {
+        StringBuilder received = new StringBuilder();
+
+        FlaskGateway.readChunks(new StringReader("일반 본문 응답"), received::append);
+
+        assertThat(received.toString()).isEqualTo("일반 본문 응답");
+    }
+
+    private static List<String> events(String body) throws IOException {
+        List<String> received = new ArrayList<>();
+        FlaskGateway.readEvents(reader(body), received::add);
+        return received;
+    }
+
+    private static BufferedReader reader(String body) {
+        return new BufferedReader(new StringReader(body));
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.capstone.nutrition.controller;
+
+import org.example.capstone.nutrition.dto.NutritionDTO;
+import org.example.capstone.nutrition.service.NutritionService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 영양 정보 조회 중 오류가 나면 표시(stale/estimated)가 붙은 대체 값을 반환하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NutritionControllerTest {
+
+    @Mock
+    private NutritionService nutritionService;
+
+    @InjectMocks
+    private NutritionController nutritionController;
+
+    @Test
+    void errorReturnsFlaggedFallback() {
+        NutritionDTO fallback = NutritionDTO.builder().calories(500.0).estimated(true).build();
+        when(nutritionService.getNutritionByRecipeId(1L, null)).thenThrow(new IllegalStateException("DB 오류"));
+        when(nutritionService.lastKnownOrDefault(1L)).thenReturn(fallback);
+
+        ResponseEntity<NutritionDTO> response = nutritionController.getNutrition(1L, null);
+
+        assertThat(response.getBody()).isSameAs(fallback);
+        assertThat(response.getBody().isEstimated()).isTrue();
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.capstone.nutrition.service;
+
+import org.example.capstone.nutrition.service.IngredientAmountParser.Quantity;
+import org.example.capstone.nutrition.service.IngredientAmountParser.Unit;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재료 양 표기를 g/ml/개수로 변환하는지 검증
+ */
+class IngredientAmountParserTest {
+
+    @Test
+    void parsesWeightAndVolumeUnits() {
+        assertThat(IngredientAmountParser.parse("200g")).isEqualTo(new Quantity(200, Unit.GRAM));
+        assertThat(IngredientAmountParser.parse("1kg")).isEqualTo(new Quantity(1000, Unit.GRAM));
+        assertThat(IngredientAmountParser.parse("300ml")).isEqualTo(new Quantity(300, Unit.MILLILITER));
+        assertThat(IngredientAmountParser.parse("1큰술")).isEqualTo(new Quantity(15, Unit.MILLILITER));
+        assertThat(IngredientAmountParser.parse("1.5 큰술")).isEqualTo(new Quantity(22.5, Unit.MILLILITER));
+        assertThat(IngredientAmountParser.parse("3T")).isEqualTo(new Quantity(45, Unit.MILLILITER));
+        assertThat(IngredientAmountParser.parse("1t")).isEqualTo(new Quantity(5, Unit.MILLILITER));
+    }
+
+    @Test
+    void parsesFractionsRangesAndHalves() {
+        assertThat(IngredientAmountParser.parse("1/2컵")).isEqualTo(new Quantity(100, Unit.MILLILITER));
+        assertThat(IngredientAmountParser.parse("1과 1/2컵")).isEqualTo(new Quantity(300, Unit.MILLILITER));
+        assertThat(IngredientAmountParser.parse("2~3쪽")).isEqualTo(new Quantity(2.5, Unit.PIECE));
+        assertThat(IngredientAmountParser.parse("2-3개")).isEqualTo(new Quantity(2.5, Unit.PIECE));
+        assertThat(IngredientAmountParser.parse("1개 반")).isEqualTo(new Quantity(1.5, Unit.PIECE));
+    }
+
+    @Test
+    void parsesNativeNumbersAndNotes() {
+        assertThat(IngredientAmountParser.parse("반 개")).isEqualTo(new Quantity(0.5, Unit.PIECE));
+        assertThat(IngredientAmountParser.parse("두세 개")).isEqualTo(new Quantity(2.5, Unit.PIECE));
+        assertThat(IngredientAmountParser.parse("약 200g")).isEqualTo(new Quantity(200, Unit.GRAM));
+        assertThat(IngredientAmountParser.parse("200g(1컵)")).isEqualTo(new Quantity(200, Unit.GRAM));
+        assertThat(IngredientAmountParser.parse("약간")).isEqualTo(new Quantity(1, Unit.GRAM));
+    }
+
+    @Test
+    void unknownAmountsAreNull() {
+        assertThat(IngredientAmountParser.parse(null)).isNull();
+        assertThat(IngredientAmountParser.parse(" ")).isNull();
+        assertThat(IngredientAmountParser.parse("적당량")).isNull();
+        assertThat(IngredientAmountParser.parse("1/0컵")).isNull();
+    }
+}
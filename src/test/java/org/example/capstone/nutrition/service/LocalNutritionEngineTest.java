@@ -0,0 +1,65 @@
+package org.example.capstone.nutrition.service;
+
+import org.example.capstone.recipe.domain.Ingredient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 재료명 → 성분표 식품 조회와 재료 한 줄의 영양소 계산 검증
+ */
+class LocalNutritionEngineTest {
+
+    private LocalNutritionEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new LocalNutritionEngine();
+        engine.load();
+    }
+
+    @Test
+    void exactNameOrAliasWins() {
+        assertThat(engine.resolve("계란")).isEqualTo(engine.resolve("달걀"));
+        assertThat(engine.resolve("멸치육수")).isEqualTo(engine.resolve("육수"));
+        assertThat(engine.resolve("파")).isEqualTo(engine.resolve("대파"));
+        assertThat(engine.resolve("돼지고기(목살)")).isEqualTo(engine.resolve("돼지고기"));
+    }
+
+    @Test
+    void processedCompoundsDoNotResolveToRawBase() {
+        assertThat(engine.resolve("멸치액젓")).isEqualTo(engine.resolve("액젓")).isNotEqualTo(engine.resolve("멸치"));
+        assertThat(engine.resolve("새우젓")).isNotEqualTo(engine.resolve("새우"));
+        assertThat(engine.resolve("참치액")).isNotEqualTo(engine.resolve("참치"));
+        assertThat(engine.resolve("닭고기육수")).isEqualTo(engine.resolve("육수"));
+        assertThat(engine.resolve("마늘가루")).isEqualTo(-1);
+        assertThat(engine.resolve("생강즙")).isEqualTo(-1);
+    }
+
+    @Test
+    void containedNameUsesLongestThenLastMatch() {
+        assertThat(engine.resolve("돼지고기목살")).isEqualTo(engine.resolve("돼지고기"));
+        assertThat(engine.resolve("소고기 불고기용")).isEqualTo(engine.resolve("소고기"));
+        // 길이가 같으면 뒤쪽 이름 (HashMap 순서와 무관)
+        assertThat(engine.resolve("감자양파볶음")).isEqualTo(engine.resolve("양파"));
+        assertThat(engine.resolve("양파감자볶음")).isEqualTo(engine.resolve("감자"));
+        // 한 글자 이름은 포함 검사에 쓰지 않음
+        assertThat(engine.resolve("파슬리")).isEqualTo(-1);
+    }
+
+    @Test
+    void contributionScalesPer100Grams() {
+        double[] butter = engine.contributionOf(Ingredient.builder().name("버터").amount("50g").build());
+        assertThat(butter).isNotNull();
+        assertThat(butter[LocalNutritionEngine.CALORIES]).isCloseTo(358.5, within(0.001));
+
+        // 1개당 중량: 달걀 50g
+        double[] eggs = engine.contributionOf(Ingredient.builder().name("계란").amount("2개").build());
+        assertThat(eggs[LocalNutritionEngine.PROTEIN]).isCloseTo(12.6, within(0.001));
+
+        assertThat(engine.contributionOf(Ingredient.builder().name("버터").amount("적당량").build())).isNull();
+        assertThat(engine.contributionOf(Ingredient.builder().name("용과").amount("1개").build())).isNull();
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.capstone.nutrition.service;
+
+import org.example.capstone.nutrition.domain.IngredientNutrition;
+import org.example.capstone.nutrition.dto.NutritionDTO;
+import org.example.capstone.nutrition.repository.IngredientNutritionRepository;
+import org.example.capstone.nutrition.repository.NutritionRepository;
+import org.example.capstone.nutrition.service.IngredientNutritionCache.LineNutrition;
+import org.example.capstone.nutrition.service.NutritionService.LineContribution;
+import org.example.capstone.nutrition.service.NutritionService.NutritionPersistenceService;
+import org.example.capstone.nutrition.service.NutritionService.RecipeNutrition;
+import org.example.capstone.recipe.domain.Ingredient;
+import org.example.capstone.recipe.domain.Recipe;
+import org.example.capstone.recipe.repository.RecipeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 레시피를 잠근 뒤 저장된 기여분을 현재 재료 줄에 맞추고, 합계를 기여분의 합으로 저장하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NutritionPersistenceServiceTest {
+
+    @Mock
+    private NutritionRepository nutritionRepository;
+
+    @Mock
+    private IngredientNutritionRepository ingredientNutritionRepository;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    private NutritionPersistenceService persistenceService;
+
+    @BeforeEach
+    void setUp() {
+        persistenceService = new NutritionPersistenceService(nutritionRepository, ingredientNutritionRepository, recipeRepository);
+        when(recipeRepository.findByIdForUpdate(any())).thenAnswer(invocation ->
+                Optional.of(Recipe.builder().id(invocation.getArgument(0)).build()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void changesReconcileStoredRowsAndRecomputeTotal() {
+        // 앞선 동시 저장으로 햄 줄이 두 번 저장된 상태
+        when(ingredientNutritionRepository.findByRecipeId(1L)).thenReturn(List.of(
+                row(1L, "김치", "1컵", 300.0),
+                row(2L, "햄", "100g", 145.0),
+                row(3L, "햄", "100g", 145.0)));
+
+        persistenceService.applyContributionChanges(1L, List.of(
+                line("김치", "1컵", 300.0),
+                line("스팸", "100g", 315.0)));
+
+        ArgumentCaptor<List<Long>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(ingredientNutritionRepository).deleteAllByIdInBatch(deleted.capture());
+        assertThat(deleted.getValue()).containsExactlyInAnyOrder(2L, 3L);
+
+        ArgumentCaptor<List<IngredientNutrition>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(ingredientNutritionRepository).saveAll(inserted.capture());
+        assertThat(inserted.getValue()).extracting(IngredientNutrition::getIngredientName).containsExactly("스팸");
+
+        verify(nutritionRepository).upsert(eq(1L), eq(615.0), anyDouble(), anyDouble(), anyDouble(),
+                anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void unchangedRowsAreKept() {
+        when(ingredientNutritionRepository.findByRecipeId(1L)).thenReturn(List.of(row(1L, "김치", "1컵", 300.0)));
+
+        persistenceService.applyContributionChanges(1L, List.of(line("김치", "1컵", 300.0)));
+
+        verify(ingredientNutritionRepository, never()).deleteAllByIdInBatch(any());
+        ArgumentCaptor<List<IngredientNutrition>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(ingredientNutritionRepository).saveAll(inserted.capture());
+        assertThat(inserted.getValue()).isEmpty();
+    }
+
+    @Test
+    void replaceLocksRecipesInIdOrder() {
+        Map<Long, RecipeNutrition> computed = new LinkedHashMap<>();
+        computed.put(2L, result(line("햄", "100g", 145.0)));
+        computed.put(1L, result(line("김치", "1컵", 300.0)));
+
+        persistenceService.replaceContributions(computed);
+
+        InOrder order = inOrder(recipeRepository);
+        order.verify(recipeRepository).findByIdForUpdate(1L);
+        order.verify(recipeRepository).findByIdForUpdate(2L);
+        verify(ingredientNutritionRepository, times(1)).saveAll(any());
+    }
+
+    @Test
+    void missingRecipeIsNotStored() {
+        when(recipeRepository.findByIdForUpdate(9L)).thenReturn(Optional.empty());
+
+        persistenceService.applyContributionChanges(9L, List.of(line("김치", "1컵", 300.0)));
+
+        verify(ingredientNutritionRepository, never()).saveAll(any());
+        verify(nutritionRepository, never()).upsert(any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    private static RecipeNutrition result(LineContribution contribution) {
+        double calories = contribution.line().values()[LocalNutritionEngine.CALORIES];
+        return new RecipeNutrition(NutritionDTO.builder().calories(calories).build(), new ArrayList<>(List.of(contribution)), true);
+    }
+
+    private static LineContribution line(String name, String amount, double calories) {
+        double[] values = new double[LocalNutritionEngine.NUTRIENT_COUNT];
+        values[LocalNutritionEngine.CALORIES] = calories;
+        return new LineContribution(Ingredient.builder().name(name).amount(amount).build(),
+                new LineNutrition(values, LineNutrition.LOCAL));
+    }
+
+    private static IngredientNutrition row(Long id, String name, String amount, double calories) {
+        return IngredientNutrition.builder()
+                .id(id)
+                .lineKey(IngredientNutritionCache.keyOf(name, amount))
+                .ingredientName(name)
+                .amount(amount)
+                .calories(calories)
+                .build();
+    }
+}
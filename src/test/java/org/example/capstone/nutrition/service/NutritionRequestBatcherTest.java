@@ -0,0 +1,177 @@
+package org.example.capstone.nutrition.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.capstone.global.client.FlaskGateway;
+import org.example.capstone.nutrition.dto.NutritionBatchFlaskResponse;
+import org.example.capstone.nutrition.dto.NutritionDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 동시에 들어온 영양 정보 요청이 한 번의 일괄 호출로 묶이고, 각 호출자가 자기 결과를 받는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NutritionRequestBatcherTest {
+
+    private static final int CALLERS = 10;
+
+    @Mock
+    private FlaskGateway flaskGateway;
+
+    private ThreadPoolTaskExecutor batchExecutor;
+    private SimpleMeterRegistry meterRegistry;
+    private NutritionRequestBatcher batcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        batchExecutor = new ThreadPoolTaskExecutor();
+        batchExecutor.setCorePoolSize(2);
+        batchExecutor.setMaxPoolSize(2);
+        batchExecutor.setQueueCapacity(0);
+        batchExecutor.setThreadNamePrefix("nutrition-batch-");
+        batchExecutor.initialize();
+
+        meterRegistry = new SimpleMeterRegistry();
+        // 호출자가 모두 대기열에 들어올 수 있도록 대기 시간을 넉넉히 둠
+        batcher = new NutritionRequestBatcher(flaskGateway, batchExecutor, meterRegistry,
+                true, 300, 32, 100, 5000);
+        batcher.start();
+
+        // 재료 텍스트 "재료 N"의 칼로리는 N
+        when(flaskGateway.nutritionBatch(any())).thenAnswer(invocation -> {
+            Map<String, ?> body = invocation.getArgument(0);
+            Map<String, NutritionDTO> results = new HashMap<>();
+            for (Object item : (List<?>) body.get("items")) {
+                Map<?, ?> entry = (Map<?, ?>) item;
+                String text = (String) entry.get("ingredients");
+                results.put((String) entry.get("id"),
+                        NutritionDTO.builder().calories(Double.parseDouble(text.substring(3))).build());
+            }
+            return new NutritionBatchFlaskResponse(results);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.stop();
+        batchExecutor.shutdown();
+    }
+
+    @Test
+    void concurrentCallersShareOneBatchCall() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<NutritionDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                // 같은 재료 텍스트 두 개씩 (묶음 안에서 한 항목으로 합쳐짐)
+                String text = "재료 " + (i / 2);
+                futures.add(callers.submit(() -> {
+                    start.await();
+                    return batcher.calculate(text);
+                }));
+            }
+            start.countDown();
+
+            for (int i = 0; i < CALLERS; i++) {
+                assertThat(futures.get(i).get(5, TimeUnit.SECONDS).getCalories()).isEqualTo((double) (i / 2));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        verify(flaskGateway, times(1)).nutritionBatch(any());
+        verify(flaskGateway, never()).nutrition(any());
+        assertThat(meterRegistry.get("nutrition.batcher.batch.size").summary().max()).isEqualTo(CALLERS);
+    }
+
+    @Test
+    void calculateAllSplitsLargeInputIntoMaxSizedBatches() {
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 70; i++) {
+            texts.add("재료 " + i);
+        }
+
+        Map<String, NutritionDTO> results = batcher.calculateAll(texts);
+
+        assertThat(results).hasSize(70);
+        assertThat(results.get("재료 69").getCalories()).isEqualTo(69.0);
+        verify(flaskGateway, times(3)).nutritionBatch(any());
+        assertThat(meterRegistry.get("nutrition.batcher.batch.size").summary().max()).isEqualTo(32);
+    }
+
+    @Test
+    void calculateAllSendsOverflowToSingleEndpoint() throws Exception {
+        // 묶음 전송 스레드와 수집 스레드를 모두 막아 대기열(용량 1)이 비워지지 않게 함
+        ThreadPoolTaskExecutor blockedExecutor = new ThreadPoolTaskExecutor();
+        blockedExecutor.setCorePoolSize(1);
+        blockedExecutor.setMaxPoolSize(1);
+        blockedExecutor.setQueueCapacity(0);
+        blockedExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        blockedExecutor.initialize();
+        NutritionRequestBatcher smallQueue = new NutritionRequestBatcher(flaskGateway, blockedExecutor,
+                new SimpleMeterRegistry(), true, 10, 32, 1, 5000);
+        smallQueue.start();
+
+        CountDownLatch release = new CountDownLatch(1);
+        when(flaskGateway.nutritionBatch(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new NutritionBatchFlaskResponse(Map.of("0", NutritionDTO.builder().calories(1.0).build()));
+        });
+        when(flaskGateway.nutrition(any())).thenReturn(NutritionDTO.builder().calories(3.0).build());
+
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        try {
+            callers.submit(() -> smallQueue.calculate("재료 0"));
+            verify(flaskGateway, timeout(2000).times(1)).nutritionBatch(any());
+            callers.submit(() -> smallQueue.calculate("재료 1"));
+            verify(flaskGateway, timeout(2000).times(2)).nutritionBatch(any());
+
+            Future<Map<String, NutritionDTO>> all = callers.submit(() -> smallQueue.calculateAll(List.of("재료 2", "재료 3")));
+            verify(flaskGateway, timeout(2000)).nutrition(Map.of("ingredients", "재료 3"));
+            release.countDown();
+
+            Map<String, NutritionDTO> results = all.get(5, TimeUnit.SECONDS);
+            assertThat(results.get("재료 3").getCalories()).isEqualTo(3.0);
+            assertThat(results).containsKey("재료 2");
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+            smallQueue.stop();
+            blockedExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void failedBatchCallFailsEveryCaller() throws Exception {
+        when(flaskGateway.nutritionBatch(any())).thenThrow(new IOException("Flask 오류"));
+
+        assertThatThrownBy(() -> batcher.calculate("재료 1"))
+                .isInstanceOf(IOException.class);
+    }
+}
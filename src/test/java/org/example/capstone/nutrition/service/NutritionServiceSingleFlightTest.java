@@ -0,0 +1,171 @@
+package org.example.capstone.nutrition.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.capstone.nutrition.domain.Nutrition;
+import org.example.capstone.nutrition.dto.NutritionDTO;
+import org.example.capstone.nutrition.repository.IngredientNutritionRepository;
+import org.example.capstone.nutrition.repository.NutritionRepository;
+import org.example.capstone.recipe.domain.Ingredient;
+import org.example.capstone.recipe.domain.Recipe;
+import org.example.capstone.recipe.repository.RecipeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 같은 레시피의 영양 정보가 없을 때 동시에 들어온 요청이 Flask 호출과 저장을 한 번만 하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NutritionServiceSingleFlightTest {
+
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    @Mock
+    private NutritionRepository nutritionRepository;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private NutritionRequestBatcher nutritionRequestBatcher;
+
+    @Mock
+    private IngredientNutritionRepository ingredientNutritionRepository;
+
+    @Spy
+    private IngredientNutritionCache ingredientNutritionCache = new IngredientNutritionCache(new SimpleMeterRegistry(), 100, 1);
+
+    // 성분표를 불러오지 않은 상태 - 모든 재료가 Flask 계산 대상
+    @Spy
+    private LocalNutritionEngine localNutritionEngine = new LocalNutritionEngine();
+
+    @InjectMocks
+    private NutritionService nutritionService;
+
+    // upsert로 저장된 영양 정보 (저장 전에는 null)
+    private final AtomicReference<Nutrition> stored = new AtomicReference<>();
+
+    // 모든 요청이 캐시 미스를 확인한 시점
+    private final CountDownLatch allMissed = new CountDownLatch(CONCURRENT_REQUESTS);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(nutritionService, "persistenceService",
+                new NutritionService.NutritionPersistenceService(nutritionRepository, ingredientNutritionRepository, recipeRepository));
+
+        when(recipeRepository.findWithIngredientsById(1L)).thenReturn(Optional.of(sampleRecipe()));
+        when(recipeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(sampleRecipe()));
+
+        when(nutritionRepository.findByRecipeId(1L)).thenAnswer(invocation -> {
+            Nutrition nutrition = stored.get();
+            if (nutrition == null) {
+                allMissed.countDown();
+            }
+            return Optional.ofNullable(nutrition);
+        });
+
+        when(nutritionRepository.upsert(eq(1L), anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+                anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble())).thenAnswer(invocation -> {
+            stored.set(Nutrition.builder()
+                    .calories(invocation.getArgument(1))
+                    .carbohydrate(invocation.getArgument(2))
+                    .protein(invocation.getArgument(3))
+                    .fat(invocation.getArgument(4))
+                    .sugar(invocation.getArgument(5))
+                    .sodium(invocation.getArgument(6))
+                    .saturatedFat(invocation.getArgument(7))
+                    .transFat(invocation.getArgument(8))
+                    .cholesterol(invocation.getArgument(9))
+                    .build());
+            return 1;
+        });
+
+        // 다른 요청들이 모두 미스를 확인할 때까지 응답을 늦춰 요청이 확실히 겹치도록 함
+        when(nutritionRequestBatcher.calculateAll(any())).thenAnswer(invocation -> {
+            allMissed.await(2, TimeUnit.SECONDS);
+            return Map.of(
+                    "김치 1컵", NutritionDTO.builder()
+                            .calories(300.0).carbohydrate(40.0).protein(8.0).fat(6.0).sugar(3.0)
+                            .sodium(700.0).saturatedFat(1.0).transFat(0.0).cholesterol(5.0)
+                            .build(),
+                    "햄 100g", NutritionDTO.builder()
+                            .calories(220.0).carbohydrate(30.0).protein(10.0).fat(10.0).sugar(2.0)
+                            .sodium(500.0).saturatedFat(3.0).transFat(0.0).cholesterol(40.0)
+                            .build());
+        });
+    }
+
+    @Test
+    void concurrentMissesShareOneFlaskCallAndOneUpsert() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<NutritionDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return nutritionService.getNutritionByRecipeId(1L, null);
+                }));
+            }
+            start.countDown();
+
+            for (Future<NutritionDTO> future : futures) {
+                NutritionDTO result = future.get(5, TimeUnit.SECONDS);
+                assertThat(result.getCalories()).isEqualTo(520.0);
+                assertThat(result.getSodium()).isEqualTo(1200.0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(nutritionRequestBatcher, times(1)).calculateAll(any());
+        verify(nutritionRepository, times(1)).upsert(eq(1L), anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+                anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        verify(nutritionRepository, never()).save(any());
+    }
+
+    @Test
+    void storedNutritionIsServedWithoutFlaskCall() throws Exception {
+        stored.set(Nutrition.builder().calories(300.0).carbohydrate(40.0).protein(10.0).fat(8.0).build());
+
+        NutritionDTO result = nutritionService.getNutritionByRecipeId(1L, null);
+
+        assertThat(result.getCalories()).isEqualTo(300.0);
+        verify(nutritionRequestBatcher, never()).calculateAll(any());
+        verify(nutritionRepository, never()).upsert(any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    private Recipe sampleRecipe() {
+        Recipe recipe = Recipe.builder().id(1L).name("김치볶음밥").build();
+        List<Ingredient> ingredients = new ArrayList<>();
+        ingredients.add(Ingredient.builder().name("김치").amount("1컵").recipe(recipe).build());
+        ingredients.add(Ingredient.builder().name("햄").amount("100g").recipe(recipe).build());
+        recipe.setIngredients(ingredients);
+        return recipe;
+    }
+}
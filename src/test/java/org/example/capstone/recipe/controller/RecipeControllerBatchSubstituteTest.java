@@ -0,0 +1,81 @@
+package org.example.capstone.recipe.controller;
+
+import org.example.capstone.global.exception.CustomException;
+import org.example.capstone.global.exception.ErrorCode;
+import org.example.capstone.recipe.dto.BatchSubstituteRequest;
+import org.example.capstone.recipe.dto.BatchSubstituteResponse;
+import org.example.capstone.recipe.service.FlaskRecipeService;
+import org.example.capstone.user.domain.User;
+import org.example.capstone.user.login.dto.CustomUserDetails;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+/**
+ * 일괄 대체 재료 API가 인증된 사용자를 서비스로 넘기고, 소유자 검증 실패를 전역 예외 처리기로 전달하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RecipeControllerBatchSubstituteTest {
+
+    @Mock
+    private FlaskRecipeService recipeService;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private RecipeController recipeController;
+
+    private final CustomUserDetails userDetails =
+            new CustomUserDetails(User.builder().id(8L).username("intruder").build());
+
+    @Test
+    void passesAuthenticatedUserToService() {
+        BatchSubstituteRequest request = request();
+        when(recipeService.substituteIngredients(eq(1L), same(request), same(userDetails)))
+                .thenReturn(Mono.just(BatchSubstituteResponse.builder().results(List.of()).build()));
+
+        ResponseEntity<?> response = recipeController.substituteIngredients(1L, request, userDetails)
+                .block(Duration.ofSeconds(5));
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        verify(recipeService).substituteIngredients(1L, request, userDetails);
+    }
+
+    @Test
+    void ownerRejectionIsPropagated() {
+        when(recipeService.substituteIngredients(eq(1L), any(), any()))
+                .thenReturn(Mono.error(new CustomException(ErrorCode.INVALID_USER)));
+
+        assertThatThrownBy(() -> recipeController.substituteIngredients(1L, request(), userDetails)
+                .block(Duration.ofSeconds(5)))
+                .isInstanceOf(CustomException.class)
+                .satisfies(e -> assertThat(((CustomException) e).getErrorCode()).isEqualTo(ErrorCode.INVALID_USER));
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+    }
+
+    private static BatchSubstituteRequest request() {
+        BatchSubstituteRequest request = new BatchSubstituteRequest();
+        request.setSubstitutions(List.of(new BatchSubstituteRequest.SubstitutionPair("햄", "돼지고기")));
+        return request;
+    }
+}
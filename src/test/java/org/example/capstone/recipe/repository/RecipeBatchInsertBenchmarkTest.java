@@ -0,0 +1,118 @@
+package org.example.capstone.recipe.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.capstone.global.config.JpaBatchConfig;
+import org.example.capstone.recipe.domain.Ingredient;
+import org.example.capstone.recipe.domain.Instruction;
+import org.example.capstone.recipe.domain.Recipe;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 레시피 저장 시 JDBC 문장 수/지연 시간 비교 벤치마크
+ * - before: 배치 비활성화 (행마다 INSERT 한 번, 기존 IDENTITY 방식과 같은 왕복 수)
+ * - after: 설정된 배치 크기로 저장
+ * 실제 MySQL에서 실행해야 의미가 있으므로 -Dbenchmark=true 일 때만 동작
+ * (테스트 트랜잭션은 종료 시 롤백됨)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaBatchConfig.class)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RecipeBatchInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RecipeBatchInsertBenchmarkTest.class);
+
+    private static final int RECIPES = 50;
+    private static final int INGREDIENTS_PER_RECIPE = 12;
+    private static final int STEPS_PER_RECIPE = 10;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Test
+    void compareStatementsPerRecipe() {
+        Result before = run("before (batch off)", 1);
+        Result after = run("after (batch on)", null);
+
+        assertThat(after.statementsPerRecipe()).isLessThan(before.statementsPerRecipe());
+    }
+
+    private Result run(String label, Integer sessionBatchSize) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(sessionBatchSize);
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        // 워밍업
+        saveRecipes(5);
+        statistics.clear();
+
+        long startedAt = System.nanoTime();
+        saveRecipes(RECIPES);
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Result result = new Result(
+                (double) statistics.getPrepareStatementCount() / RECIPES,
+                elapsedNanos / 1_000_000.0 / RECIPES
+        );
+        log.info("[{}] 레시피당 문장 수: {}, 레시피당 지연: {} ms (엔티티 INSERT {}건)",
+                label, String.format("%.1f", result.statementsPerRecipe()),
+                String.format("%.2f", result.millisPerRecipe()), statistics.getEntityInsertCount());
+
+        session.setJdbcBatchSize(null);
+        return result;
+    }
+
+    private void saveRecipes(int count) {
+        for (int i = 0; i < count; i++) {
+            Recipe recipe = Recipe.builder()
+                    .name("벤치마크 레시피 " + i)
+                    .description("배치 저장 측정용")
+                    .build();
+
+            List<Ingredient> ingredients = new ArrayList<>();
+            for (int j = 0; j < INGREDIENTS_PER_RECIPE; j++) {
+                ingredients.add(Ingredient.builder().name("재료" + j).amount("100g").recipe(recipe).build());
+            }
+            recipe.setIngredients(ingredients);
+
+            List<Instruction> instructions = new ArrayList<>();
+            for (int j = 0; j < STEPS_PER_RECIPE; j++) {
+                instructions.add(Instruction.builder()
+                        .instruction("조리 단계 " + j)
+                        .cookingTime(1)
+                        .cookingTimeSeconds(60)
+                        .recipe(recipe)
+                        .build());
+            }
+            recipe.setInstructions(instructions);
+
+            recipeRepository.save(recipe);
+            // 요청 하나에서 레시피 하나를 저장하는 것과 같도록 매번 flush
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    private record Result(double statementsPerRecipe, double millisPerRecipe) {
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.capstone.recipe.service;
+
+import org.example.capstone.global.client.FlaskGateway;
+import org.example.capstone.global.exception.CustomException;
+import org.example.capstone.global.exception.ErrorCode;
+import org.example.capstone.recipe.domain.Ingredient;
+import org.example.capstone.recipe.domain.Recipe;
+import org.example.capstone.recipe.dto.BatchSubstituteRequest;
+import org.example.capstone.recipe.dto.BatchSubstituteResponse;
+import org.example.capstone.recipe.repository.RecipeRepository;
+import org.example.capstone.user.domain.User;
+import org.example.capstone.user.login.dto.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 일괄 대체 재료 요청이 레시피 소유자만 처리되는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FlaskRecipeServiceBatchSubstituteTest {
+
+    @Mock
+    private FlaskGateway flaskGateway;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private FlaskRecipeService.RecipeUpdateService recipeUpdateService;
+
+    @Mock
+    private SubstitutionKnowledgeService substitutionKnowledgeService;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate();
+
+    private final ThreadPoolTaskExecutor recipePersistenceExecutor = persistenceExecutor();
+
+    @Spy
+    private Scheduler recipePersistenceScheduler = Schedulers.fromExecutor(recipePersistenceExecutor);
+
+    @InjectMocks
+    private FlaskRecipeService flaskRecipeService;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.setTransactionManager(mock(PlatformTransactionManager.class));
+        when(recipeRepository.findById(1L)).thenReturn(Optional.of(sampleRecipe()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        recipePersistenceExecutor.shutdown();
+    }
+
+    @Test
+    void otherUsersRecipeIsRejected() {
+        assertThatThrownBy(() -> flaskRecipeService.substituteIngredients(1L, request("햄", "돼지고기"), userDetails(8L))
+                .block(Duration.ofSeconds(5)))
+                .isInstanceOf(CustomException.class)
+                .satisfies(e -> assertThat(((CustomException) e).getErrorCode()).isEqualTo(ErrorCode.INVALID_USER));
+
+        verify(flaskGateway, never()).substituteBatch(any());
+        verify(recipeUpdateService, never()).applySubstitutions(any(), any(), any());
+    }
+
+    @Test
+    void ownerRequestIsValidated() {
+        BatchSubstituteResponse response = flaskRecipeService
+                .substituteIngredients(1L, request("두부", "순두부"), userDetails(7L))
+                .block(Duration.ofSeconds(5));
+
+        assertThat(response).isNotNull();
+        assertThat(response.getResults()).hasSize(1);
+        assertThat(response.getResults().get(0).isSubstituteFailure()).isTrue();
+        verify(flaskGateway, never()).substituteBatch(any());
+    }
+
+    private static BatchSubstituteRequest request(String ori, String sub) {
+        BatchSubstituteRequest request = new BatchSubstituteRequest();
+        request.setSubstitutions(List.of(new BatchSubstituteRequest.SubstitutionPair(ori, sub)));
+        return request;
+    }
+
+    private static CustomUserDetails userDetails(Long userId) {
+        return new CustomUserDetails(User.builder().id(userId).username("user" + userId).build());
+    }
+
+    private static ThreadPoolTaskExecutor persistenceExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("recipe-persist-");
+        executor.initialize();
+        return executor;
+    }
+
+    private static Recipe sampleRecipe() {
+        User owner = User.builder().id(7L).username("owner").build();
+        Recipe recipe = Recipe.builder().id(1L).name("김치볶음밥").user(owner).build();
+        List<Ingredient> ingredients = new ArrayList<>();
+        ingredients.add(Ingredient.builder().name("햄").amount("100g").recipe(recipe).build());
+        recipe.setIngredients(ingredients);
+        recipe.setInstructions(new ArrayList<>());
+        return recipe;
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.capstone.recipe.service;
+
+import org.example.capstone.global.client.FlaskGateway;
+import org.example.capstone.recipe.domain.Ingredient;
+import org.example.capstone.recipe.domain.Instruction;
+import org.example.capstone.recipe.domain.Recipe;
+import org.example.capstone.recipe.dto.IngredientDTO;
+import org.example.capstone.recipe.dto.RecipeGenerateResponse;
+import org.example.capstone.recipe.dto.RecipeUpdateResult;
+import org.example.capstone.recipe.dto.SubstituteIngredientRequest;
+import org.example.capstone.recipe.repository.RecipeRepository;
+import org.example.capstone.user.domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 대체 재료 흐름에서 블로킹 호출(JPA/트랜잭션/Flask)이 논블로킹 스레드에서 실행되지 않는지 검증
+ * BlockHound처럼 블로킹 지점마다 현재 스레드를 검사하고, 위반이 하나라도 있으면 실패
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FlaskRecipeServiceSchedulingTest {
+
+    @Mock
+    private FlaskGateway flaskGateway;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private FlaskRecipeService.RecipeUpdateService recipeUpdateService;
+
+    @Mock
+    private SubstitutionResultCache substitutionResultCache;
+
+    @Mock
+    private SubstitutionKnowledgeService substitutionKnowledgeService;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate();
+
+    private final ThreadPoolTaskExecutor recipePersistenceExecutor = persistenceExecutor();
+
+    @Spy
+    private Scheduler recipePersistenceScheduler = Schedulers.fromExecutor(recipePersistenceExecutor);
+
+    @InjectMocks
+    private FlaskRecipeService flaskRecipeService;
+
+    // 블로킹 호출이 허용되지 않는 스레드에서 실행된 지점
+    private final Queue<String> violations = new ConcurrentLinkedQueue<>();
+
+    // JPA 작업이 전용 풀 밖에서 실행된 지점
+    private final Queue<String> offPoolPersistence = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            checkBlockingAllowed("transaction begin");
+            checkPersistencePool("transaction begin");
+            return null;
+        });
+        transactionTemplate.setTransactionManager(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        recipePersistenceExecutor.shutdown();
+    }
+
+    @Test
+    void substituteRunsBlockingWorkOffNonBlockingThreads() {
+        when(recipeRepository.findById(1L)).thenAnswer(invocation -> {
+            checkBlockingAllowed("recipeRepository.findById");
+            checkPersistencePool("recipeRepository.findById");
+            return Optional.of(sampleRecipe());
+        });
+
+        when(flaskGateway.substitute(any())).thenAnswer(invocation -> {
+            checkBlockingAllowed("flaskGateway.substitute");
+            return RecipeGenerateResponse.builder()
+                    .name("돼지고기 김치볶음밥")
+                    .ingredients(List.of(IngredientDTO.builder().name("돼지고기").amount("100g").build()))
+                    .instructions(List.of())
+                    .build();
+        });
+
+        when(recipeUpdateService.updateExistingRecipe(eq(1L), any(), any(), any())).thenAnswer(invocation -> {
+            checkBlockingAllowed("recipeUpdateService.updateExistingRecipe");
+            checkPersistencePool("recipeUpdateService.updateExistingRecipe");
+            return RecipeUpdateResult.builder().recipeId(1L).userId(7L).recipeName("돼지고기 김치볶음밥").build();
+        });
+
+        SubstituteIngredientRequest request = new SubstituteIngredientRequest();
+        request.setRecipeId(1L);
+        request.setRecipeName("김치볶음밥");
+        request.setOriginalIngredient("햄");
+        request.setSubstituteIngredient("돼지고기");
+
+        // 이벤트 루프처럼 논블로킹 스레드에서 구독
+        RecipeGenerateResponse response = flaskRecipeService.substituteIngredient(request)
+                .subscribeOn(Schedulers.parallel())
+                .block(Duration.ofSeconds(5));
+
+        assertThat(violations).isEmpty();
+        assertThat(offPoolPersistence).isEmpty();
+        assertThat(response).isNotNull();
+        assertThat(response.getId()).isEqualTo(1L);
+        assertThat(response.getUserId()).isEqualTo(7L);
+        verify(recipeUpdateService).updateExistingRecipe(eq(1L), any(), eq("햄"), eq("돼지고기"));
+    }
+
+    private void checkBlockingAllowed(String call) {
+        if (Schedulers.isInNonBlockingThread()) {
+            violations.add(call + " on " + Thread.currentThread().getName());
+        }
+    }
+
+    private void checkPersistencePool(String call) {
+        if (!Thread.currentThread().getName().startsWith("recipe-persist-")) {
+            offPoolPersistence.add(call + " on " + Thread.currentThread().getName());
+        }
+    }
+
+    private static ThreadPoolTaskExecutor persistenceExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("recipe-persist-");
+        executor.initialize();
+        return executor;
+    }
+
+    private Recipe sampleRecipe() {
+        User user = User.builder().id(7L).username("tester").build();
+        Recipe recipe = Recipe.builder().id(1L).name("김치볶음밥").user(user).build();
+        List<Ingredient> ingredients = new ArrayList<>();
+        ingredients.add(Ingredient.builder().name("햄").amount("100g").recipe(recipe).build());
+        recipe.setIngredients(ingredients);
+        List<Instruction> instructions = new ArrayList<>();
+        instructions.add(Instruction.builder().instruction("햄을 볶는다").cookingTime(3).recipe(recipe).build());
+        recipe.setInstructions(instructions);
+        return recipe;
+    }
+}
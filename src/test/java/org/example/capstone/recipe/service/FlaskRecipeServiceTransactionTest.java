@@ -0,0 +1,127 @@
+package org.example.capstone.recipe.service;
+
+import org.example.capstone.global.client.FlaskGateway;
+import org.example.capstone.nutrition.service.NutritionPrecomputeService;
+import org.example.capstone.recipe.domain.Recipe;
+import org.example.capstone.recipe.dto.IngredientDTO;
+import org.example.capstone.recipe.dto.InstructionDTO;
+import org.example.capstone.recipe.dto.RecipeGenerateRequest;
+import org.example.capstone.recipe.dto.RecipeGenerateResponse;
+import org.example.capstone.recipe.repository.RecipeRepository;
+import org.example.capstone.user.domain.User;
+import org.example.capstone.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 레시피 생성 시 Flask 호출 동안 JDBC 커넥션을 점유하지 않는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FlaskRecipeServiceTransactionTest {
+
+    @Mock
+    private FlaskGateway flaskGateway;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private RecipeResultCache recipeResultCache;
+
+    @Mock
+    private NutritionPrecomputeService nutritionPrecomputeService;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate();
+
+    @InjectMocks
+    private FlaskRecipeService flaskRecipeService;
+
+    // 현재 풀에서 빌려간 커넥션 수
+    private final AtomicInteger checkedOutConnections = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            checkedOutConnections.incrementAndGet();
+            Connection connection = mock(Connection.class);
+            doAnswer(close -> {
+                checkedOutConnections.decrementAndGet();
+                return null;
+            }).when(connection).close();
+            return connection;
+        });
+        transactionTemplate.setTransactionManager(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void flaskCallHoldsNoConnectionAndPersistUsesShortTransaction() throws Exception {
+        User user = User.builder().id(1L).username("tester").email("tester@example.com").build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        AtomicInteger connectionsDuringFlask = new AtomicInteger(-1);
+        AtomicBoolean transactionDuringFlask = new AtomicBoolean(true);
+        when(flaskGateway.generateRecipe(any())).thenAnswer(invocation -> {
+            connectionsDuringFlask.set(checkedOutConnections.get());
+            transactionDuringFlask.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return sampleResponse();
+        });
+
+        AtomicInteger connectionsDuringSave = new AtomicInteger(-1);
+        when(recipeRepository.save(any(Recipe.class))).thenAnswer(invocation -> {
+            connectionsDuringSave.set(checkedOutConnections.get());
+            Recipe recipe = invocation.getArgument(0);
+            recipe.setId(10L);
+            return recipe;
+        });
+
+        RecipeGenerateRequest request = new RecipeGenerateRequest();
+        request.setUserId(1L);
+        request.setUsername("tester");
+        request.setInstructions("냉장고 재료로 만들 수 있는 요리");
+
+        RecipeGenerateResponse response = flaskRecipeService.generateRecipeFromImage(request);
+
+        assertThat(connectionsDuringFlask.get()).isZero();
+        assertThat(transactionDuringFlask.get()).isFalse();
+        assertThat(connectionsDuringSave.get()).isEqualTo(1);
+        assertThat(checkedOutConnections.get()).isZero();
+        assertThat(response.getId()).isEqualTo(10L);
+        assertThat(response.getUserId()).isEqualTo(1L);
+    }
+
+    private RecipeGenerateResponse sampleResponse() {
+        return RecipeGenerateResponse.builder()
+                .name("김치볶음밥")
+                .description("간단한 볶음밥")
+                .ingredients(List.of(IngredientDTO.builder().name("김치").amount("200g").build()))
+                .instructions(List.of(InstructionDTO.builder().instruction("김치를 볶는다").cookingTime(5).build()))
+                .build();
+    }
+}
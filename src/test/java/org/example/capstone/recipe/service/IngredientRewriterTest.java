@@ -0,0 +1,73 @@
+package org.example.capstone.recipe.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조리법 재료명 교체 결과 검증
+ */
+class IngredientRewriterTest {
+
+    @Test
+    void replacesOriginalAndFixesParticle() {
+        IngredientRewriter rewriter = IngredientRewriter.of("버터", "마가린");
+
+        assertThat(rewriter.rewrite("팬에 버터를 녹인다")).isEqualTo("팬에 마가린을 녹인다");
+        assertThat(rewriter.needsRewrite("팬에 버터를 녹인다")).isTrue();
+    }
+
+    @Test
+    void stepAlreadyMentioningSubstituteIsLeftAlone() {
+        IngredientRewriter rewriter = IngredientRewriter.of("버터", "마가린");
+        String text = "버터 대신 마가린을 넣는다";
+
+        assertThat(rewriter.needsRewrite(text)).isFalse();
+        assertThat(rewriter.rewrite(text)).isSameAs(text);
+    }
+
+    @Test
+    void ingredientIsNeverRewrittenToItself() {
+        String text = "마가린을 녹인다";
+
+        assertThat(IngredientRewriter.of("마가린", "마가린").needsRewrite(text)).isFalse();
+        assertThat(IngredientRewriter.of("Butter", "butter").rewrite("butter 10g")).isEqualTo("butter 10g");
+    }
+
+    @Test
+    void substituteContainingOriginalIsNotRewrittenAgain() {
+        IngredientRewriter rewriter = IngredientRewriter.of("고기", "돼지고기");
+
+        assertThat(rewriter.rewrite("고기를 볶는다")).isEqualTo("돼지고기를 볶는다");
+        assertThat(rewriter.needsRewrite("돼지고기를 볶는다")).isFalse();
+    }
+
+    @Test
+    void longerOriginalContainingSubstituteIsStillRewritten() {
+        IngredientRewriter rewriter = IngredientRewriter.of("쇠고기", "고기");
+
+        assertThat(rewriter.rewrite("쇠고기를 볶는다")).isEqualTo("고기를 볶는다");
+    }
+
+    @Test
+    void singleSyllableIngredientOnlyMatchesWholeWord() {
+        IngredientRewriter rewriter = IngredientRewriter.of("파", "쪽파");
+
+        assertThat(rewriter.rewrite("파를 썬다")).isEqualTo("쪽파를 썬다");
+        assertThat(rewriter.needsRewrite("파스타를 삶는다")).isFalse();
+    }
+
+    @Test
+    void multiplePairsAreRewrittenIndependently() {
+        Map<String, String> substitutions = new LinkedHashMap<>();
+        substitutions.put("버터", "마가린");
+        substitutions.put("설탕", "올리고당");
+        IngredientRewriter rewriter = IngredientRewriter.of(substitutions);
+
+        assertThat(rewriter.rewrite("버터와 설탕을 섞는다")).isEqualTo("마가린과 올리고당을 섞는다");
+        assertThat(rewriter.rewrite("버터 대신 마가린, 설탕을 넣는다")).isEqualTo("버터 대신 마가린, 올리고당을 넣는다");
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.capstone.recipe.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.capstone.global.util.SpooledImage;
+import org.example.capstone.recipe.dto.RecipeGenerateResponse;
+import org.example.capstone.user.domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 생성 결과 캐시가 사용자별로 분리되고, 레시피 수정 시 해당 항목이 제거되는지 검증
+ */
+class RecipeResultCacheTest {
+
+    private RecipeResultCache cache;
+    private SpooledImage image;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cache = new RecipeResultCache(new ObjectMapper(), new SimpleMeterRegistry(), true, 100, 30);
+        Path path = Files.createTempFile("recipe-cache-test", ".bin");
+        Files.write(path, "같은 사진".getBytes(StandardCharsets.UTF_8));
+        image = new SpooledImage(path, "photo.jpg", "image/jpeg", Files.size(path));
+    }
+
+    @AfterEach
+    void tearDown() {
+        image.close();
+    }
+
+    @Test
+    void sameImageFromDifferentUsersUsesDifferentKeys() {
+        String aliceKey = cache.keyOf(image, "간단하게", user(1L));
+        String bobKey = cache.keyOf(image, "간단하게", user(2L));
+
+        cache.put(aliceKey, response("김치볶음밥"), 1L, 10L);
+
+        assertThat(aliceKey).isNotEqualTo(bobKey);
+        assertThat(cache.get(bobKey)).isNull();
+        assertThat(cache.get(aliceKey).getRecipeId()).isEqualTo(10L);
+    }
+
+    @Test
+    void evictRecipeRemovesEntriesPointingToModifiedRecipe() {
+        String key = cache.keyOf(image, "간단하게", user(1L));
+        String otherKey = cache.keyOf(image, "매콤하게", user(1L));
+        cache.put(key, response("김치볶음밥"), 1L, 10L);
+        cache.put(otherKey, response("김치찌개"), 1L, 11L);
+
+        cache.evictRecipe(10L);
+
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.get(otherKey).getRecipeId()).isEqualTo(11L);
+    }
+
+    private static User user(Long id) {
+        return User.builder().id(id).username("user" + id).habit("채식").build();
+    }
+
+    private static RecipeGenerateResponse response(String name) {
+        return RecipeGenerateResponse.builder().name(name).build();
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.capstone.recipe.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 행과 새 행 비교 결과(KEEP/UPDATE/INSERT/DELETE)와, 그 결과를 적용하면 새 목록과 같아지는지 검증
+ * INSERT는 목록 끝에만 나와야 함 (새 행의 ID가 항상 기존 행보다 크므로)
+ */
+class RecipeRowDiffTest {
+
+    @Test
+    void identicalRowsAreAllKept() {
+        assertThat(diff(List.of("a", "b", "c"), List.of("a", "b", "c")))
+                .containsExactly("KEEP a@0", "KEEP b@1", "KEEP c@2");
+    }
+
+    @Test
+    void changedRowIsUpdatedInPlace() {
+        assertThat(diff(List.of("a", "b", "c"), List.of("a", "x", "c")))
+                .containsExactly("KEEP a@0", "UPDATE b->x@1", "KEEP c@2");
+    }
+
+    @Test
+    void appendedRowIsInsertedAtEnd() {
+        assertThat(diff(List.of("a", "b"), List.of("a", "b", "c")))
+                .containsExactly("KEEP a@0", "KEEP b@1", "INSERT c@2");
+    }
+
+    @Test
+    void removedMiddleRowIsDeletedWithoutTouchingOthers() {
+        assertThat(diff(List.of("a", "b", "c"), List.of("a", "c")))
+                .containsExactly("KEEP a@0", "DELETE b", "KEEP c@1");
+    }
+
+    @Test
+    void middleInsertFallsBackToPositionalUpdatesWithInsertAtEnd() {
+        assertThat(diff(List.of("a", "b", "c"), List.of("a", "x", "b", "c")))
+                .containsExactly("KEEP a@0", "UPDATE b->x@1", "UPDATE c->b@2", "INSERT c@3");
+    }
+
+    @Test
+    void emptyListsInsertOrDeleteEverything() {
+        assertThat(diff(List.of(), List.of("a", "b"))).containsExactly("INSERT a@0", "INSERT b@1");
+        assertThat(diff(List.of("a", "b"), List.of())).containsExactly("DELETE a", "DELETE b");
+        assertThat(diff(List.of(), List.of())).isEmpty();
+    }
+
+    @Test
+    void applyingOpsAlwaysReproducesNewRowsInOrder() {
+        List<List<String>> samples = List.of(
+                List.of(), List.of("a"), List.of("a", "b", "c"), List.of("c", "a", "b"),
+                List.of("a", "x", "b", "c"), List.of("b", "b", "a"), List.of("x", "y"));
+
+        for (List<String> oldValues : samples) {
+            for (List<String> newRows : samples) {
+                List<Row> oldRows = oldValues.stream().map(Row::new).toList();
+                List<RecipeRowDiff.Op<Row, String>> ops = RecipeRowDiff.compute(
+                        oldRows, newRows, (row, value) -> row.value.equals(value));
+
+                assertThat(apply(oldRows, ops)).as("%s -> %s", oldValues, newRows).isEqualTo(newRows);
+                assertInsertsOnlyAtEnd(ops, oldValues, newRows);
+            }
+        }
+    }
+
+    /**
+     * 실제 업데이트처럼 기존 행 객체를 제자리에서 수정/삭제하고 새 행은 끝에 추가
+     */
+    private static List<String> apply(List<Row> oldRows, List<RecipeRowDiff.Op<Row, String>> ops) {
+        List<Row> rows = new ArrayList<>(oldRows);
+        for (RecipeRowDiff.Op<Row, String> op : ops) {
+            switch (op.type) {
+                case KEEP -> {
+                }
+                case UPDATE -> op.oldRow.value = op.newRow;
+                case INSERT -> rows.add(new Row(op.newRow));
+                case DELETE -> rows.remove(op.oldRow);
+            }
+        }
+        return rows.stream().map(row -> row.value).toList();
+    }
+
+    private static void assertInsertsOnlyAtEnd(List<RecipeRowDiff.Op<Row, String>> ops,
+                                               List<String> oldValues, List<String> newRows) {
+        boolean inserted = false;
+        for (RecipeRowDiff.Op<Row, String> op : ops) {
+            if (op.type == RecipeRowDiff.Type.INSERT) {
+                inserted = true;
+            } else {
+                assertThat(inserted).as("INSERT 뒤에 기존 행 작업이 있음: %s -> %s", oldValues, newRows).isFalse();
+            }
+        }
+    }
+
+    /**
+     * 엔티티처럼 값이 같아도 서로 다른 객체인 기존 행
+     */
+    private static final class Row {
+        private String value;
+
+        private Row(String value) {
+            this.value = value;
+        }
+    }
+
+    private static List<String> diff(List<String> oldRows, List<String> newRows) {
+        return RecipeRowDiff.compute(oldRows, newRows, String::equals).stream()
+                .map(op -> switch (op.type) {
+                    case KEEP -> "KEEP " + op.newRow + "@" + op.newIndex;
+                    case UPDATE -> "UPDATE " + op.oldRow + "->" + op.newRow + "@" + op.newIndex;
+                    case INSERT -> "INSERT " + op.newRow + "@" + op.newIndex;
+                    case DELETE -> "DELETE " + op.oldRow;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.capstone.recipe.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.capstone.recipe.domain.SubstitutionKnowledge;
+import org.example.capstone.recipe.dto.RecipeGenerateResponse;
+import org.example.capstone.recipe.repository.SubstitutionKnowledgeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 양 표기 해석과, 기본 데이터의 판단과 누적된 판단 결과로 로컬 판단하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SubstitutionKnowledgeServiceTest {
+
+    @Mock
+    private SubstitutionKnowledgeRepository repository;
+
+    private SubstitutionKnowledgeService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SubstitutionKnowledgeService(repository, new SimpleMeterRegistry(), true, 3, 0.9, 0.1);
+    }
+
+    @Test
+    void parsesRangesParenthesesAndHalfSuffix() {
+        assertThat(SubstitutionKnowledgeService.parseAmount("2-3개"))
+                .isEqualTo(new SubstitutionKnowledgeService.Amount(2.5, "개"));
+        assertThat(SubstitutionKnowledgeService.parseAmount("2~3개"))
+                .isEqualTo(new SubstitutionKnowledgeService.Amount(2.5, "개"));
+        assertThat(SubstitutionKnowledgeService.parseAmount("200g(1컵)"))
+                .isEqualTo(new SubstitutionKnowledgeService.Amount(200, "g"));
+        assertThat(SubstitutionKnowledgeService.parseAmount("1큰술 반"))
+                .isEqualTo(new SubstitutionKnowledgeService.Amount(1.5, "큰술"));
+        assertThat(SubstitutionKnowledgeService.parseAmount("1과 1/2컵"))
+                .isEqualTo(new SubstitutionKnowledgeService.Amount(1.5, "컵"));
+        assertThat(SubstitutionKnowledgeService.parseAmount("1/2컵"))
+                .isEqualTo(new SubstitutionKnowledgeService.Amount(0.5, "컵"));
+        assertThat(SubstitutionKnowledgeService.parseAmount("약 100g"))
+                .isEqualTo(new SubstitutionKnowledgeService.Amount(100, "g"));
+        assertThat(SubstitutionKnowledgeService.parseAmount("적당량")).isNull();
+    }
+
+    @Test
+    void scalesAndComparesParsedAmounts() {
+        assertThat(SubstitutionKnowledgeService.scaleAmount("200g(1컵)", 0.8)).isEqualTo("160g");
+        assertThat(SubstitutionKnowledgeService.scaleAmount("1큰술 반", 2.0)).isEqualTo("3큰술");
+        assertThat(SubstitutionKnowledgeService.scaleAmount("적당량", 0.8)).isEqualTo("적당량");
+        assertThat(SubstitutionKnowledgeService.amountRatio("200g(1컵)", "160g")).isEqualTo(0.8);
+        assertThat(SubstitutionKnowledgeService.amountRatio("2-3개", "5개")).isEqualTo(2.0);
+        assertThat(SubstitutionKnowledgeService.amountRatio("200g", "1컵")).isNull();
+    }
+
+    @Test
+    void seedVerdictDecidesLocallyWithoutObservedOutcomes() {
+        when(repository.findAll()).thenReturn(List.of());
+        service.load();
+
+        // 기본 데이터의 대체 가능(Y)/불가(N)만으로 Flask 호출 없이 판단
+        RecipeGenerateResponse applied = service.answerLocally(request("버터", "식용유", "100g"));
+        assertThat(applied).isNotNull();
+        assertThat(applied.isSubstituteFailure()).isFalse();
+        assertThat(applied.getIngredients().get(0).getAmount()).isEqualTo("80g");
+
+        assertThat(service.rejectionReason("고추장", "케첩")).isEqualTo("매운맛과 발효 풍미를 낼 수 없음");
+        RecipeGenerateResponse rejected = service.answerLocally(request("고추장", "케첩", "1큰술"));
+        assertThat(rejected).isNotNull();
+        assertThat(rejected.isSubstituteFailure()).isTrue();
+
+        // 기본 데이터에 없는 쌍은 LLM으로 보냄
+        assertThat(service.answerLocally(request("버터", "라드", "100g"))).isNull();
+    }
+
+    @Test
+    void observedOutcomesOverrideSeedVerdict() {
+        when(repository.findAll()).thenReturn(List.of(
+                learned("버터", "식용유", 0, 3),
+                learned("고추장", "케첩", 3, 0),
+                learned("버터", "올리브유", 0, 1)));
+        service.load();
+
+        // 누적 결과가 최소 근거 수 이상이면 기본 데이터와 반대로 판단
+        RecipeGenerateResponse rejected = service.answerLocally(request("버터", "식용유", "100g"));
+        assertThat(rejected).isNotNull();
+        assertThat(rejected.isSubstituteFailure()).isTrue();
+        assertThat(service.rejectionReason("고추장", "케첩")).isNull();
+        assertThat(service.answerLocally(request("고추장", "케첩", "1큰술")).isSubstituteFailure()).isFalse();
+
+        // 기본 데이터와 엇갈리는 누적 결과가 조금이라도 있으면 LLM으로 보냄
+        assertThat(service.answerLocally(request("버터", "올리브유", "100g"))).isNull();
+    }
+
+    @Test
+    void observedOutcomesDecideLocallyWithSeedDetails() {
+        when(repository.findAll()).thenReturn(List.of(
+                learned("버터", "마가린", 3, 0),
+                learned("고추장", "케첩", 0, 3),
+                learned("간장", "소금", 1, 1)));
+        service.load();
+
+        RecipeGenerateResponse applied = service.answerLocally(request("버터", "마가린", "100g"));
+        assertThat(applied).isNotNull();
+        assertThat(applied.isSubstituteFailure()).isFalse();
+        assertThat(applied.getIngredients().get(0).getName()).isEqualTo("마가린");
+        assertThat(applied.getIngredients().get(0).getAmount()).isEqualTo("100g");
+        // 사유는 기본 데이터의 참고 정보를 사용
+        assertThat(applied.getSubstitutionInfo().getSubstitutionReason()).isEqualTo("지방 함량과 용도가 비슷함");
+
+        assertThat(service.rejectionReason("고추장", "케첩")).isEqualTo("매운맛과 발효 풍미를 낼 수 없음");
+
+        // 판단이 엇갈리는 쌍은 근거 수가 적어 LLM으로 보냄
+        assertThat(service.answerLocally(request("간장", "소금", "1큰술"))).isNull();
+    }
+
+    private static SubstitutionKnowledge learned(String ori, String sub, int successes, int failures) {
+        return SubstitutionKnowledge.builder()
+                .originalIngredient(ori)
+                .substituteIngredient(sub)
+                .successCount(successes)
+                .failureCount(failures)
+                .build();
+    }
+
+    private static Map<String, Object> request(String ori, String sub, String amount) {
+        return Map.of(
+                "ori", ori,
+                "sub", sub,
+                "recipe", ori + " 볶음",
+                "originalRecipe", Map.of(
+                        "ingredients", List.of(Map.of("name", ori, "amount", amount)),
+                        "instructions", List.of(Map.of("instruction", ori + "를 녹인다", "cookingTime", 1))));
+    }
+}